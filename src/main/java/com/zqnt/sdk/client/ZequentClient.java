@@ -5,6 +5,8 @@ import com.zqnt.sdk.client.config.ServiceConfig;
 import com.zqnt.sdk.client.grpc.ChannelFactory;
 import com.zqnt.sdk.client.livedata.application.LiveData;
 import com.zqnt.sdk.client.livedata.application.impl.LiveDataImpl;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
 import com.zqnt.sdk.client.missionautonomy.application.MissionAutonomy;
 import com.zqnt.sdk.client.missionautonomy.application.impl.MissionAutonomyImpl;
 import com.zqnt.sdk.client.remotecontrol.application.RemoteControl;
@@ -150,6 +152,20 @@ public class ZequentClient implements AutoCloseable {
         private int requestTimeoutSeconds = 60;
         private ServiceConfig.LoadBalancerType defaultLoadBalancerType = ServiceConfig.LoadBalancerType.ROUND_ROBIN;
 
+        // Live data streaming settings
+        private int fleetStreamStartBatchSize = 50;
+        private long fleetStreamStartIntervalMillis = 100;
+        private TelemetryOverflowPolicy telemetryOverflowPolicy;
+        private int telemetryBufferCapacity = 256;
+        private TelemetryDispatchMode telemetryDispatchMode = TelemetryDispatchMode.POOLED;
+        private int telemetryHistoryCapacity = 0;
+        private double streamStallTolerance = 5.0;
+        private long streamMinStallTimeoutMillis = 3000;
+        private boolean telemetryLatencyTracking = false;
+        private double streamStartRatePerSecond = 50.0;
+        private int streamStartBurst = 20;
+        private boolean telemetryStreamSharing = true;
+
         // Service-specific builders
         private ServiceConfigBuilder remoteControlBuilder;
         private ServiceConfigBuilder missionAutonomyBuilder;
@@ -190,6 +206,66 @@ public class ZequentClient implements AutoCloseable {
             return this;
         }
 
+        public ZequentClientBuilder fleetStreamStartBatchSize(int batchSize) {
+            this.fleetStreamStartBatchSize = batchSize;
+            return this;
+        }
+
+        public ZequentClientBuilder fleetStreamStartIntervalMillis(long intervalMillis) {
+            this.fleetStreamStartIntervalMillis = intervalMillis;
+            return this;
+        }
+
+        public ZequentClientBuilder telemetryOverflowPolicy(TelemetryOverflowPolicy policy) {
+            this.telemetryOverflowPolicy = policy;
+            return this;
+        }
+
+        public ZequentClientBuilder telemetryBufferCapacity(int capacity) {
+            this.telemetryBufferCapacity = capacity;
+            return this;
+        }
+
+        public ZequentClientBuilder telemetryDispatchMode(TelemetryDispatchMode mode) {
+            this.telemetryDispatchMode = mode;
+            return this;
+        }
+
+        public ZequentClientBuilder telemetryHistoryCapacity(int samplesPerSn) {
+            this.telemetryHistoryCapacity = samplesPerSn;
+            return this;
+        }
+
+        public ZequentClientBuilder streamStallTolerance(double tolerance) {
+            this.streamStallTolerance = tolerance;
+            return this;
+        }
+
+        public ZequentClientBuilder streamMinStallTimeoutMillis(long timeoutMillis) {
+            this.streamMinStallTimeoutMillis = timeoutMillis;
+            return this;
+        }
+
+        public ZequentClientBuilder telemetryLatencyTracking(boolean enabled) {
+            this.telemetryLatencyTracking = enabled;
+            return this;
+        }
+
+        public ZequentClientBuilder streamStartRatePerSecond(double ratePerSecond) {
+            this.streamStartRatePerSecond = ratePerSecond;
+            return this;
+        }
+
+        public ZequentClientBuilder streamStartBurst(int burst) {
+            this.streamStartBurst = burst;
+            return this;
+        }
+
+        public ZequentClientBuilder telemetryStreamSharing(boolean enabled) {
+            this.telemetryStreamSharing = enabled;
+            return this;
+        }
+
         public ServiceConfigBuilder remoteControl() {
             this.remoteControlBuilder = new ServiceConfigBuilder(this, "remote-control");
             return this.remoteControlBuilder;
@@ -223,6 +299,18 @@ public class ZequentClient implements AutoCloseable {
                     .connectionTimeoutSeconds(connectionTimeoutSeconds)
                     .requestTimeoutSeconds(requestTimeoutSeconds)
                     .defaultLoadBalancerType(defaultLoadBalancerType)
+                    .fleetStreamStartBatchSize(fleetStreamStartBatchSize)
+                    .fleetStreamStartIntervalMillis(fleetStreamStartIntervalMillis)
+                    .telemetryOverflowPolicy(telemetryOverflowPolicy)
+                    .telemetryBufferCapacity(telemetryBufferCapacity)
+                    .telemetryDispatchMode(telemetryDispatchMode)
+                    .telemetryHistoryCapacity(telemetryHistoryCapacity)
+                    .streamStallTolerance(streamStallTolerance)
+                    .streamMinStallTimeoutMillis(streamMinStallTimeoutMillis)
+                    .telemetryLatencyTracking(telemetryLatencyTracking)
+                    .streamStartRatePerSecond(streamStartRatePerSecond)
+                    .streamStartBurst(streamStartBurst)
+                    .telemetryStreamSharing(telemetryStreamSharing)
                     .build();
 
             // Create channels for each service
@@ -1,5 +1,7 @@
 package com.zqnt.sdk.client.config;
 
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
 import lombok.Builder;
 import lombok.Data;
 
@@ -36,6 +38,50 @@ public class GrpcClientConfig {
     @Builder.Default
     private int requestTimeoutSeconds = 60;
 
+    // Live data fleet streaming: streams are opened in batches to avoid a connect burst
+    @Builder.Default
+    private int fleetStreamStartBatchSize = 50;
+
+    @Builder.Default
+    private long fleetStreamStartIntervalMillis = 100;
+
+    // Default per-stream telemetry buffer (null = none, except ORDERED streams, which drop the oldest frame)
+    @Builder.Default
+    private TelemetryOverflowPolicy telemetryOverflowPolicy = null;
+
+    @Builder.Default
+    private int telemetryBufferCapacity = 256;
+
+    // Dispatch mode of streams that do not set one on the request
+    @Builder.Default
+    private TelemetryDispatchMode telemetryDispatchMode = TelemetryDispatchMode.POOLED;
+
+    // Samples kept per SN by the telemetry history (0 = history disabled)
+    @Builder.Default
+    private int telemetryHistoryCapacity = 0;
+
+    // Stall detection: a stream is reconnected after tolerance x max(frequencyMs, observed gap EWMA) without frames
+    @Builder.Default
+    private double streamStallTolerance = 5.0;
+
+    @Builder.Default
+    private long streamMinStallTimeoutMillis = 3000;
+
+    // Per-stage latency histograms of every telemetry frame (about 8 KB per SN)
+    @Builder.Default
+    private boolean telemetryLatencyTracking = false;
+
+    // Client-wide ramp of stream starts and reconnects (0 = unlimited), and how many may start at once
+    @Builder.Default
+    private double streamStartRatePerSecond = 50.0;
+
+    @Builder.Default
+    private int streamStartBurst = 20;
+
+    // streamTelemetryData calls for the same SN, frequency, duration and renewal share one gRPC stream
+    @Builder.Default
+    private boolean telemetryStreamSharing = true;
+
     // Default load balancer for all services
     @Builder.Default
     private ServiceConfig.LoadBalancerType defaultLoadBalancerType = ServiceConfig.LoadBalancerType.ROUND_ROBIN;
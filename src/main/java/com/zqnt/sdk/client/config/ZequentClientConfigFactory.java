@@ -1,6 +1,8 @@
 package com.zqnt.sdk.client.config;
 
 import com.zqnt.sdk.client.config.properties.ZequentClientProperties;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 import lombok.extern.slf4j.Slf4j;
@@ -40,6 +42,7 @@ public class ZequentClientConfigFactory {
         );
 
         var resilience = properties.resilience();
+        var streaming = properties.liveDataStreaming();
 
         return GrpcClientConfig.builder()
                 .remoteControlConfig(remoteControlConfig)
@@ -52,9 +55,45 @@ public class ZequentClientConfigFactory {
                 .connectionTimeoutSeconds(resilience.connectionTimeoutSeconds())
                 .requestTimeoutSeconds(resilience.requestTimeoutSeconds())
                 .defaultLoadBalancerType(ServiceConfig.LoadBalancerType.ROUND_ROBIN)
+                .fleetStreamStartBatchSize(streaming.fleetStreamStartBatchSize())
+                .fleetStreamStartIntervalMillis(streaming.fleetStreamStartIntervalMillis())
+                .telemetryOverflowPolicy(parseOverflowPolicy(streaming.telemetryOverflowPolicy()))
+                .telemetryBufferCapacity(streaming.telemetryBufferCapacity())
+                .telemetryDispatchMode(parseDispatchMode(streaming.telemetryDispatchMode()))
+                .telemetryHistoryCapacity(streaming.telemetryHistoryCapacity())
+                .streamStallTolerance(streaming.streamStallTolerance())
+                .streamMinStallTimeoutMillis(streaming.streamMinStallTimeoutMillis())
+                .telemetryLatencyTracking(streaming.telemetryLatencyTracking())
+                .streamStartRatePerSecond(streaming.streamStartRatePerSecond())
+                .streamStartBurst(streaming.streamStartBurst())
+                .telemetryStreamSharing(streaming.telemetryStreamSharing())
                 .build();
     }
 
+    private TelemetryDispatchMode parseDispatchMode(String value) {
+        if (value == null || value.isBlank()) {
+            return TelemetryDispatchMode.POOLED;
+        }
+        try {
+            return TelemetryDispatchMode.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid telemetry dispatch mode '{}', using POOLED", value);
+            return TelemetryDispatchMode.POOLED;
+        }
+    }
+
+    private TelemetryOverflowPolicy parseOverflowPolicy(String value) {
+        if (value == null || value.isBlank() || "NONE".equalsIgnoreCase(value)) {
+            return null;
+        }
+        try {
+            return TelemetryOverflowPolicy.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid telemetry overflow policy '{}', using no stream buffer", value);
+            return null;
+        }
+    }
+
     private ServiceConfig createServiceConfig(
             String serviceName,
             ZequentClientProperties.ServiceProperties props,
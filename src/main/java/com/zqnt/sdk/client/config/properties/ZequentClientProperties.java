@@ -48,6 +48,12 @@ public interface ZequentClientProperties {
      */
     ResilienceProperties resilience();
 
+    /**
+     * Live data streaming configuration.
+     */
+    @WithName("live-data-streaming")
+    StreamingProperties liveDataStreaming();
+
     /**
      * Configuration for an individual service.
      */
@@ -102,4 +108,85 @@ public interface ZequentClientProperties {
         @WithDefault("60")
         int requestTimeoutSeconds();
     }
+
+    /**
+     * Live data streaming configuration.
+     */
+    interface StreamingProperties {
+
+        /**
+         * Number of fleet streams opened per start batch.
+         */
+        @WithDefault("50")
+        int fleetStreamStartBatchSize();
+
+        /**
+         * Delay between two fleet start batches in milliseconds.
+         */
+        @WithDefault("100")
+        long fleetStreamStartIntervalMillis();
+
+        /**
+         * Default overflow policy of per-stream buffers: BLOCK, DROP_OLDEST, DROP_NEWEST,
+         * CONFLATE_LATEST, or NONE for no stream buffer (ORDERED streams then use DROP_OLDEST).
+         */
+        @WithDefault("NONE")
+        String telemetryOverflowPolicy();
+
+        @WithDefault("256")
+        int telemetryBufferCapacity();
+
+        /**
+         * Dispatch mode of streams that do not set one: POOLED, ORDERED, DIRECT, VIRTUAL or VIRTUAL_ORDERED.
+         */
+        @WithDefault("POOLED")
+        String telemetryDispatchMode();
+
+        /**
+         * Samples kept per SN by the telemetry history, e.g. 3000 for 5 minutes at 100 ms.
+         * 0 disables the history.
+         */
+        @WithDefault("0")
+        int telemetryHistoryCapacity();
+
+        /**
+         * A stream counts as stalled after this many times its expected frame interval without a frame
+         * (the larger of the requested frequency and the observed average gap).
+         */
+        @WithDefault("5.0")
+        double streamStallTolerance();
+
+        /**
+         * Lower bound of the stall timeout in milliseconds, so high-frequency streams do not reconnect on jitter.
+         */
+        @WithDefault("3000")
+        long streamMinStallTimeoutMillis();
+
+        /**
+         * Record per-stage latency histograms (network, queue, mapping, consumer) of every telemetry
+         * frame, per SN and overall. Costs a few clock reads per frame and about 8 KB per SN.
+         */
+        @WithDefault("false")
+        boolean telemetryLatencyTracking();
+
+        /**
+         * Stream starts and reconnects per second across all streams of the client, so a service
+         * restart or an application boot ramps up instead of opening every stream at once. 0 disables the limit.
+         */
+        @WithDefault("50.0")
+        double streamStartRatePerSecond();
+
+        /**
+         * Stream starts allowed at once before the start rate applies.
+         */
+        @WithDefault("20")
+        int streamStartBurst();
+
+        /**
+         * Share one gRPC stream between all streamTelemetryData subscriptions for the same SN, frequency,
+         * duration and renewal, fanning frames out locally.
+         */
+        @WithDefault("true")
+        boolean telemetryStreamSharing();
+    }
 }
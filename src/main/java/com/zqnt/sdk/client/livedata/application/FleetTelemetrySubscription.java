@@ -0,0 +1,63 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.StreamStatistics;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * A telemetry subscription covering many SNs, managed as one unit.
+ * All streams share a single timer for inactivity checks and reconnects, are started in
+ * staggered batches, and deliver through the consolidated callback given at creation.
+ */
+public interface FleetTelemetrySubscription extends AutoCloseable {
+
+    /**
+     * Adds an SN to the fleet. Its stream is queued for the next staggered start batch.
+     *
+     * @return false if the SN is already part of the fleet or the subscription is stopped
+     */
+    boolean add(String sn);
+
+    /**
+     * Adds all given SNs to the fleet (see {@link #add(String)}).
+     */
+    void addAll(Collection<String> sns);
+
+    /**
+     * Removes an SN from the fleet and stops its stream, including pending reconnects.
+     *
+     * @return false if the SN was not part of the fleet
+     */
+    boolean remove(String sn);
+
+    /**
+     * @return an immutable snapshot of the SNs currently in the fleet
+     */
+    Set<String> getSns();
+
+    /**
+     * @return number of SNs currently in the fleet
+     */
+    int size();
+
+    /**
+     * @return live counters of the SN's stream, or {@code null} if the SN is not part of the fleet
+     */
+    StreamStatistics getStatistics(String sn);
+
+    /**
+     * @return frames dropped by stream buffers across all SNs currently in the fleet
+     */
+    long getDroppedFrames();
+
+    /**
+     * Stops all streams of the fleet.
+     */
+    void stop();
+
+    boolean isStopped();
+
+    @Override
+    void close();
+}
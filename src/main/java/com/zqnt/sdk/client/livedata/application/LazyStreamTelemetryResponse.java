@@ -0,0 +1,112 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryFieldGroup;
+import com.zqnt.utils.edge.sdk.domains.AssetTelemetryData;
+import com.zqnt.utils.edge.sdk.domains.SubAssetTelemetryData;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.util.Set;
+
+/**
+ * {@link StreamTelemetryResponse} that keeps the proto and maps the nested asset, sub-asset and error
+ * parts only when their getter is first called. The result is memoized, so every caller sees the same
+ * instance. Consumers that only read the envelope (sn, tid, timestamp) never pay for nested mapping.
+ * Setters still work and take precedence over lazy mapping. With a field selection, only the
+ * selected groups are mapped.
+ */
+final class LazyStreamTelemetryResponse extends StreamTelemetryResponse {
+
+    private final LiveDataTelemetryResponse source;
+    private final LiveDataMapper mapper;
+    // null = all field groups
+    private final Set<TelemetryFieldGroup> fields;
+    private volatile boolean assetTelemetryResolved;
+    private volatile boolean subAssetTelemetryResolved;
+    private volatile boolean errorResolved;
+
+    LazyStreamTelemetryResponse(LiveDataTelemetryResponse source, LiveDataMapper mapper, Set<TelemetryFieldGroup> fields) {
+        this.source = source;
+        this.mapper = mapper;
+        this.fields = fields;
+    }
+
+    LiveDataTelemetryResponse source() {
+        return source;
+    }
+
+    @Override
+    public boolean hasAssetTelemetry() {
+        return assetTelemetryResolved ? super.hasAssetTelemetry()
+                : source.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.ASSETTELEMETRY;
+    }
+
+    @Override
+    public boolean hasSubAssetTelemetry() {
+        return subAssetTelemetryResolved ? super.hasSubAssetTelemetry()
+                : source.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.SUBASSETTELEMETRY;
+    }
+
+    @Override
+    public AssetTelemetryData getAssetTelemetry() {
+        if (!assetTelemetryResolved) {
+            synchronized (this) {
+                if (!assetTelemetryResolved) {
+                    if (source.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.ASSETTELEMETRY) {
+                        super.setAssetTelemetry(mapper.mapAssetTelemetry(source.getAssetTelemetry(), fields));
+                    }
+                    assetTelemetryResolved = true;
+                }
+            }
+        }
+        return super.getAssetTelemetry();
+    }
+
+    @Override
+    public synchronized void setAssetTelemetry(AssetTelemetryData assetTelemetry) {
+        super.setAssetTelemetry(assetTelemetry);
+        assetTelemetryResolved = true;
+    }
+
+    @Override
+    public SubAssetTelemetryData getSubAssetTelemetry() {
+        if (!subAssetTelemetryResolved) {
+            synchronized (this) {
+                if (!subAssetTelemetryResolved) {
+                    if (source.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.SUBASSETTELEMETRY) {
+                        super.setSubAssetTelemetry(mapper.mapSubAssetTelemetry(source.getSubAssetTelemetry(), fields));
+                    }
+                    subAssetTelemetryResolved = true;
+                }
+            }
+        }
+        return super.getSubAssetTelemetry();
+    }
+
+    @Override
+    public synchronized void setSubAssetTelemetry(SubAssetTelemetryData subAssetTelemetry) {
+        super.setSubAssetTelemetry(subAssetTelemetry);
+        subAssetTelemetryResolved = true;
+    }
+
+    @Override
+    public ErrorInfo getError() {
+        if (!errorResolved) {
+            synchronized (this) {
+                if (!errorResolved) {
+                    if (source.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.ERROR) {
+                        super.setError(mapper.mapErrorInfo(source.getError()));
+                    }
+                    errorResolved = true;
+                }
+            }
+        }
+        return super.getError();
+    }
+
+    @Override
+    public synchronized void setError(ErrorInfo error) {
+        super.setError(error);
+        errorResolved = true;
+    }
+}
@@ -8,7 +8,18 @@ import com.zqnt.sdk.client.livedata.domains.LiveDataStopLiveStreamRequest;
 import com.zqnt.sdk.client.livedata.domains.StreamHandle;
 import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
 import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryAggregate;
+import com.zqnt.sdk.client.livedata.domains.TelemetryGap;
+import com.zqnt.sdk.client.livedata.domains.TelemetryView;
+import com.zqnt.sdk.client.livedata.domains.TelemetryWindow;
+import com.zqnt.sdk.client.livedata.domains.TelemetryReplaySpeed;
+import io.smallrye.mutiny.Multi;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public interface LiveData {
@@ -17,6 +28,10 @@ public interface LiveData {
      * Starts streaming telemetry data with automatic reconnection on failure.
      * Reconnects up to {@code maxRetryAttempts} times with exponential backoff.
      * Use the returned {@link StreamHandle} to stop the stream and cancel reconnection.
+     * With stream sharing ({@code telemetryStreamSharing}, on by default), subscriptions for the same SN,
+     * frequency, duration and renewal share one gRPC stream; dispatch mode, stream buffer, deadband and
+     * field selection stay per subscriber. Stopping a handle detaches only that subscriber, and the stream
+     * closes when the last one leaves. Subscriptions with adaptive frequency always get a stream of their own.
      */
     StreamHandle streamTelemetryData(StreamTelemetryRequest request,
                                      Consumer<StreamTelemetryResponse> onData,
@@ -29,6 +44,127 @@ public interface LiveData {
     StreamHandle streamTelemetryData(StreamTelemetryRequest request,
                                      Consumer<StreamTelemetryResponse> onData);
 
+    /**
+     * Starts streaming telemetry delivered as micro-batches for bulk writers. A batch is handed to
+     * {@code onBatch} once it holds {@code maxBatchSize} frames or {@code maxLinger} after its first
+     * frame, whichever comes first. Batches are delivered one at a time and in order, on an SDK worker
+     * thread rather than the dispatch threads, so a slow bulk write does not hold up dispatch; frames within
+     * a batch keep arrival order with {@link com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode#ORDERED}.
+     * A partial batch is delivered when the server completes the stream and discarded on {@code stop()}.
+     */
+    StreamHandle streamTelemetryData(StreamTelemetryRequest request,
+                                     int maxBatchSize,
+                                     Duration maxLinger,
+                                     Consumer<List<StreamTelemetryResponse>> onBatch,
+                                     Consumer<Throwable> onError);
+
+    /**
+     * Starts streaming telemetry as flyweight {@link TelemetryView}s instead of mapped POJOs.
+     * Values are read straight from the protobuf frame without per-frame allocation; the view is
+     * only valid during the callback. Reconnection works as in {@link #streamTelemetryData}.
+     */
+    StreamHandle streamTelemetryView(StreamTelemetryRequest request,
+                                     Consumer<TelemetryView> onView,
+                                     Consumer<Throwable> onError);
+
+    /**
+     * Streams telemetry as a backpressured Mutiny {@link Multi}. Downstream {@code request(n)} is
+     * tied to gRPC inbound flow control, so the server sends no more frames than were requested.
+     * Each subscription opens its own stream; reconnection happens inside the Multi, which fails
+     * only when reconnect attempts are exhausted and completes when the server ends the stream.
+     */
+    Multi<StreamTelemetryResponse> streamTelemetryMulti(StreamTelemetryRequest request);
+
+    /**
+     * Streams windowed aggregates (min, max, mean, last of wind, temperatures, humidity, voltages,
+     * current and speeds) instead of individual frames. Aggregation is incremental on the raw
+     * frames; {@code onAggregate} is called once per window that received frames. Windows are
+     * emitted as later frames arrive, or about one slide after they end when the stream goes quiet.
+     * Reconnection works as in {@link #streamTelemetryData}.
+     */
+    StreamHandle streamTelemetryAggregates(StreamTelemetryRequest request,
+                                           TelemetryWindow window,
+                                           Consumer<TelemetryAggregate> onAggregate,
+                                           Consumer<Throwable> onError);
+
+    /**
+     * Streams telemetry for many SNs as one unit. Streams share one timer for inactivity checks and
+     * reconnect delays and are started in staggered batches. Every frame and every terminal
+     * stream error is delivered to the consolidated callbacks together with its SN.
+     * {@code template} supplies frequency, duration and tid for all SNs; its {@code sn} is ignored.
+     */
+    FleetTelemetrySubscription streamFleetTelemetry(Collection<String> sns,
+                                                    StreamTelemetryRequest template,
+                                                    BiConsumer<String, StreamTelemetryResponse> onData,
+                                                    BiConsumer<String, Throwable> onError);
+
+    /**
+     * Sets the listener for telemetry gaps that streams of this client detect after a reconnect
+     * ({@code null} to remove it). It runs on the stream's dispatch executor and must return quickly.
+     * Gaps are counted in {@link StreamHandle#getStatistics()} with or without a listener.
+     */
+    void setTelemetryGapListener(Consumer<TelemetryGap> listener);
+
+    /**
+     * Latest-value telemetry per SN, fed by all running telemetry streams of this client.
+     */
+    TelemetrySnapshotStore snapshotStore();
+
+    /**
+     * Recent telemetry per SN in primitive column rings, fed by all running telemetry streams of
+     * this client. Disabled unless a history capacity is configured.
+     */
+    TelemetryHistory telemetryHistory();
+
+    /**
+     * Per-stage latency histograms of the telemetry path (network, queue, mapping, consumer) per SN
+     * and overall. Disabled unless latency tracking is configured.
+     */
+    TelemetryLatencyMonitor telemetryLatency();
+
+    /**
+     * Last known positions of all docks and drones, fed by all running telemetry streams of this
+     * client, for box, radius and nearest-neighbour queries.
+     */
+    TelemetrySpatialIndex spatialIndex();
+
+    /**
+     * Geofences (e.g. mission areas) checked against every drone position received by this
+     * client's telemetry streams, with enter and exit events.
+     */
+    TelemetryGeofences geofences();
+
+    /**
+     * Starts recording every raw frame received by this client's telemetry streams into segmented
+     * memory-mapped files in {@code directory} (segments of {@link TelemetryRecorder#DEFAULT_SEGMENT_SIZE_BYTES}).
+     * Existing segments in the directory are kept; the recording continues after them. Only the last
+     * {@link TelemetryRecorder#DEFAULT_MAX_SEGMENTS} segments of the recording are kept.
+     */
+    TelemetryRecorder startRecording(Path directory);
+
+    /**
+     * Like {@link #startRecording(Path)} with a custom segment size.
+     */
+    TelemetryRecorder startRecording(Path directory, long segmentSizeBytes);
+
+    /**
+     * Like {@link #startRecording(Path)} with a custom segment size, keeping at most {@code maxSegments}
+     * segments of this recording, so it never takes more than {@code segmentSizeBytes * maxSegments} on disk.
+     */
+    TelemetryRecorder startRecording(Path directory, long segmentSizeBytes, int maxSegments);
+
+    /**
+     * Replays a recording through the same pipeline as live frames (stream buffers, dispatch,
+     * mapping), at recorded speed, N times faster, or as fast as possible. Live state (snapshot
+     * store, spatial index, geofences) is not touched by replayed frames.
+     * {@code template} supplies dispatch mode, buffering, field selection and deadband for all SNs.
+     */
+    TelemetryReplay replayTelemetry(Path directory,
+                                    TelemetryReplaySpeed speed,
+                                    StreamTelemetryRequest template,
+                                    BiConsumer<String, StreamTelemetryResponse> onData,
+                                    BiConsumer<String, Throwable> onError);
+
     CompletableFuture<LiveDataResponse> startLiveStream(LiveDataStartLiveStreamRequest request);
 
     CompletableFuture<LiveDataResponse> stopLiveStream(LiveDataStopLiveStreamRequest request);
@@ -14,6 +14,7 @@ import com.zqnt.utils.livedata.proto.*;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.Set;
 import java.util.UUID;
 
 public class LiveDataMapper {
@@ -52,14 +53,26 @@ public class LiveDataMapper {
     }
 
     /**
-     * Maps proto LiveDataTelemetryResponse to StreamTelemetryResponse POJO
+     * Maps proto LiveDataTelemetryResponse to StreamTelemetryResponse POJO.
+     * Only the envelope is mapped here; the oneof telemetry (asset, sub-asset or error) is mapped
+     * on first access of its getter (see {@link LazyStreamTelemetryResponse}).
      */
     public StreamTelemetryResponse fromProtoResponse(LiveDataTelemetryResponse protoResponse) {
+        return fromProtoResponse(protoResponse, null);
+    }
+
+    /**
+     * Like {@link #fromProtoResponse(LiveDataTelemetryResponse)}, but only maps the given field groups
+     * of the asset or sub-asset telemetry. {@code null} or empty maps everything.
+     */
+    public StreamTelemetryResponse fromProtoResponse(LiveDataTelemetryResponse protoResponse,
+                                                     Set<TelemetryFieldGroup> fields) {
         if (protoResponse == null) {
             return null;
         }
 
-        StreamTelemetryResponse response = new StreamTelemetryResponse();
+        StreamTelemetryResponse response = new LazyStreamTelemetryResponse(protoResponse, this,
+                fields == null || fields.isEmpty() ? null : fields);
         response.setTid(protoResponse.getTid());
         response.setTimestamp(timestampToInstant(protoResponse.getTimestamp()));
         response.setHasErrors(protoResponse.getHasErrors());
@@ -69,62 +82,81 @@ public class LiveDataMapper {
             response.setAssetId(protoResponse.getAssetId());
         }
 
-        // Map oneof telemetry fields
-        switch (protoResponse.getTelemetryCase()) {
-            case ASSETTELEMETRY:
-                response.setAssetTelemetry(mapAssetTelemetry(protoResponse.getAssetTelemetry()));
-                break;
-            case SUBASSETTELEMETRY:
-                response.setSubAssetTelemetry(mapSubAssetTelemetry(protoResponse.getSubAssetTelemetry()));
-                break;
-            case ERROR:
-                response.setError(mapErrorInfo(protoResponse.getError()));
-                break;
-            case TELEMETRY_NOT_SET:
-                // No telemetry set
-                break;
-        }
-
         return response;
     }
 
+    /**
+     * Projects a response mapped by this mapper onto the given field groups, e.g. to replay a stored
+     * frame to a consumer with a field selection. {@code null} or empty fields, and responses not
+     * mapped by this mapper, are returned as they are.
+     */
+    public StreamTelemetryResponse project(StreamTelemetryResponse response, Set<TelemetryFieldGroup> fields) {
+        if (fields == null || fields.isEmpty() || !(response instanceof LazyStreamTelemetryResponse lazy)) {
+            return response;
+        }
+        return fromProtoResponse(lazy.source(), fields);
+    }
+
     /**
      * Maps proto AssetTelemetry to AssetTelemetryData POJO
      */
-    private AssetTelemetryData mapAssetTelemetry(AssetTelemetry proto) {
+    AssetTelemetryData mapAssetTelemetry(AssetTelemetry proto) {
+        return mapAssetTelemetry(proto, null);
+    }
+
+    /**
+     * Maps the selected field groups of proto AssetTelemetry to AssetTelemetryData POJO ({@code null} = all)
+     */
+    AssetTelemetryData mapAssetTelemetry(AssetTelemetry proto, Set<TelemetryFieldGroup> fields) {
         if (proto == null) {
             return null;
         }
 
-        AssetTelemetryData data = AssetTelemetryData.builder()
+        var builder = AssetTelemetryData.builder()
                 .id(proto.getId())
-                .timestamp(timestampToLocalDateTime(proto.getTimestamp()))
-                .latitude(proto.hasLatitude() ? proto.getLatitude() : null)
-                .longitude(proto.hasLongitude() ? proto.getLongitude() : null)
-                .absoluteAltitude(proto.hasAbsoluteAltitude() ? proto.getAbsoluteAltitude() : null)
-                .relativeAltitude(proto.hasRelativeAltitude() ? proto.getRelativeAltitude() : null)
-                .environmentTemp(proto.hasEnvironmentTemp() ? proto.getEnvironmentTemp() : null)
-                .insideTemp(proto.hasInsideTemp() ? proto.getInsideTemp() : null)
-                .humidity(proto.hasHumidity() ? proto.getHumidity() : null)
-                .mode(proto.hasMode() ? proto.getMode() : null)
-                .rainfall(proto.hasRainfall() ? proto.getRainfall() : null)
-                .subAssetAtHome(proto.hasSubAssetAtHome() ? proto.getSubAssetAtHome() : null)
-                .subAssetCharging(proto.hasSubAssetCharging() ? proto.getSubAssetCharging() : null)
-                .subAssetPercentage(proto.hasSubAssetPercentage() ? proto.getSubAssetPercentage() : null)
-                .heading(proto.hasHeading() ? proto.getHeading() : null)
-                .debugModeOpen(proto.hasDebugModeOpen() ? proto.getDebugModeOpen() : null)
-                .hasActiveManualControlSession(proto.hasHasActiveManualControlSession() ? proto.getHasActiveManualControlSession() : null)
-                .coverState(proto.hasCoverState() ? proto.getCoverState() : null)
-                .workingVoltage(proto.hasWorkingVoltage() ? proto.getWorkingVoltage() : null)
-                .workingCurrent(proto.hasWorkingCurrent() ? proto.getWorkingCurrent() : null)
-                .supplyVoltage(proto.hasSupplyVoltage() ? proto.getSupplyVoltage() : null)
-                .windSpeed(proto.hasWindSpeed() ? proto.getWindSpeed() : null)
-                .positionValid(proto.hasPositionValid() ? proto.getPositionValid() : null)
-                .manualControlState(proto.hasManualControlState() ? proto.getManualControlState() : null)
-                .build();
+                .timestamp(timestampToLocalDateTime(proto.getTimestamp()));
+
+        boolean position = isSelected(fields, TelemetryFieldGroup.POSITION);
+        boolean environment = isSelected(fields, TelemetryFieldGroup.ENVIRONMENT);
+        boolean status = isSelected(fields, TelemetryFieldGroup.STATUS);
+
+        if (position) {
+            builder.latitude(proto.hasLatitude() ? proto.getLatitude() : null)
+                    .longitude(proto.hasLongitude() ? proto.getLongitude() : null)
+                    .absoluteAltitude(proto.hasAbsoluteAltitude() ? proto.getAbsoluteAltitude() : null)
+                    .relativeAltitude(proto.hasRelativeAltitude() ? proto.getRelativeAltitude() : null)
+                    .heading(proto.hasHeading() ? proto.getHeading() : null)
+                    .positionValid(proto.hasPositionValid() ? proto.getPositionValid() : null);
+        }
+        if (environment) {
+            builder.environmentTemp(proto.hasEnvironmentTemp() ? proto.getEnvironmentTemp() : null)
+                    .insideTemp(proto.hasInsideTemp() ? proto.getInsideTemp() : null)
+                    .humidity(proto.hasHumidity() ? proto.getHumidity() : null)
+                    .rainfall(proto.hasRainfall() ? proto.getRainfall() : null)
+                    .windSpeed(proto.hasWindSpeed() ? proto.getWindSpeed() : null);
+        }
+        if (isSelected(fields, TelemetryFieldGroup.BATTERY)) {
+            builder.subAssetCharging(proto.hasSubAssetCharging() ? proto.getSubAssetCharging() : null)
+                    .subAssetPercentage(proto.hasSubAssetPercentage() ? proto.getSubAssetPercentage() : null);
+        }
+        if (isSelected(fields, TelemetryFieldGroup.POWER)) {
+            builder.workingVoltage(proto.hasWorkingVoltage() ? proto.getWorkingVoltage() : null)
+                    .workingCurrent(proto.hasWorkingCurrent() ? proto.getWorkingCurrent() : null)
+                    .supplyVoltage(proto.hasSupplyVoltage() ? proto.getSupplyVoltage() : null);
+        }
+        if (status) {
+            builder.mode(proto.hasMode() ? proto.getMode() : null)
+                    .subAssetAtHome(proto.hasSubAssetAtHome() ? proto.getSubAssetAtHome() : null)
+                    .debugModeOpen(proto.hasDebugModeOpen() ? proto.getDebugModeOpen() : null)
+                    .hasActiveManualControlSession(proto.hasHasActiveManualControlSession() ? proto.getHasActiveManualControlSession() : null)
+                    .coverState(proto.hasCoverState() ? proto.getCoverState() : null)
+                    .manualControlState(proto.hasManualControlState() ? proto.getManualControlState() : null);
+        }
+
+        AssetTelemetryData data = builder.build();
 
         // Map nested objects
-        if (proto.hasSubAssetInformation()) {
+        if (status && proto.hasSubAssetInformation()) {
             data.setSubAssetInformation(AssetTelemetryData.SubAssetInformation.builder()
                     .sn(proto.getSubAssetInformation().getSn())
                     .model(proto.getSubAssetInformation().getModel())
@@ -133,7 +165,7 @@ public class LiveDataMapper {
                     .build());
         }
 
-        if (proto.hasNetworkInformation()) {
+        if (isSelected(fields, TelemetryFieldGroup.NETWORK) && proto.hasNetworkInformation()) {
             data.setNetworkInformation(AssetTelemetryData.NetworkInformation.builder()
                     .type(proto.getNetworkInformation().getType())
                     .rate(proto.getNetworkInformation().getRate())
@@ -141,14 +173,14 @@ public class LiveDataMapper {
                     .build());
         }
 
-        if (proto.hasAirConditioner()) {
+        if (environment && proto.hasAirConditioner()) {
             data.setAirConditioner(AssetTelemetryData.AirConditioner.builder()
                     .state(proto.getAirConditioner().getState())
                     .switchTime(proto.getAirConditioner().getSwitchTime())
                     .build());
         }
 
-        if (proto.hasPositionState()) {
+        if (position && proto.hasPositionState()) {
             data.setPositionState(com.zqnt.utils.edge.sdk.domains.AssetTelemetryData.PositionState.builder()
                     .gpsNumber(proto.getPositionState().getGpsNumber())
                     .rtkNumber(proto.getPositionState().getRtkNumber())
@@ -162,34 +194,51 @@ public class LiveDataMapper {
     /**
      * Maps proto SubAssetTelemetry to SubAssetTelemetryData POJO
      */
-    private SubAssetTelemetryData mapSubAssetTelemetry(SubAssetTelemetry proto) {
+    SubAssetTelemetryData mapSubAssetTelemetry(SubAssetTelemetry proto) {
+        return mapSubAssetTelemetry(proto, null);
+    }
+
+    /**
+     * Maps the selected field groups of proto SubAssetTelemetry to SubAssetTelemetryData POJO ({@code null} = all)
+     */
+    SubAssetTelemetryData mapSubAssetTelemetry(SubAssetTelemetry proto, Set<TelemetryFieldGroup> fields) {
         if (proto == null) {
             return null;
         }
 
-        SubAssetTelemetryData data = SubAssetTelemetryData.builder()
+        var builder = SubAssetTelemetryData.builder()
                 .id(proto.getId())
-                .timestamp(timestampToLocalDateTime(proto.getTimestamp()))
-                .latitude(proto.hasLatitude() ? proto.getLatitude() : null)
-                .longitude(proto.hasLongitude() ? proto.getLongitude() : null)
-                .absoluteAltitude(proto.hasAbsoluteAltitude() ? proto.getAbsoluteAltitude() : null)
-                .relativeAltitude(proto.hasRelativeAltitude() ? proto.getRelativeAltitude() : null)
-                .horizontalSpeed(proto.hasHorizontalSpeed() ? proto.getHorizontalSpeed() : null)
-                .verticalSpeed(proto.hasVerticalSpeed() ? proto.getVerticalSpeed() : null)
-                .windSpeed(proto.hasWindSpeed() ? proto.getWindSpeed() : null)
-                .windDirection(proto.hasWindDirection() ? proto.getWindDirection() : null)
-                .heading(proto.hasHeading() ? proto.getHeading() : null)
-                .gear(proto.hasGear() ? proto.getGear() : null)
-                .heightLimit(proto.hasHeightLimit() ? proto.getHeightLimit() : null)
-                .homeDistance(proto.hasHomeDistance() ? proto.getHomeDistance() : null)
-                .totalMovementDistance(proto.hasTotalMovementDistance() ? proto.getTotalMovementDistance() : null)
-                .totalMovementTime(proto.hasTotalMovementTime() ? proto.getTotalMovementTime() : null)
-                .mode(proto.hasMode() ? proto.getMode() : null)
-                .country(proto.hasCountry() ? proto.getCountry() : null)
-                .build();
+                .timestamp(timestampToLocalDateTime(proto.getTimestamp()));
+
+        if (isSelected(fields, TelemetryFieldGroup.POSITION)) {
+            builder.latitude(proto.hasLatitude() ? proto.getLatitude() : null)
+                    .longitude(proto.hasLongitude() ? proto.getLongitude() : null)
+                    .absoluteAltitude(proto.hasAbsoluteAltitude() ? proto.getAbsoluteAltitude() : null)
+                    .relativeAltitude(proto.hasRelativeAltitude() ? proto.getRelativeAltitude() : null)
+                    .heading(proto.hasHeading() ? proto.getHeading() : null)
+                    .homeDistance(proto.hasHomeDistance() ? proto.getHomeDistance() : null);
+        }
+        if (isSelected(fields, TelemetryFieldGroup.MOTION)) {
+            builder.horizontalSpeed(proto.hasHorizontalSpeed() ? proto.getHorizontalSpeed() : null)
+                    .verticalSpeed(proto.hasVerticalSpeed() ? proto.getVerticalSpeed() : null)
+                    .gear(proto.hasGear() ? proto.getGear() : null)
+                    .heightLimit(proto.hasHeightLimit() ? proto.getHeightLimit() : null)
+                    .totalMovementDistance(proto.hasTotalMovementDistance() ? proto.getTotalMovementDistance() : null)
+                    .totalMovementTime(proto.hasTotalMovementTime() ? proto.getTotalMovementTime() : null);
+        }
+        if (isSelected(fields, TelemetryFieldGroup.ENVIRONMENT)) {
+            builder.windSpeed(proto.hasWindSpeed() ? proto.getWindSpeed() : null)
+                    .windDirection(proto.hasWindDirection() ? proto.getWindDirection() : null);
+        }
+        if (isSelected(fields, TelemetryFieldGroup.STATUS)) {
+            builder.mode(proto.hasMode() ? proto.getMode() : null)
+                    .country(proto.hasCountry() ? proto.getCountry() : null);
+        }
+
+        SubAssetTelemetryData data = builder.build();
 
         // Map battery information
-        if (proto.hasBatteryInformation()) {
+        if (isSelected(fields, TelemetryFieldGroup.BATTERY) && proto.hasBatteryInformation()) {
             data.setBatteryInformation(SubAssetTelemetryData.BatteryInformation.builder()
                     .percentage(proto.getBatteryInformation().getPercentage())
                     .remainingTime(proto.getBatteryInformation().getRemainingTime())
@@ -198,7 +247,7 @@ public class LiveDataMapper {
         }
 
         // Map payload telemetry
-        if (proto.hasPayloadTelemetry()) {
+        if (isSelected(fields, TelemetryFieldGroup.PAYLOAD) && proto.hasPayloadTelemetry()) {
             var payloadProto = proto.getPayloadTelemetry();
             var payload = SubAssetTelemetryData.PayloadTelemetry.builder()
                     .id(payloadProto.getId())
@@ -237,10 +286,14 @@ public class LiveDataMapper {
         return data;
     }
 
+    private static boolean isSelected(Set<TelemetryFieldGroup> fields, TelemetryFieldGroup group) {
+        return fields == null || fields.contains(group);
+    }
+
     /**
      * Maps proto GlobalErrorMessage to ErrorInfo POJO
      */
-    private StreamTelemetryResponse.ErrorInfo mapErrorInfo(GlobalErrorMessage proto) {
+    StreamTelemetryResponse.ErrorInfo mapErrorInfo(GlobalErrorMessage proto) {
         if (proto == null) {
             return null;
         }
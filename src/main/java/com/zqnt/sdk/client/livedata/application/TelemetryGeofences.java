@@ -0,0 +1,58 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.GeofenceEvent;
+import com.zqnt.utils.missionautonomy.domains.MissionDTO;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Geofences evaluated against every drone position received by this client's telemetry streams.
+ * GeoJSON is parsed once when a geofence is added; Polygon and MultiPolygon geometries (also inside
+ * Features, FeatureCollections and GeometryCollections) count, anything else is ignored. Polygons that
+ * cross the antimeridian must be split, as RFC 7946 requires.
+ * <p>
+ * Adding and removing geofences rebuilds the index and may be called from any thread. Removing a
+ * geofence emits no events; after replacing one, each drone's next frame reports any difference.
+ */
+public interface TelemetryGeofences {
+
+    /**
+     * Adds the mission's area as geofence {@code missionId}, replacing any geofence with that id.
+     *
+     * @throws IllegalArgumentException if the mission has no GeoJSON or it contains no polygon
+     */
+    void addMission(String missionId, MissionDTO mission);
+
+    /**
+     * Adds a geofence made of all polygons in {@code geoJson}, replacing any geofence with that id.
+     *
+     * @throws IllegalArgumentException if the GeoJSON is invalid or contains no polygon
+     */
+    void add(String geofenceId, String geoJson);
+
+    void remove(String geofenceId);
+
+    void clear();
+
+    Set<String> ids();
+
+    /**
+     * @return ids of the geofences containing the point
+     */
+    List<String> containing(double latitude, double longitude);
+
+    /**
+     * @return ids of the geofences the drone was inside at its last position
+     */
+    Set<String> insideOf(String subAssetId);
+
+    /**
+     * Sets the listener for enter and exit events ({@code null} to remove it). It runs on the
+     * stream's dispatch executor while the drone's state is locked, so the events of one drone arrive
+     * in the order of its positions, and must return quickly. Frames older than the drone's last
+     * evaluated position are ignored.
+     */
+    void setListener(Consumer<GeofenceEvent> listener);
+}
@@ -0,0 +1,70 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetrySeries;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Recent telemetry per SN and kind (dock/asset or drone/sub-asset), kept in fixed-capacity primitive
+ * column rings fed by every frame the client's telemetry streams receive. Asset and sub-asset samples
+ * of an SN describe different vehicles and are kept apart. Each ring holds at most
+ * {@link #getCapacity()} samples; once full, the oldest sample is overwritten. Memory is allocated
+ * once, on the first sample of an SN and kind, and never grows (see {@link #getBytesPerRing()}).
+ * <p>
+ * A frame received by several streams of the same SN is recorded once.
+ * <p>
+ * Disabled when the configured capacity is 0: nothing is recorded and queries return empty series.
+ */
+public interface TelemetryHistory {
+
+    /**
+     * @return true if samples are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * @return maximum number of samples kept per SN and kind
+     */
+    int getCapacity();
+
+    /**
+     * Copies all samples of the SN and kind with a timestamp in {@code [from, to]} (both inclusive).
+     * The range is located by binary search on the timestamp column. A {@code null} bound is open.
+     *
+     * @return the samples in ascending timestamp order; empty if there are none
+     */
+    TelemetrySeries query(String sn, TelemetrySeries.Kind kind, Instant from, Instant to);
+
+    /**
+     * @return all samples currently held for the SN and kind
+     */
+    TelemetrySeries getAll(String sn, TelemetrySeries.Kind kind);
+
+    /**
+     * @return number of samples currently held for the SN and kind
+     */
+    int size(String sn, TelemetrySeries.Kind kind);
+
+    /**
+     * @return SNs with at least one sample of either kind
+     */
+    Set<String> getSns();
+
+    /**
+     * @return fixed heap footprint of one column ring (one SN and kind) in bytes (excluding object headers)
+     */
+    long getBytesPerRing();
+
+    /**
+     * @return heap footprint of all column rings in bytes
+     */
+    long getEstimatedMemoryBytes();
+
+    /**
+     * Forgets the SN and releases its rings.
+     */
+    void remove(String sn);
+
+    void clear();
+}
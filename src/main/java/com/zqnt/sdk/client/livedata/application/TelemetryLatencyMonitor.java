@@ -0,0 +1,51 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencySnapshot;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+
+import java.util.Set;
+
+/**
+ * Latency histograms of the telemetry path per SN and over all SNs, one per
+ * {@link TelemetryLatencyStage}. Recording is lock-free; reading a snapshot copies one histogram.
+ * Disabled unless latency tracking is configured, in which case nothing is recorded.
+ */
+public interface TelemetryLatencyMonitor {
+
+    boolean isEnabled();
+
+    /**
+     * @return the stage's latency for the SN, or {@code null} if nothing was recorded for it
+     */
+    TelemetryLatencySnapshot get(String sn, TelemetryLatencyStage stage);
+
+    /**
+     * @return the stage's latency over all SNs
+     */
+    TelemetryLatencySnapshot overall(TelemetryLatencyStage stage);
+
+    /**
+     * Estimated offset of the server clock behind the local clock plus the best-case transit time,
+     * i.e. the smallest (receipt - server timestamp) seen over the last minute or two.
+     * {@link TelemetryLatencyStage#NETWORK} is measured on top of it; add it back when both clocks
+     * are known to be synchronized and the absolute transit time is wanted.
+     *
+     * @return the offset in milliseconds, 0 if nothing was received for the SN
+     */
+    long getClockOffsetMillis(String sn);
+
+    /**
+     * @return SNs with recorded latencies
+     */
+    Set<String> sns();
+
+    /**
+     * Forgets the SN's histograms; the overall ones keep its samples.
+     */
+    void remove(String sn);
+
+    /**
+     * Clears all histograms.
+     */
+    void reset();
+}
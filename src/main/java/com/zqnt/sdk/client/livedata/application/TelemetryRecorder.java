@@ -0,0 +1,42 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import java.nio.file.Path;
+
+/**
+ * Flight recorder for raw telemetry frames. While open, every frame received by any telemetry
+ * stream of the client is appended, with its receive timestamp, to segmented memory-mapped log
+ * files in {@link #getDirectory()}. Recordings are replayed with
+ * {@link LiveData#replayTelemetry}.
+ */
+public interface TelemetryRecorder extends AutoCloseable {
+
+    /**
+     * Default size of one segment file.
+     */
+    long DEFAULT_SEGMENT_SIZE_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * Default number of segments kept per recording; older ones are deleted as new ones are started.
+     */
+    int DEFAULT_MAX_SEGMENTS = 16;
+
+    Path getDirectory();
+
+    /**
+     * @return frames appended so far
+     */
+    long getRecordedFrames();
+
+    /**
+     * @return bytes appended so far, including record headers
+     */
+    long getRecordedBytes();
+
+    boolean isClosed();
+
+    /**
+     * Stops recording and flushes the current segment to disk.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,30 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A running replay of a telemetry recording (see {@link LiveData#replayTelemetry}).
+ */
+public interface TelemetryReplay extends AutoCloseable {
+
+    /**
+     * @return completes with the number of delivered frames once the frames of the recording went
+     * through the pipeline or the replay is stopped, or exceptionally if the recording cannot be read
+     */
+    CompletableFuture<Long> completion();
+
+    /**
+     * @return frames delivered to {@code onData} so far
+     */
+    long getReplayedFrames();
+
+    /**
+     * Stops the replay after the current frame and discards frames still buffered.
+     */
+    void stop();
+
+    boolean isStopped();
+
+    @Override
+    void close();
+}
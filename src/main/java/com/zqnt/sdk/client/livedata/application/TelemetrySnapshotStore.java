@@ -0,0 +1,58 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.utils.edge.sdk.domains.AssetTelemetryData;
+import com.zqnt.utils.edge.sdk.domains.SubAssetTelemetryData;
+
+import java.util.Map;
+
+/**
+ * Latest-value telemetry per SN, kept up to date by every running telemetry stream.
+ * Reads are O(1) and lock-free; each snapshot is immutable and carries a version stamp
+ * for change detection.
+ */
+public interface TelemetrySnapshotStore {
+
+    /**
+     * @return the latest snapshot of the SN, or {@code null} if nothing was received yet
+     */
+    TelemetrySnapshot get(String sn);
+
+    /**
+     * @return the latest asset (dock) telemetry of the SN, or {@code null}
+     */
+    AssetTelemetryData getAssetTelemetry(String sn);
+
+    /**
+     * @return the latest sub-asset (drone) telemetry of the SN, or {@code null}
+     */
+    SubAssetTelemetryData getSubAssetTelemetry(String sn);
+
+    /**
+     * @return version of the SN's latest snapshot, or {@code -1} if nothing was received yet
+     */
+    long getVersion(String sn);
+
+    /**
+     * @return the store-wide version, i.e. the version of the most recent update of any SN
+     */
+    long getVersion();
+
+    /**
+     * Live, read-only view of all snapshots. Nothing is copied: the view is weakly consistent
+     * and reflects updates made while iterating, while each value is itself immutable.
+     */
+    Map<String, TelemetrySnapshot> snapshotAll();
+
+    /**
+     * @return number of SNs with a snapshot
+     */
+    int size();
+
+    /**
+     * Forgets the SN (e.g. after an asset was decommissioned).
+     */
+    void remove(String sn);
+
+    void clear();
+}
@@ -0,0 +1,48 @@
+package com.zqnt.sdk.client.livedata.application;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryPosition;
+
+import java.util.List;
+
+/**
+ * Last known positions of all docks and drones streamed by this client, indexed for spatial queries.
+ * Kept up to date from the latitude and longitude of every received telemetry frame; frames without
+ * a position (or at 0/0, the usual no-fix value) leave the last one in place.
+ * <p>
+ * Queries touch only the grid cells around the area, so they stay well under a millisecond for
+ * fleets of thousands. Results are consistent per position, not across positions.
+ */
+public interface TelemetrySpatialIndex {
+
+    /**
+     * @return the position of the dock SN or drone id, or {@code null}
+     */
+    TelemetryPosition get(String id);
+
+    /**
+     * Positions inside the box. A box with {@code minLongitude > maxLongitude} crosses the antimeridian.
+     */
+    List<TelemetryPosition> withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude);
+
+    /**
+     * @return positions within {@code radiusMeters} of the point, nearest first
+     */
+    List<TelemetryPosition> withinRadius(double latitude, double longitude, double radiusMeters);
+
+    /**
+     * @return up to {@code k} positions nearest to the point, nearest first
+     */
+    List<TelemetryPosition> nearest(double latitude, double longitude, int k);
+
+    /**
+     * @return number of indexed docks and drones
+     */
+    int size();
+
+    /**
+     * Forgets a dock or drone (e.g. after it was decommissioned).
+     */
+    void remove(String id);
+
+    void clear();
+}
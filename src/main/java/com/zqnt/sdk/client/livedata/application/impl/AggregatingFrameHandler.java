@@ -0,0 +1,257 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryAggregate;
+import com.zqnt.sdk.client.livedata.domains.TelemetryAggregateField;
+import com.zqnt.sdk.client.livedata.domains.TelemetryView;
+import com.zqnt.sdk.client.livedata.domains.TelemetryWindow;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Incremental windowed aggregation of one stream. Time is cut into panes of {@code slide} length;
+ * each pane keeps count, min, max, sum and last per field in preallocated primitive arrays, and a
+ * window is the combination of the last {@code size / slide} panes. A frame only updates one pane,
+ * so nothing is allocated per frame — only per emitted {@link TelemetryAggregate}.
+ * <p>
+ * Windows follow frame timestamps: a window is emitted once the first frame after its end arrives.
+ * So that a stream going quiet does not hold back its last windows, a tick on the shared
+ * {@link TelemetryTimer} every {@code slide} extrapolates frame time from the last frame and emits
+ * the windows that ended more than one slide ago; when the stream ends, the rest is emitted.
+ * Frames older than the oldest open pane are dropped and counted as dropped frames.
+ */
+class AggregatingFrameHandler implements TelemetryFrameHandler {
+
+	private static final int FIELDS = TelemetryAggregateField.values().length;
+	private static final long MIN_FLUSH_INTERVAL_MILLIS = 100L;
+
+	private final String sn;
+	private final long slideMillis;
+	private final int panes;
+	private final Consumer<TelemetryAggregate> onAggregate;
+	private final TelemetryStreamStatistics statistics;
+	// Only used while holding the lock
+	private final TelemetryView view = new TelemetryView();
+
+	// Pane ring, indexed by paneId % panes, then by field ordinal
+	private final long[] paneIds;
+	private final long[] paneFrames;
+	private final long[][] counts;
+	private final double[][] min;
+	private final double[][] max;
+	private final double[][] sum;
+	private final double[][] last;
+	private final long[][] lastAt;
+	private long currentPane = Long.MIN_VALUE;
+	// Frame timestamp and local arrival time of the newest frame, for flushing a quiet stream
+	private long newestTimestamp = Long.MIN_VALUE;
+	private long newestReceivedAt;
+
+	AggregatingFrameHandler(String sn, TelemetryWindow window, Consumer<TelemetryAggregate> onAggregate,
+							TelemetryStreamStatistics statistics) {
+		this.sn = sn;
+		this.slideMillis = window.getSlide().toMillis();
+		this.panes = (int) (window.getSize().toMillis() / slideMillis);
+		this.onAggregate = onAggregate;
+		this.statistics = statistics;
+		this.paneIds = new long[panes];
+		this.paneFrames = new long[panes];
+		this.counts = new long[panes][FIELDS];
+		this.min = new double[panes][FIELDS];
+		this.max = new double[panes][FIELDS];
+		this.sum = new double[panes][FIELDS];
+		this.last = new double[panes][FIELDS];
+		this.lastAt = new long[panes][FIELDS];
+		Arrays.fill(paneIds, Long.MIN_VALUE);
+	}
+
+	@Override
+	public void onFrame(LiveDataTelemetryResponse frame) {
+		aggregate(frame, System.currentTimeMillis());
+	}
+
+	/**
+	 * Adds a frame that arrived at {@code receivedAtMillis} to its pane. Called directly by tests.
+	 */
+	synchronized void aggregate(LiveDataTelemetryResponse frame, long receivedAtMillis) {
+		TelemetryView v = view.wrap(frame);
+		try {
+			if (!v.isAssetTelemetry() && !v.isSubAssetTelemetry()) {
+				return;
+			}
+			long timestampNanos = v.getTelemetryTimestampEpochNanos();
+			if (timestampNanos == 0L) {
+				timestampNanos = v.getTimestampEpochNanos();
+			}
+			long timestamp = timestampNanos / 1_000_000L;
+			long pane = Math.floorDiv(timestamp, slideMillis);
+			if (timestamp > newestTimestamp) {
+				newestTimestamp = timestamp;
+				newestReceivedAt = receivedAtMillis;
+			}
+
+			if (currentPane == Long.MIN_VALUE) {
+				currentPane = pane;
+			} else if (pane > currentPane) {
+				advanceTo(pane);
+			} else if (pane <= currentPane - panes) {
+				// Older than every open window
+				statistics.recordDroppedFrame();
+				return;
+			}
+
+			int slot = slot(pane);
+			if (paneIds[slot] != pane) {
+				resetSlot(slot, pane);
+			}
+			paneFrames[slot]++;
+			add(slot, v.isAssetTelemetry() ? TelemetryAggregateField.WIND_SPEED : TelemetryAggregateField.SUB_ASSET_WIND_SPEED,
+					v.hasWindSpeed(), v.getWindSpeed(), timestamp);
+			add(slot, TelemetryAggregateField.ENVIRONMENT_TEMP, v.hasEnvironmentTemp(), v.getEnvironmentTemp(), timestamp);
+			add(slot, TelemetryAggregateField.INSIDE_TEMP, v.hasInsideTemp(), v.getInsideTemp(), timestamp);
+			add(slot, TelemetryAggregateField.HUMIDITY, v.hasHumidity(), v.getHumidity(), timestamp);
+			add(slot, TelemetryAggregateField.WORKING_VOLTAGE, v.hasWorkingVoltage(), v.getWorkingVoltage(), timestamp);
+			add(slot, TelemetryAggregateField.WORKING_CURRENT, v.hasWorkingCurrent(), v.getWorkingCurrent(), timestamp);
+			add(slot, TelemetryAggregateField.SUPPLY_VOLTAGE, v.hasSupplyVoltage(), v.getSupplyVoltage(), timestamp);
+			add(slot, TelemetryAggregateField.HORIZONTAL_SPEED, v.hasHorizontalSpeed(), v.getHorizontalSpeed(), timestamp);
+			add(slot, TelemetryAggregateField.VERTICAL_SPEED, v.hasVerticalSpeed(), v.getVerticalSpeed(), timestamp);
+		} finally {
+			view.wrap(null);
+		}
+	}
+
+	/**
+	 * Flushes on a timer tick every slide until the stream is stopped or has ended. The flush itself
+	 * runs on the stream's executor, behind the frames already dispatched.
+	 */
+	void startFlushing(TelemetryTimer timer, Executor executor, TelemetryStreamHandle handle) {
+		timer.schedule(() -> {
+			if (handle.isStopped()) {
+				return;
+			}
+			boolean ended = handle.isTerminated();
+			try {
+				executor.execute(ended ? this::flushAll : () -> flush(System.currentTimeMillis()));
+			} catch (RejectedExecutionException e) {
+				return;
+			}
+			if (!ended) {
+				startFlushing(timer, executor, handle);
+			}
+		}, Math.max(MIN_FLUSH_INTERVAL_MILLIS, slideMillis), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Emits the windows that ended more than one slide before the extrapolated frame time.
+	 * Called by the flush tick, and directly by tests.
+	 */
+	synchronized void flush(long nowMillis) {
+		if (currentPane == Long.MIN_VALUE) {
+			return;
+		}
+		long frameTime = newestTimestamp + (nowMillis - newestReceivedAt);
+		long pane = Math.floorDiv(frameTime - slideMillis, slideMillis);
+		if (pane > currentPane) {
+			advanceTo(pane);
+		}
+	}
+
+	/**
+	 * Emits every window that still contains data.
+	 */
+	synchronized void flushAll() {
+		if (currentPane != Long.MIN_VALUE) {
+			advanceTo(currentPane + panes);
+		}
+	}
+
+	/**
+	 * Emits every window ending before {@code pane} that still contains data, then moves on.
+	 * After a long gap only the windows overlapping the old panes are emitted.
+	 */
+	private void advanceTo(long pane) {
+		long lastToEmit = Math.min(pane - 1, currentPane + panes - 1);
+		for (long end = currentPane; end <= lastToEmit; end++) {
+			emit(end);
+		}
+		currentPane = pane;
+	}
+
+	private void emit(long endPane) {
+		long frames = 0;
+		long[] c = new long[FIELDS];
+		double[] mn = new double[FIELDS];
+		double[] mx = new double[FIELDS];
+		double[] s = new double[FIELDS];
+		double[] l = new double[FIELDS];
+		long[] lAt = new long[FIELDS];
+		Arrays.fill(mn, Double.POSITIVE_INFINITY);
+		Arrays.fill(mx, Double.NEGATIVE_INFINITY);
+		Arrays.fill(lAt, Long.MIN_VALUE);
+
+		for (long pane = endPane - panes + 1; pane <= endPane; pane++) {
+			int slot = slot(pane);
+			if (paneIds[slot] != pane) {
+				continue;
+			}
+			frames += paneFrames[slot];
+			for (int f = 0; f < FIELDS; f++) {
+				if (counts[slot][f] == 0) {
+					continue;
+				}
+				c[f] += counts[slot][f];
+				s[f] += sum[slot][f];
+				mn[f] = Math.min(mn[f], min[slot][f]);
+				mx[f] = Math.max(mx[f], max[slot][f]);
+				if (lastAt[slot][f] >= lAt[f]) {
+					lAt[f] = lastAt[slot][f];
+					l[f] = last[slot][f];
+				}
+			}
+		}
+		if (frames == 0) {
+			return;
+		}
+		onAggregate.accept(new TelemetryAggregate(sn,
+				Instant.ofEpochMilli((endPane - panes + 1) * slideMillis),
+				Instant.ofEpochMilli((endPane + 1) * slideMillis),
+				frames, c, mn, mx, s, l));
+	}
+
+	private void add(int slot, TelemetryAggregateField field, boolean present, double value, long timestamp) {
+		if (!present) {
+			return;
+		}
+		int f = field.ordinal();
+		if (counts[slot][f] == 0) {
+			min[slot][f] = value;
+			max[slot][f] = value;
+		} else {
+			min[slot][f] = Math.min(min[slot][f], value);
+			max[slot][f] = Math.max(max[slot][f], value);
+		}
+		counts[slot][f]++;
+		sum[slot][f] += value;
+		if (timestamp >= lastAt[slot][f]) {
+			lastAt[slot][f] = timestamp;
+			last[slot][f] = value;
+		}
+	}
+
+	private void resetSlot(int slot, long pane) {
+		paneIds[slot] = pane;
+		paneFrames[slot] = 0;
+		Arrays.fill(counts[slot], 0L);
+		Arrays.fill(sum[slot], 0d);
+		Arrays.fill(lastAt[slot], Long.MIN_VALUE);
+	}
+
+	private int slot(long pane) {
+		return (int) Math.floorMod(pane, (long) panes);
+	}
+}
@@ -0,0 +1,179 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryDeadband;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.sdk.client.livedata.domains.TelemetryView;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.util.Objects;
+
+/**
+ * Drops frames that did not change beyond the {@link TelemetryDeadband} thresholds, before any
+ * mapping happens. The comparison runs on the raw protobuf frame against the last delivered state
+ * of the stream, kept separately for asset and sub-asset frames.
+ * <p>
+ * Serialized per stream, since pooled dispatch may run frames of one SN concurrently.
+ */
+class DeadbandFrameHandler implements TelemetryFrameHandler {
+
+	// Meters per degree of latitude (equirectangular approximation, good enough for sub-km deltas)
+	private static final double METERS_PER_DEGREE = 111_320d;
+
+	private final TelemetryFrameHandler delegate;
+	private final TelemetryDeadband deadband;
+	private final Runnable onSuppressed;
+	private final double positionMetersSquared;
+	// Only used while holding the lock
+	private final TelemetryView view = new TelemetryView();
+	private final State assetState = new State();
+	private final State subAssetState = new State();
+
+	DeadbandFrameHandler(TelemetryFrameHandler delegate, TelemetryDeadband deadband, Runnable onSuppressed) {
+		this.delegate = delegate;
+		this.deadband = deadband;
+		this.onSuppressed = onSuppressed;
+		this.positionMetersSquared = deadband.getPositionMeters() * deadband.getPositionMeters();
+	}
+
+	@Override
+	public void onFrame(LiveDataTelemetryResponse frame) {
+		if (accept(frame)) {
+			delegate.onFrame(frame);
+		}
+	}
+
+	@Override
+	public void onFrame(LiveDataTelemetryResponse frame, TelemetryLatencyMonitorImpl.SnLatency latency) {
+		if (accept(frame)) {
+			delegate.onFrame(frame, latency);
+		}
+	}
+
+	@Override
+	public void replay(TelemetrySnapshot snapshot) {
+		delegate.replay(snapshot);
+	}
+
+	/**
+	 * Filter-only use (delegate may then be null): records the frame as delivered if it changed enough.
+	 *
+	 * @return false if the frame was suppressed, after reporting it
+	 */
+	boolean accept(LiveDataTelemetryResponse frame) {
+		if (shouldDeliver(frame, System.currentTimeMillis())) {
+			return true;
+		}
+		onSuppressed.run();
+		return false;
+	}
+
+	/**
+	 * Decides for a frame received at {@code nowMillis} and records it if delivered; called directly by tests.
+	 */
+	synchronized boolean shouldDeliver(LiveDataTelemetryResponse frame, long nowMillis) {
+		TelemetryView v = view.wrap(frame);
+		try {
+			State state = v.isAssetTelemetry() ? assetState : v.isSubAssetTelemetry() ? subAssetState : null;
+			if (state == null) {
+				return true;
+			}
+
+			double latitude = v.hasLatitude() ? v.getLatitude() : Double.NaN;
+			double longitude = v.hasLongitude() ? v.getLongitude() : Double.NaN;
+			double absoluteAltitude = v.hasAbsoluteAltitude() ? v.getAbsoluteAltitude() : Double.NaN;
+			double relativeAltitude = v.hasRelativeAltitude() ? v.getRelativeAltitude() : Double.NaN;
+			double heading = v.hasHeading() ? v.getHeading() : Double.NaN;
+			double horizontalSpeed = v.hasHorizontalSpeed() ? v.getHorizontalSpeed() : Double.NaN;
+			double verticalSpeed = v.hasVerticalSpeed() ? v.getVerticalSpeed() : Double.NaN;
+			// Docks report the charge of the drone they hold
+			double battery = v.isAssetTelemetry()
+					? (v.hasSubAssetPercentage() ? v.getSubAssetPercentage() : Double.NaN)
+					: v.getBatteryPercentage();
+			String coverState = v.hasCoverState() ? v.getCoverState() : null;
+			String mode = v.hasMode() ? v.getMode() : null;
+
+			boolean deliver = !state.initialized
+					|| (deadband.getMaxSilenceMillis() > 0 && nowMillis - state.deliveredAt >= deadband.getMaxSilenceMillis())
+					|| (deadband.getPositionMeters() > 0 && positionChanged(state, latitude, longitude))
+					|| (deadband.getAltitudeMeters() > 0
+						&& (changed(state.absoluteAltitude, absoluteAltitude, deadband.getAltitudeMeters())
+							|| changed(state.relativeAltitude, relativeAltitude, deadband.getAltitudeMeters())))
+					|| (deadband.getHeadingDegrees() > 0 && headingChanged(state.heading, heading))
+					|| (deadband.getSpeedMetersPerSecond() > 0
+						&& (changed(state.horizontalSpeed, horizontalSpeed, deadband.getSpeedMetersPerSecond())
+							|| changed(state.verticalSpeed, verticalSpeed, deadband.getSpeedMetersPerSecond())))
+					|| (deadband.getBatteryPercent() > 0 && changed(state.battery, battery, deadband.getBatteryPercent()))
+					|| (deadband.isCoverState() && !Objects.equals(state.coverState, coverState))
+					|| (deadband.isMode() && !Objects.equals(state.mode, mode));
+
+			if (deliver) {
+				state.initialized = true;
+				state.deliveredAt = nowMillis;
+				state.latitude = latitude;
+				state.longitude = longitude;
+				state.absoluteAltitude = absoluteAltitude;
+				state.relativeAltitude = relativeAltitude;
+				state.heading = heading;
+				state.horizontalSpeed = horizontalSpeed;
+				state.verticalSpeed = verticalSpeed;
+				state.battery = battery;
+				state.coverState = coverState;
+				state.mode = mode;
+			}
+			return deliver;
+		} finally {
+			view.wrap(null);
+		}
+	}
+
+	private boolean positionChanged(State state, double latitude, double longitude) {
+		boolean known = !Double.isNaN(latitude) && !Double.isNaN(longitude);
+		boolean wasKnown = !Double.isNaN(state.latitude) && !Double.isNaN(state.longitude);
+		if (known != wasKnown) {
+			return true;
+		}
+		if (!known) {
+			return false;
+		}
+		double dy = (latitude - state.latitude) * METERS_PER_DEGREE;
+		double dx = (longitude - state.longitude) * METERS_PER_DEGREE * Math.cos(Math.toRadians(latitude));
+		return dx * dx + dy * dy >= positionMetersSquared;
+	}
+
+	private boolean headingChanged(double previous, double current) {
+		if (Double.isNaN(previous) || Double.isNaN(current)) {
+			return Double.isNaN(previous) != Double.isNaN(current);
+		}
+		double delta = Math.abs(current - previous) % 360d;
+		return Math.min(delta, 360d - delta) >= deadband.getHeadingDegrees();
+	}
+
+	/**
+	 * Thresholds are inclusive: a change of exactly the threshold is delivered. A value appearing or
+	 * disappearing counts as a change.
+	 */
+	private static boolean changed(double previous, double current, double threshold) {
+		if (Double.isNaN(previous) || Double.isNaN(current)) {
+			return Double.isNaN(previous) != Double.isNaN(current);
+		}
+		return Math.abs(current - previous) >= threshold;
+	}
+
+	/**
+	 * Last delivered values of one frame kind; {@code NaN} / {@code null} = not present.
+	 */
+	private static final class State {
+		private boolean initialized;
+		private long deliveredAt;
+		private double latitude = Double.NaN;
+		private double longitude = Double.NaN;
+		private double absoluteAltitude = Double.NaN;
+		private double relativeAltitude = Double.NaN;
+		private double heading = Double.NaN;
+		private double horizontalSpeed = Double.NaN;
+		private double verticalSpeed = Double.NaN;
+		private double battery = Double.NaN;
+		private String coverState;
+		private String mode;
+	}
+}
@@ -0,0 +1,186 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.application.FleetTelemetrySubscription;
+import com.zqnt.sdk.client.livedata.domains.StreamStatistics;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * Fleet subscription built from one {@link TelemetryStream} per SN.
+ * A single starter task opens pending streams in batches to avoid a connect burst; inactivity
+ * checks and reconnects run on the shared stream timer, and a sweeper prunes finished streams.
+ */
+@Slf4j
+class FleetTelemetrySubscriptionImpl implements FleetTelemetrySubscription {
+
+	private static final long SWEEP_INTERVAL_SECONDS = 30L;
+
+	private final LiveDataImpl owner;
+	private final StreamTelemetryRequest template;
+	private final BiConsumer<String, StreamTelemetryResponse> onData;
+	private final BiConsumer<String, Throwable> onError;
+	private final ConcurrentHashMap<String, TelemetryStream> members = new ConcurrentHashMap<>();
+	private final ConcurrentLinkedQueue<TelemetryStream> pendingStarts = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean stopped = new AtomicBoolean(false);
+	private final int startBatchSize;
+	private final ScheduledFuture<?> starter;
+	private final ScheduledFuture<?> sweeper;
+
+	FleetTelemetrySubscriptionImpl(LiveDataImpl owner,
+								   StreamTelemetryRequest template,
+								   BiConsumer<String, StreamTelemetryResponse> onData,
+								   BiConsumer<String, Throwable> onError) {
+		this.owner = owner;
+		this.template = template;
+		this.onData = onData;
+		this.onError = onError;
+		this.startBatchSize = owner.config() != null ? Math.max(1, owner.config().getFleetStreamStartBatchSize()) : 50;
+		long startIntervalMillis = owner.config() != null ? Math.max(1L, owner.config().getFleetStreamStartIntervalMillis()) : 100L;
+
+		this.starter = owner.scheduler().scheduleWithFixedDelay(this::startPendingBatch,
+				0, startIntervalMillis, TimeUnit.MILLISECONDS);
+		this.sweeper = owner.scheduler().scheduleAtFixedRate(this::sweep,
+				SWEEP_INTERVAL_SECONDS, SWEEP_INTERVAL_SECONDS, TimeUnit.SECONDS);
+	}
+
+	@Override
+	public boolean add(String sn) {
+		if (sn == null || sn.isBlank() || stopped.get()) {
+			return false;
+		}
+		TelemetryStream[] created = new TelemetryStream[1];
+		members.computeIfAbsent(sn, key -> created[0] = newStream(key));
+		if (created[0] == null) {
+			return false;
+		}
+		pendingStarts.add(created[0]);
+		if (stopped.get()) {
+			// stop() ran concurrently and may have cleared the members before this one was added
+			members.remove(sn, created[0]);
+			pendingStarts.remove(created[0]);
+			created[0].handle().stop();
+			return false;
+		}
+		return true;
+	}
+
+	@Override
+	public void addAll(Collection<String> sns) {
+		if (sns == null) {
+			return;
+		}
+		for (String sn : sns) {
+			add(sn);
+		}
+	}
+
+	@Override
+	public boolean remove(String sn) {
+		TelemetryStream stream = members.remove(sn);
+		if (stream == null) {
+			return false;
+		}
+		pendingStarts.remove(stream);
+		stream.handle().stop();
+		log.debug("Removed SN {} from fleet subscription", sn);
+		return true;
+	}
+
+	@Override
+	public Set<String> getSns() {
+		return Set.copyOf(members.keySet());
+	}
+
+	@Override
+	public int size() {
+		return members.size();
+	}
+
+	@Override
+	public StreamStatistics getStatistics(String sn) {
+		TelemetryStream stream = members.get(sn);
+		return stream != null ? stream.handle().getStatistics() : null;
+	}
+
+	@Override
+	public long getDroppedFrames() {
+		long dropped = 0;
+		for (TelemetryStream stream : members.values()) {
+			dropped += stream.handle().getDroppedFrames();
+		}
+		return dropped;
+	}
+
+	@Override
+	public void stop() {
+		if (!stopped.compareAndSet(false, true)) {
+			return;
+		}
+		starter.cancel(false);
+		sweeper.cancel(false);
+		pendingStarts.clear();
+		members.values().forEach(stream -> stream.handle().stop());
+		members.clear();
+		log.debug("Fleet subscription stopped");
+	}
+
+	@Override
+	public boolean isStopped() {
+		return stopped.get();
+	}
+
+	@Override
+	public void close() {
+		stop();
+	}
+
+	private TelemetryStream newStream(String sn) {
+		String tid = template.getTid() != null ? template.getTid() : UUID.randomUUID().toString();
+		StreamTelemetryRequest request = template.withSn(sn).withTid(tid);
+		return new TelemetryStream(owner, request,
+				new MappedFrameHandler(owner.mapper(), owner.snapshotStore(), request.getFields(),
+						response -> onData.accept(sn, response)),
+				error -> {
+					if (onError != null) {
+						onError.accept(sn, error);
+					} else {
+						log.error("Unhandled fleet stream error for SN {}: {}", sn, error.getMessage(), error);
+					}
+				},
+				new TelemetryStreamHandle());
+	}
+
+	private void startPendingBatch() {
+		for (int i = 0; i < startBatchSize; i++) {
+			TelemetryStream stream = pendingStarts.poll();
+			if (stream == null) {
+				return;
+			}
+			try {
+				stream.start();
+			} catch (RuntimeException e) {
+				log.error("Failed to start fleet stream for SN {}: {}", stream.sn(), e.getMessage(), e);
+			}
+		}
+	}
+
+	private void sweep() {
+		for (TelemetryStream stream : members.values()) {
+			if (stream.isTerminated()) {
+				// Gave up or completed: the error callback already fired, drop it from the fleet
+				members.remove(stream.sn(), stream);
+			}
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.utils.JsonUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * One polygon of a geofence in flat arrays: each ring is {@code lon0, lat0, lon1, lat1, ...}, the
+ * exterior ring first and holes after it, with its bounding box alongside.
+ * <p>
+ * Containment is the even-odd rule over all rings at once, so a point in a hole crosses the
+ * exterior and the hole and ends up outside. Points exactly on an edge may fall either way.
+ */
+final class GeofencePolygon {
+
+	final String geofenceId;
+	final double minLon;
+	final double minLat;
+	final double maxLon;
+	final double maxLat;
+	private final double[][] rings;
+
+	private GeofencePolygon(String geofenceId, double[][] rings) {
+		this.geofenceId = geofenceId;
+		this.rings = rings;
+		double[] exterior = rings[0];
+		double west = Double.POSITIVE_INFINITY;
+		double south = Double.POSITIVE_INFINITY;
+		double east = Double.NEGATIVE_INFINITY;
+		double north = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < exterior.length; i += 2) {
+			west = Math.min(west, exterior[i]);
+			east = Math.max(east, exterior[i]);
+			south = Math.min(south, exterior[i + 1]);
+			north = Math.max(north, exterior[i + 1]);
+		}
+		this.minLon = west;
+		this.minLat = south;
+		this.maxLon = east;
+		this.maxLat = north;
+	}
+
+	boolean contains(double lon, double lat) {
+		if (lon < minLon || lon > maxLon || lat < minLat || lat > maxLat) {
+			return false;
+		}
+		boolean inside = false;
+		for (double[] ring : rings) {
+			int n = ring.length;
+			double x1 = ring[n - 2];
+			double y1 = ring[n - 1];
+			for (int i = 0; i < n; i += 2) {
+				double x2 = ring[i];
+				double y2 = ring[i + 1];
+				if ((y2 > lat) != (y1 > lat) && lon < (x1 - x2) * (lat - y2) / (y1 - y2) + x2) {
+					inside = !inside;
+				}
+				x1 = x2;
+				y1 = y2;
+			}
+		}
+		return inside;
+	}
+
+	/**
+	 * Parses every Polygon and MultiPolygon in a GeoJSON object, Feature, FeatureCollection or
+	 * GeometryCollection.
+	 *
+	 * @throws IllegalArgumentException if the GeoJSON is invalid or contains no polygon
+	 */
+	static List<GeofencePolygon> parse(String geofenceId, String geoJson) {
+		if (geoJson == null || geoJson.isBlank()) {
+			throw new IllegalArgumentException("GeoJSON must not be empty");
+		}
+		Map<?, ?> root;
+		try {
+			root = JsonUtils.fromJson(geoJson, Map.class);
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid GeoJSON: " + e.getMessage(), e);
+		}
+		List<GeofencePolygon> polygons = new ArrayList<>();
+		collect(geofenceId, root, polygons);
+		if (polygons.isEmpty()) {
+			throw new IllegalArgumentException("GeoJSON contains no Polygon or MultiPolygon");
+		}
+		return polygons;
+	}
+
+	private static void collect(String geofenceId, Object node, List<GeofencePolygon> polygons) {
+		if (!(node instanceof Map<?, ?> object)) {
+			return;
+		}
+		Object type = object.get("type");
+		if ("FeatureCollection".equals(type)) {
+			forEach(object.get("features"), feature -> collect(geofenceId, feature, polygons));
+		} else if ("Feature".equals(type)) {
+			collect(geofenceId, object.get("geometry"), polygons);
+		} else if ("GeometryCollection".equals(type)) {
+			forEach(object.get("geometries"), geometry -> collect(geofenceId, geometry, polygons));
+		} else if ("Polygon".equals(type)) {
+			polygons.add(polygon(geofenceId, object.get("coordinates")));
+		} else if ("MultiPolygon".equals(type)) {
+			forEach(object.get("coordinates"), coordinates -> polygons.add(polygon(geofenceId, coordinates)));
+		}
+	}
+
+	private static GeofencePolygon polygon(String geofenceId, Object coordinates) {
+		if (!(coordinates instanceof List<?> ringList) || ringList.isEmpty()) {
+			throw new IllegalArgumentException("Polygon without rings");
+		}
+		double[][] rings = new double[ringList.size()][];
+		for (int r = 0; r < rings.length; r++) {
+			rings[r] = ring(ringList.get(r));
+		}
+		return new GeofencePolygon(geofenceId, rings);
+	}
+
+	private static double[] ring(Object positions) {
+		if (!(positions instanceof List<?> list) || list.size() < 4) {
+			throw new IllegalArgumentException("Polygon ring needs at least 4 positions");
+		}
+		// The last position repeats the first: the containment loop closes the ring itself
+		int n = list.size() - 1;
+		double[] ring = new double[2 * n];
+		for (int i = 0; i < n; i++) {
+			if (!(list.get(i) instanceof List<?> position) || position.size() < 2
+					|| !(position.get(0) instanceof Number lon) || !(position.get(1) instanceof Number lat)) {
+				throw new IllegalArgumentException("Invalid position in polygon ring");
+			}
+			ring[2 * i] = lon.doubleValue();
+			ring[2 * i + 1] = lat.doubleValue();
+		}
+		return ring;
+	}
+
+	private static void forEach(Object array, Consumer<Object> action) {
+		if (array instanceof List<?> list) {
+			list.forEach(action);
+		}
+	}
+}
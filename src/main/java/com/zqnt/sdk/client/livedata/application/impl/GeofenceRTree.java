@@ -0,0 +1,152 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Immutable R-tree over polygon bounding boxes, bulk-loaded with Sort-Tile-Recursive packing:
+ * polygons are sorted into vertical slices by longitude and each slice by latitude, so every leaf
+ * groups up to {@value #NODE_CAPACITY} neighbouring polygons and the nodes above group their
+ * neighbouring children the same way.
+ * <p>
+ * Each level is one flat array of boxes ({@code minLon, minLat, maxLon, maxLat} per node); the
+ * children of node {@code i} are nodes {@code i * NODE_CAPACITY} up to the next multiple on the
+ * level below. Geofences change rarely, so the tree is rebuilt on every change and read without locks.
+ */
+final class GeofenceRTree {
+
+	static final GeofenceRTree EMPTY = new GeofenceRTree(List.of());
+
+	private static final int NODE_CAPACITY = 16;
+
+	// Leaves, in tree order
+	private final GeofencePolygon[] polygons;
+	// boxes[0] covers the polygons, boxes[boxes.length - 1] is the root
+	private final double[][] boxes;
+
+	GeofenceRTree(List<GeofencePolygon> input) {
+		this.polygons = pack(input.toArray(new GeofencePolygon[0]));
+		if (polygons.length == 0) {
+			this.boxes = new double[0][];
+			return;
+		}
+		double[] level = new double[4 * polygons.length];
+		for (int i = 0; i < polygons.length; i++) {
+			GeofencePolygon polygon = polygons[i];
+			level[4 * i] = polygon.minLon;
+			level[4 * i + 1] = polygon.minLat;
+			level[4 * i + 2] = polygon.maxLon;
+			level[4 * i + 3] = polygon.maxLat;
+		}
+		int depth = 1;
+		for (int n = polygons.length; n > 1; n = (n + NODE_CAPACITY - 1) / NODE_CAPACITY) {
+			depth++;
+		}
+		double[][] levels = new double[depth][];
+		levels[0] = level;
+		for (int d = 1; d < depth; d++) {
+			levels[d] = parents(levels[d - 1]);
+		}
+		this.boxes = levels;
+	}
+
+	boolean isEmpty() {
+		return polygons.length == 0;
+	}
+
+	GeofencePolygon polygon(int index) {
+		return polygons[index];
+	}
+
+	/**
+	 * Adds the index of every polygon whose bounding box contains the point to {@code hits}.
+	 */
+	void search(double lon, double lat, Hits hits) {
+		if (polygons.length > 0) {
+			search(boxes.length - 1, 0, lon, lat, hits);
+		}
+	}
+
+	private void search(int depth, int node, double lon, double lat, Hits hits) {
+		if (depth == 0) {
+			hits.add(node);
+			return;
+		}
+		double[] children = boxes[depth - 1];
+		int from = node * NODE_CAPACITY;
+		int to = Math.min(from + NODE_CAPACITY, children.length / 4);
+		for (int child = from; child < to; child++) {
+			int b = 4 * child;
+			if (lon >= children[b] && lat >= children[b + 1] && lon <= children[b + 2] && lat <= children[b + 3]) {
+				search(depth - 1, child, lon, lat, hits);
+			}
+		}
+	}
+
+	private static double[] parents(double[] children) {
+		int count = children.length / 4;
+		int parentCount = (count + NODE_CAPACITY - 1) / NODE_CAPACITY;
+		double[] parents = new double[4 * parentCount];
+		for (int p = 0; p < parentCount; p++) {
+			double west = Double.POSITIVE_INFINITY;
+			double south = Double.POSITIVE_INFINITY;
+			double east = Double.NEGATIVE_INFINITY;
+			double north = Double.NEGATIVE_INFINITY;
+			for (int c = p * NODE_CAPACITY; c < Math.min(count, (p + 1) * NODE_CAPACITY); c++) {
+				west = Math.min(west, children[4 * c]);
+				south = Math.min(south, children[4 * c + 1]);
+				east = Math.max(east, children[4 * c + 2]);
+				north = Math.max(north, children[4 * c + 3]);
+			}
+			parents[4 * p] = west;
+			parents[4 * p + 1] = south;
+			parents[4 * p + 2] = east;
+			parents[4 * p + 3] = north;
+		}
+		return parents;
+	}
+
+	/**
+	 * Sort-Tile-Recursive order of the leaves. Upper levels group consecutive nodes, which in this
+	 * order are already neighbours.
+	 */
+	private static GeofencePolygon[] pack(GeofencePolygon[] items) {
+		int leaves = (items.length + NODE_CAPACITY - 1) / NODE_CAPACITY;
+		int sliceSize = (int) Math.ceil(Math.sqrt(leaves)) * NODE_CAPACITY;
+		Arrays.sort(items, Comparator.comparingDouble(p -> p.minLon + p.maxLon));
+		for (int from = 0; from < items.length; from += sliceSize) {
+			Arrays.sort(items, from, Math.min(items.length, from + sliceSize),
+					Comparator.comparingDouble(p -> p.minLat + p.maxLat));
+		}
+		return items;
+	}
+
+	/**
+	 * Reusable list of polygon indexes, so a search allocates nothing once it has grown.
+	 */
+	static final class Hits {
+
+		private int[] items = new int[8];
+		private int size;
+
+		void add(int index) {
+			if (size == items.length) {
+				items = Arrays.copyOf(items, size * 2);
+			}
+			items[size++] = index;
+		}
+
+		int get(int i) {
+			return items[i];
+		}
+
+		int size() {
+			return size;
+		}
+
+		void clear() {
+			size = 0;
+		}
+	}
+}
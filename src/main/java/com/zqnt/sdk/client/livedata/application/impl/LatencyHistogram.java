@@ -0,0 +1,106 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencySnapshot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds. Each power of two is split into
+ * {@value #SUB_BUCKETS} linear buckets, so a reported percentile is within about 6 % of the true
+ * value; values from 1 microsecond to about 71 minutes fit in {@value #BUCKETS} counters (under 2 KB).
+ * <p>
+ * Recording is one array increment plus the count, sum and max; any number of threads may record
+ * concurrently. Snapshots read the counters without stopping writers, so they are weakly consistent.
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 3;
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	// Exponents SUB_BUCKET_BITS..31 after the SUB_BUCKETS exact values below 2^SUB_BUCKET_BITS
+	private static final int BUCKETS = SUB_BUCKETS + (32 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+	private static final long MAX_MICROS = (1L << 32) - 1;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sumMicros = new LongAdder();
+	private final AtomicLong maxMicros = new AtomicLong();
+
+	void recordNanos(long nanos) {
+		recordMicros(nanos / 1_000L);
+	}
+
+	void recordMicros(long micros) {
+		long value = Math.min(MAX_MICROS, Math.max(0L, micros));
+		counts.incrementAndGet(index(value));
+		count.increment();
+		sumMicros.add(value);
+		if (value > maxMicros.get()) {
+			maxMicros.accumulateAndGet(value, Math::max);
+		}
+	}
+
+	TelemetryLatencySnapshot snapshot() {
+		long[] copy = new long[BUCKETS];
+		long total = 0L;
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = counts.get(i);
+			total += copy[i];
+		}
+		if (total == 0L) {
+			return new TelemetryLatencySnapshot(0L, 0L, 0L, 0L, 0L, 0L);
+		}
+		long max = maxMicros.get();
+		return new TelemetryLatencySnapshot(total,
+				sumMicros.sum() / Math.max(1L, count.sum()),
+				Math.min(max, percentile(copy, total, 0.50)),
+				Math.min(max, percentile(copy, total, 0.99)),
+				Math.min(max, percentile(copy, total, 0.999)),
+				max);
+	}
+
+	void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0L);
+		}
+		count.reset();
+		sumMicros.reset();
+		maxMicros.set(0L);
+	}
+
+	private static long percentile(long[] counts, long total, double quantile) {
+		long rank = Math.max(1L, (long) Math.ceil(total * quantile));
+		long seen = 0L;
+		for (int i = 0; i < counts.length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return midpoint(i);
+			}
+		}
+		return midpoint(counts.length - 1);
+	}
+
+	static int index(long micros) {
+		if (micros < SUB_BUCKETS) {
+			return (int) micros;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(micros);
+		int sub = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * @return the middle of the values counted in the bucket
+	 */
+	static long midpoint(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exponent = (index - SUB_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS;
+		int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		long lower = (1L << exponent) + sub * width;
+		return lower + width / 2;
+	}
+}
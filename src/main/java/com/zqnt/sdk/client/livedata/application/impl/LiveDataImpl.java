@@ -2,23 +2,26 @@ package com.zqnt.sdk.client.livedata.application.impl;
 
 import com.zqnt.sdk.client.config.GrpcClientConfig;
 import com.zqnt.sdk.client.grpc.GrpcResilience;
+import com.zqnt.sdk.client.livedata.application.FleetTelemetrySubscription;
 import com.zqnt.sdk.client.livedata.application.LiveData;
 import com.zqnt.sdk.client.livedata.application.LiveDataMapper;
+import com.zqnt.sdk.client.livedata.application.TelemetryRecorder;
+import com.zqnt.sdk.client.livedata.application.TelemetryReplay;
 import com.zqnt.sdk.client.livedata.domains.*;
 import com.zqnt.utils.livedata.proto.LiveDataServiceGrpc;
 import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
 import io.grpc.ManagedChannel;
-import io.grpc.stub.StreamObserver;
+import io.smallrye.mutiny.Multi;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.*;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
-
 /**
  * Internal Live Data streaming client using standard gRPC stubs.
  * NOT exposed as a CDI bean - only accessible via ZequentClient.
@@ -29,6 +32,8 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
  * - CompletableFuture for async unary calls
  * - StreamObserver for efficient server-streaming
  * - Dedicated thread pool for stream handling
+ * - Stream inactivity checks and reconnect delays share one hashed-wheel timer
+ * - Fleet subscriptions use staggered starts across all SNs
  */
 @Slf4j
 public class LiveDataImpl implements LiveData {
@@ -40,6 +45,25 @@ public class LiveDataImpl implements LiveData {
 	private final LiveDataMapper liveDataMapper;
 	private final ExecutorService streamExecutor;
 	private final ScheduledExecutorService timeoutScheduler;
+	// Stream timeouts: O(1) add/cancel for any number of streams, 100ms precision, thread started on first stream
+	private final TelemetryTimer streamTimer = new TelemetryTimer("livedata-stream-timer", 100, TimeUnit.MILLISECONDS, 512);
+	// Paces stream starts and reconnects of all streams of this client
+	private final StreamStartLimiter startLimiter;
+	private final TelemetrySnapshotStoreImpl snapshotStore = new TelemetrySnapshotStoreImpl();
+	private final TelemetryHistoryImpl telemetryHistory;
+	private final TelemetryLatencyMonitorImpl telemetryLatency;
+	private final TelemetrySpatialIndexImpl spatialIndex = new TelemetrySpatialIndexImpl();
+	private final TelemetryGeofencesImpl geofences = new TelemetryGeofencesImpl();
+	private final CopyOnWriteArrayList<TelemetryRecorderImpl> recorders = new CopyOnWriteArrayList<>();
+	// null when every streamTelemetryData call opens its own gRPC stream
+	private final SharedTelemetryStreams sharedStreams;
+	// Created on first ORDERED stream so clients that never use it pay no threads
+	private volatile OrderedDispatcher orderedDispatcher;
+	// Created on first buffered stream; at most one drain task per stream is ever queued here
+	private volatile ExecutorService bufferDrainExecutor;
+	// Created on first VIRTUAL or VIRTUAL_ORDERED stream
+	private volatile ExecutorService virtualExecutor;
+	private volatile Consumer<TelemetryGap> gapListener;
 
 	/**
 	 * Private constructor - use create() factory method.
@@ -56,6 +80,10 @@ public class LiveDataImpl implements LiveData {
 		this.asyncStub = LiveDataServiceGrpc.newStub(channel);
 		this.futureStub = LiveDataServiceGrpc.newFutureStub(channel);
 		this.liveDataMapper = liveDataMapper;
+		this.telemetryHistory = new TelemetryHistoryImpl(config.getTelemetryHistoryCapacity());
+		this.telemetryLatency = new TelemetryLatencyMonitorImpl(config.isTelemetryLatencyTracking());
+		this.sharedStreams = config.isTelemetryStreamSharing() ? new SharedTelemetryStreams(this) : null;
+		this.startLimiter = new StreamStartLimiter(config.getStreamStartRatePerSecond(), config.getStreamStartBurst());
 
 		// Dedicated thread pool for stream processing — fixed size + bounded queue with CallerRunsPolicy
 		// to avoid unbounded thread growth and apply backpressure when the consumer is slow.
@@ -104,9 +132,10 @@ public class LiveDataImpl implements LiveData {
 	public StreamHandle streamTelemetryData(StreamTelemetryRequest request,
 											Consumer<StreamTelemetryResponse> onData,
 											Consumer<Throwable> onError) {
-		StreamHandle handle = new StreamHandle();
-		startStream(request, onData, onError, handle, 0);
-		return handle;
+		if (sharedStreams != null) {
+			return sharedStreams.subscribe(request, onData, onError);
+		}
+		return startTelemetryStream(request, new MappedFrameHandler(liveDataMapper, snapshotStore, request.getFields(), onData), onError);
 	}
 
 	/**
@@ -121,154 +150,333 @@ public class LiveDataImpl implements LiveData {
 				error -> log.error("Unhandled stream error (use the overload with onError to handle this): {}", error.getMessage(), error));
 	}
 
-	private void startStream(StreamTelemetryRequest request,
-							 Consumer<StreamTelemetryResponse> onData,
-							 Consumer<Throwable> onError,
-							 StreamHandle handle,
-							 int reconnectAttempt) {
-		if (handle.isStopped()) {
-			return;
+	/**
+	 * Micro-batched delivery: frames are mapped on the dispatch executor as usual and collected there;
+	 * closed batches go to a serial lane of the buffer drain pool, so {@code onBatch} never blocks
+	 * dispatch. Always opens its own gRPC stream.
+	 *
+	 * @return a {@link StreamHandle} — call {@code stop()} to cancel the stream and reconnection
+	 */
+	@Override
+	public StreamHandle streamTelemetryData(StreamTelemetryRequest request,
+											int maxBatchSize,
+											Duration maxLinger,
+											Consumer<List<StreamTelemetryResponse>> onBatch,
+											Consumer<Throwable> onError) {
+		if (maxBatchSize <= 0) {
+			throw new IllegalArgumentException("maxBatchSize must be positive");
 		}
-
-		try {
-			resilience.checkCircuitBreaker();
-		} catch (RuntimeException e) {
-			log.warn("Rejecting stream request - circuit breaker is OPEN: {}", e.getMessage());
-			if (onError != null) {
-				onError.accept(e);
-			}
-			return;
+		if (maxLinger == null || maxLinger.isNegative() || maxLinger.isZero()) {
+			throw new IllegalArgumentException("maxLinger must be positive");
 		}
+		TelemetryStreamHandle handle = new TelemetryStreamHandle();
+		TelemetryBatcher<StreamTelemetryResponse> batcher = new TelemetryBatcher<>(maxBatchSize, maxLinger.toMillis(),
+				onBatch, onError, streamTimer, bufferDrainExecutor(), handle);
+		TelemetryStream stream = new TelemetryStream(this, request,
+				new MappedFrameHandler(liveDataMapper, snapshotStore, request.getFields(), batcher::add), onError, handle);
+		stream.whenCompleted(batcher::flush);
+		return startTelemetryStream(stream);
+	}
 
-		var protoRequest = liveDataMapper.toProtoRequest(request);
-		// Inactivity timeout for streaming: 5 minutes by default (unrelated to unary requestTimeoutSeconds)
-		int inactivityTimeoutSeconds = 5 * 60;
-		int maxAttempts = config != null ? config.getMaxRetryAttempts() : 3;
-		long baseDelayMillis = config != null ? config.getRetryDelayMillis() : 1000L;
-		long maxDelayMillis = 30_000L;
-
-		AtomicBoolean streamEnded = new AtomicBoolean(false);
-		AtomicBoolean dataReceived = new AtomicBoolean(false);
-		AtomicLong lastReceivedAt = new AtomicLong(System.currentTimeMillis());
-		long inactivityTimeoutMillis = (long) inactivityTimeoutSeconds * 1000;
-		long checkIntervalSeconds = Math.max(10L, inactivityTimeoutSeconds / 6L);
-		AtomicReference<ScheduledFuture<?>> periodicCheckRef = new AtomicReference<>();
-
-		// Single periodic task instead of reschedule-on-every-message:
-		// avoids ScheduledExecutorService lock contention at high telemetry frequency.
-		ScheduledFuture<?> periodicCheck = timeoutScheduler.scheduleAtFixedRate(() -> {
-			if (streamEnded.get() || handle.isStopped()) {
-				return;
-			}
-			if (System.currentTimeMillis() - lastReceivedAt.get() < inactivityTimeoutMillis) {
-				return;
-			}
-			streamEnded.set(true);
-			ScheduledFuture<?> self = periodicCheckRef.get();
-			if (self != null) self.cancel(false);
+	/**
+	 * Streams telemetry as flyweight {@link TelemetryView}s read straight from the protobuf frame —
+	 * no POJO mapping, boxing or {@code LocalDateTime} per frame. Same reconnect, dispatch and
+	 * buffering behaviour as {@link #streamTelemetryData}; the snapshot store is not updated.
+	 *
+	 * @return a {@link StreamHandle} — call {@code stop()} to cancel the stream and reconnection
+	 */
+	@Override
+	public StreamHandle streamTelemetryView(StreamTelemetryRequest request,
+											Consumer<TelemetryView> onView,
+											Consumer<Throwable> onError) {
+		return startTelemetryStream(request, new ViewFrameHandler(onView), onError);
+	}
 
-			log.warn("Stream inactive for {}s, reconnecting...", inactivityTimeoutSeconds);
+	/**
+	 * Streams per-window aggregates computed incrementally from the raw frames. The window state is
+	 * preallocated per stream; only the emitted {@link TelemetryAggregate}s are allocated.
+	 * The snapshot store is not updated.
+	 *
+	 * @return a {@link StreamHandle} — call {@code stop()} to cancel the stream and reconnection
+	 */
+	@Override
+	public StreamHandle streamTelemetryAggregates(StreamTelemetryRequest request,
+												  TelemetryWindow window,
+												  Consumer<TelemetryAggregate> onAggregate,
+												  Consumer<Throwable> onError) {
+		TelemetryStreamHandle handle = new TelemetryStreamHandle();
+		AggregatingFrameHandler aggregator = new AggregatingFrameHandler(request.getSn(), window, onAggregate, handle.getStatistics());
+		TelemetryStream stream = new TelemetryStream(this, request, aggregator, onError, handle);
+		aggregator.startFlushing(streamTimer, stream::execute, handle);
+		return startTelemetryStream(stream);
+	}
 
-			// Reconnect: if data was received before, treat as blip and reset counter
-			int nextAttempt = dataReceived.get() ? 0 : reconnectAttempt + 1;
+	private StreamHandle startTelemetryStream(StreamTelemetryRequest request,
+											  TelemetryFrameHandler frameHandler,
+											  Consumer<Throwable> onError) {
+		return startTelemetryStream(request, frameHandler, onError, new TelemetryStreamHandle());
+	}
 
-			if (nextAttempt > maxAttempts) {
-				String msg = "Stream inactive for " + inactivityTimeoutSeconds + "s and max reconnect attempts (" + maxAttempts + ") reached";
-				log.error(msg);
-				if (onError != null) {
-					onError.accept(new TimeoutException(msg));
-				}
-				return;
-			}
+	/**
+	 * Streams telemetry as a Mutiny {@link Multi}. Each subscription opens its own gRPC stream with
+	 * auto-request disabled: the subscriber's {@code request(n)} is forwarded as gRPC inbound flow
+	 * control, so a slow subscriber slows the server down instead of filling queues. Frames are
+	 * delivered in order; reconnects happen inside the Multi, which only fails once they are exhausted.
+	 */
+	@Override
+	public Multi<StreamTelemetryResponse> streamTelemetryMulti(StreamTelemetryRequest request) {
+		return Multi.createFrom().publisher(new TelemetryPublisher(this, request));
+	}
 
-			long delay = Math.min(baseDelayMillis * (nextAttempt + 1), maxDelayMillis);
-			log.warn("Reconnecting after inactivity timeout (attempt {}/{}), delay {}ms",
-					nextAttempt, maxAttempts, delay);
-			timeoutScheduler.schedule(() -> {
-				if (!handle.isStopped()) {
-					startStream(request, onData, onError, handle, nextAttempt);
-				}
-			}, delay, MILLISECONDS);
-		}, checkIntervalSeconds, checkIntervalSeconds, TimeUnit.SECONDS);
+	private StreamHandle startTelemetryStream(StreamTelemetryRequest request,
+											  TelemetryFrameHandler frameHandler,
+											  Consumer<Throwable> onError,
+											  TelemetryStreamHandle handle) {
+		return startTelemetryStream(new TelemetryStream(this, request, frameHandler, onError, handle));
+	}
 
-		periodicCheckRef.set(periodicCheck);
+	StreamHandle startTelemetryStream(TelemetryStream stream) {
+		// The stream arms its own inactivity check on the shared timer
+		stream.start();
+		return stream.handle();
+	}
 
-		StreamObserver<LiveDataTelemetryResponse> observer = new StreamObserver<>() {
-			@Override
-			public void onNext(LiveDataTelemetryResponse protoResponse) {
-				// Ignore data from a zombie stream that was replaced after a timeout-triggered reconnect
-				if (streamEnded.get()) {
-					return;
-				}
-				dataReceived.set(true);
-				lastReceivedAt.set(System.currentTimeMillis());
-
-				// Proto-to-POJO mapping is moved into the executor to avoid blocking the gRPC Netty I/O thread.
-				streamExecutor.execute(() -> {
-					try {
-						var pojoResponse = liveDataMapper.fromProtoResponse(protoResponse);
-						onData.accept(pojoResponse);
-						resilience.recordSuccess();
-					} catch (Exception e) {
-						log.error("Error processing stream item: {}", e.getMessage(), e);
-						if (onError != null) {
-							onError.accept(e);
-						}
-					}
-				});
-			}
+	/**
+	 * Streams telemetry for a whole fleet as one unit: staggered stream starts, the shared
+	 * stream timer for inactivity checks and reconnects, and a single callback.
+	 *
+	 * @return a {@link FleetTelemetrySubscription} — add/remove SNs on the fly, {@code stop()} to end all streams
+	 */
+	@Override
+	public FleetTelemetrySubscription streamFleetTelemetry(Collection<String> sns,
+														   StreamTelemetryRequest template,
+														   BiConsumer<String, StreamTelemetryResponse> onData,
+														   BiConsumer<String, Throwable> onError) {
+		var subscription = new FleetTelemetrySubscriptionImpl(this, template, onData, onError);
+		subscription.addAll(sns);
+		return subscription;
+	}
 
-			@Override
-			public void onError(Throwable error) {
-				streamEnded.set(true);
-				ScheduledFuture<?> check = periodicCheckRef.get();
-				if (check != null) check.cancel(false);
+	@Override
+	public void setTelemetryGapListener(Consumer<TelemetryGap> listener) {
+		this.gapListener = listener;
+	}
 
-				resilience.recordFailure(error);
+	Consumer<TelemetryGap> gapListener() {
+		return gapListener;
+	}
 
-				if (handle.isStopped()) {
-					return;
-				}
+	@Override
+	public TelemetrySnapshotStoreImpl snapshotStore() {
+		return snapshotStore;
+	}
 
-				// If data was received, treat disconnect as a blip and reset attempt counter
-				int nextAttempt = dataReceived.get() ? 0 : reconnectAttempt + 1;
+	@Override
+	public TelemetryHistoryImpl telemetryHistory() {
+		return telemetryHistory;
+	}
 
-				if (nextAttempt > maxAttempts) {
-					log.error("Stream failed after {} reconnect attempts, giving up: {}", reconnectAttempt, error.getMessage(), error);
-					if (onError != null) {
-						onError.accept(error);
-					}
-					return;
-				}
+	@Override
+	public TelemetryLatencyMonitorImpl telemetryLatency() {
+		return telemetryLatency;
+	}
 
-				long delay = Math.min(baseDelayMillis * (nextAttempt + 1), maxDelayMillis);
-				log.warn("Stream error (attempt {}/{}), reconnecting in {}ms: {}",
-						nextAttempt, maxAttempts, delay, error.getMessage());
+	@Override
+	public TelemetrySpatialIndexImpl spatialIndex() {
+		return spatialIndex;
+	}
 
-				timeoutScheduler.schedule(() -> {
-					if (!handle.isStopped()) {
-						startStream(request, onData, onError, handle, nextAttempt);
-					}
-				}, delay, MILLISECONDS);
+	@Override
+	public TelemetryGeofencesImpl geofences() {
+		return geofences;
+	}
+
+	@Override
+	public TelemetryRecorder startRecording(Path directory) {
+		return startRecording(directory, TelemetryRecorder.DEFAULT_SEGMENT_SIZE_BYTES);
+	}
+
+	@Override
+	public TelemetryRecorder startRecording(Path directory, long segmentSizeBytes) {
+		return startRecording(directory, segmentSizeBytes, TelemetryRecorder.DEFAULT_MAX_SEGMENTS);
+	}
+
+	@Override
+	public TelemetryRecorder startRecording(Path directory, long segmentSizeBytes, int maxSegments) {
+		TelemetryRecorderImpl recorder = new TelemetryRecorderImpl(directory, segmentSizeBytes, maxSegments, recorders::remove);
+		recorders.add(recorder);
+		log.info("Recording telemetry to {}", directory);
+		return recorder;
+	}
+
+	/**
+	 * Replays a recording through the regular stream pipeline on a dedicated thread.
+	 * No gRPC call is made; the recording is read from memory-mapped segments.
+	 */
+	@Override
+	public TelemetryReplay replayTelemetry(Path directory,
+										   TelemetryReplaySpeed speed,
+										   StreamTelemetryRequest template,
+										   BiConsumer<String, StreamTelemetryResponse> onData,
+										   BiConsumer<String, Throwable> onError) {
+		TelemetryReplayImpl replay = new TelemetryReplayImpl(this, directory, speed, template, onData, onError);
+		replay.start();
+		return replay;
+	}
+
+	/**
+	 * Hands a received frame to the telemetry history and all open recorders. Runs on the gRPC inbound thread.
+	 */
+	void recordFrame(LiveDataTelemetryResponse frame, long receivedAtMillis) {
+		telemetryHistory.record(frame);
+		if (recorders.isEmpty()) {
+			return;
+		}
+		for (TelemetryRecorderImpl recorder : recorders) {
+			recorder.append(frame, receivedAtMillis);
+		}
+	}
+
+	LiveDataServiceGrpc.LiveDataServiceStub asyncStub() {
+		return asyncStub;
+	}
+
+	LiveDataMapper mapper() {
+		return liveDataMapper;
+	}
+
+	GrpcResilience resilience() {
+		return resilience;
+	}
+
+	GrpcClientConfig config() {
+		return config;
+	}
+
+	/**
+	 * @return null when stream sharing is disabled
+	 */
+	SharedTelemetryStreams sharedStreams() {
+		return sharedStreams;
+	}
+
+	ExecutorService streamExecutor() {
+		return streamExecutor;
+	}
+
+	ScheduledExecutorService scheduler() {
+		return timeoutScheduler;
+	}
+
+	TelemetryTimer timer() {
+		return streamTimer;
+	}
+
+	StreamStartLimiter startLimiter() {
+		return startLimiter;
+	}
+
+	ExecutorService bufferDrainExecutor() {
+		ExecutorService executor = bufferDrainExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = bufferDrainExecutor;
+				if (executor == null) {
+					int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+					executor = Executors.newFixedThreadPool(threads, r -> {
+						Thread t = new Thread(r, "livedata-buffer-drain");
+						t.setDaemon(true);
+						return t;
+					});
+					bufferDrainExecutor = executor;
+				}
 			}
+		}
+		return executor;
+	}
 
-			@Override
-			public void onCompleted() {
-				streamEnded.set(true);
-				ScheduledFuture<?> check = periodicCheckRef.get();
-				if (check != null) check.cancel(false);
-				log.debug("Stream completed");
+	ExecutorService virtualExecutor() {
+		ExecutorService executor = virtualExecutor;
+		if (executor == null) {
+			synchronized (this) {
+				executor = virtualExecutor;
+				if (executor == null) {
+					executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("livedata-stream-virtual-", 0).factory());
+					virtualExecutor = executor;
+				}
 			}
+		}
+		return executor;
+	}
+
+	/**
+	 * @return the request's dispatch mode, or the client default when the request leaves it open
+	 */
+	TelemetryDispatchMode dispatchModeFor(StreamTelemetryRequest request) {
+		if (request.getDispatchMode() != null) {
+			return request.getDispatchMode();
+		}
+		return config != null && config.getTelemetryDispatchMode() != null
+				? config.getTelemetryDispatchMode()
+				: TelemetryDispatchMode.POOLED;
+	}
+
+	/**
+	 * @return the executor frames of an SN are dispatched on in the given mode
+	 */
+	Executor dispatchExecutor(TelemetryDispatchMode mode, String sn) {
+		return switch (mode) {
+			// ORDERED pins the SN to one serial shard for the lifetime of the stream
+			case ORDERED -> orderedDispatcher().executorFor(sn);
+			case DIRECT -> Runnable::run;
+			case VIRTUAL -> virtualExecutor();
+			case VIRTUAL_ORDERED -> new SerialExecutor(virtualExecutor());
+			case POOLED -> streamExecutor();
 		};
+	}
 
-		try {
-			asyncStub.streamTelemetry(protoRequest, observer);
-		} catch (Exception e) {
-			log.error("Failed to start stream: {}", e.getMessage(), e);
-			if (onError != null) {
-				onError.accept(e);
+	/**
+	 * The stream buffer a request asks for, directly or through the client default. ORDERED streams
+	 * always get one: a full shard queue would otherwise block the gRPC inbound thread.
+	 *
+	 * @return null when frames go straight to the dispatch executor
+	 */
+	<T> TelemetryMailbox<T> mailboxFor(StreamTelemetryRequest request, TelemetryDispatchMode mode, Executor dispatchExecutor,
+									   Consumer<T> sink, Runnable onDropped) {
+		TelemetryOverflowPolicy overflowPolicy = request.getOverflowPolicy() != null
+				? request.getOverflowPolicy()
+				: config.getTelemetryOverflowPolicy();
+		if (overflowPolicy == null && mode == TelemetryDispatchMode.ORDERED) {
+			overflowPolicy = TelemetryOverflowPolicy.DROP_OLDEST;
+		}
+		if (overflowPolicy == null) {
+			return null;
+		}
+		int capacity = request.getBufferCapacity() > 0
+				? request.getBufferCapacity()
+				: config.getTelemetryBufferCapacity();
+		// Buffered POOLED streams drain on a pool without caller-runs, so a full pool can never
+		// push mapping and onData back onto the gRPC inbound thread; a buffer only makes sense for
+		// DIRECT if draining leaves the gRPC thread as well
+		Executor drainExecutor = mode == TelemetryDispatchMode.POOLED || mode == TelemetryDispatchMode.DIRECT
+				? bufferDrainExecutor()
+				: dispatchExecutor;
+		return new TelemetryMailbox<>(capacity, overflowPolicy, drainExecutor, sink, onDropped);
+	}
+
+	OrderedDispatcher orderedDispatcher() {
+		OrderedDispatcher dispatcher = orderedDispatcher;
+		if (dispatcher == null) {
+			synchronized (this) {
+				dispatcher = orderedDispatcher;
+				if (dispatcher == null) {
+					int shards = Math.max(2, Runtime.getRuntime().availableProcessors());
+					dispatcher = new OrderedDispatcher(shards, 1000, "livedata-ordered-dispatch");
+					orderedDispatcher = dispatcher;
+				}
 			}
 		}
+		return dispatcher;
 	}
 
 	/**
@@ -439,8 +647,22 @@ public class LiveDataImpl implements LiveData {
 	 * Should be called when closing the client.
 	 */
 	public void shutdown() {
+		recorders.forEach(TelemetryRecorderImpl::close);
+		OrderedDispatcher dispatcher = orderedDispatcher;
+		ExecutorService drainExecutor = bufferDrainExecutor;
+		ExecutorService virtual = virtualExecutor;
 		streamExecutor.shutdown();
 		timeoutScheduler.shutdown();
+		streamTimer.shutdown();
+		if (dispatcher != null) {
+			dispatcher.shutdown();
+		}
+		if (drainExecutor != null) {
+			drainExecutor.shutdown();
+		}
+		if (virtual != null) {
+			virtual.shutdown();
+		}
 		try {
 			if (!streamExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
 				streamExecutor.shutdownNow();
@@ -448,9 +670,27 @@ public class LiveDataImpl implements LiveData {
 			if (!timeoutScheduler.awaitTermination(5, TimeUnit.SECONDS)) {
 				timeoutScheduler.shutdownNow();
 			}
+			if (dispatcher != null && !dispatcher.awaitTermination(5, TimeUnit.SECONDS)) {
+				dispatcher.shutdownNow();
+			}
+			if (drainExecutor != null && !drainExecutor.awaitTermination(5, TimeUnit.SECONDS)) {
+				drainExecutor.shutdownNow();
+			}
+			if (virtual != null && !virtual.awaitTermination(5, TimeUnit.SECONDS)) {
+				virtual.shutdownNow();
+			}
 		} catch (InterruptedException e) {
 			streamExecutor.shutdownNow();
 			timeoutScheduler.shutdownNow();
+			if (dispatcher != null) {
+				dispatcher.shutdownNow();
+			}
+			if (drainExecutor != null) {
+				drainExecutor.shutdownNow();
+			}
+			if (virtual != null) {
+				virtual.shutdownNow();
+			}
 			Thread.currentThread().interrupt();
 		}
 	}
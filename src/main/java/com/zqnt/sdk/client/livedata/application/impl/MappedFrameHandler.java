@@ -0,0 +1,65 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.application.LiveDataMapper;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryFieldGroup;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Classic delivery: maps the frame to a {@link StreamTelemetryResponse}, updates the snapshot store
+ * (if any) and calls {@code onData}.
+ * With a field selection, the consumer gets a projected response while the snapshot store is fed
+ * a separate complete one; nested mapping is lazy, so that costs only the envelope.
+ */
+class MappedFrameHandler implements TelemetryFrameHandler {
+
+	private final LiveDataMapper mapper;
+	// Null for replays, which must not overwrite live state
+	private final TelemetrySnapshotStoreImpl snapshotStore;
+	private final Consumer<StreamTelemetryResponse> onData;
+	// null = all field groups
+	private final Set<TelemetryFieldGroup> fields;
+
+	MappedFrameHandler(LiveDataMapper mapper, TelemetrySnapshotStoreImpl snapshotStore,
+					   Set<TelemetryFieldGroup> fields, Consumer<StreamTelemetryResponse> onData) {
+		this.mapper = mapper;
+		this.snapshotStore = snapshotStore;
+		this.fields = fields == null || fields.isEmpty() ? null : fields;
+		this.onData = onData;
+	}
+
+	@Override
+	public void onFrame(LiveDataTelemetryResponse frame) {
+		var pojoResponse = mapper.fromProtoResponse(frame);
+		if (snapshotStore != null) {
+			snapshotStore.update(frame, pojoResponse);
+		}
+		onData.accept(fields == null ? pojoResponse : mapper.fromProtoResponse(frame, fields));
+	}
+
+	@Override
+	public void onFrame(LiveDataTelemetryResponse frame, TelemetryLatencyMonitorImpl.SnLatency latency) {
+		long startedAt = System.nanoTime();
+		var pojoResponse = mapper.fromProtoResponse(frame);
+		if (snapshotStore != null) {
+			snapshotStore.update(frame, pojoResponse);
+		}
+		var delivered = fields == null ? pojoResponse : mapper.fromProtoResponse(frame, fields);
+		long mappedAt = System.nanoTime();
+		latency.record(TelemetryLatencyStage.MAPPING, mappedAt - startedAt);
+		onData.accept(delivered);
+		latency.record(TelemetryLatencyStage.CONSUMER, System.nanoTime() - mappedAt);
+	}
+
+	@Override
+	public void replay(TelemetrySnapshot snapshot) {
+		if (snapshot.getLastResponse() != null) {
+			onData.accept(mapper.project(snapshot.getLastResponse(), fields));
+		}
+	}
+}
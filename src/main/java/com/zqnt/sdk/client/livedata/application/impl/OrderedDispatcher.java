@@ -0,0 +1,92 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyed serial dispatcher: a fixed set of single-threaded shards, each key is pinned to one shard.
+ * Tasks for the same key run one after another in submission order (and stay on one core, which
+ * keeps per-key state cache-local); tasks for different keys run in parallel across shards.
+ *
+ * When a shard queue is full the submitting thread blocks instead of running the task itself,
+ * because caller-runs would overtake frames that are still queued and break ordering. Streams
+ * submit through their {@link TelemetryMailbox}, which keeps at most one task per stream queued
+ * here, so the gRPC inbound thread does not reach this.
+ */
+class OrderedDispatcher {
+
+	private final ThreadPoolExecutor[] shards;
+
+	OrderedDispatcher(int shardCount, int queueCapacity, String threadNamePrefix) {
+		this.shards = new ThreadPoolExecutor[Math.max(1, shardCount)];
+		for (int i = 0; i < shards.length; i++) {
+			String threadName = threadNamePrefix + "-" + i;
+			shards[i] = new ThreadPoolExecutor(
+					1, 1,
+					0L, TimeUnit.MILLISECONDS,
+					new LinkedBlockingQueue<>(queueCapacity),
+					r -> {
+						Thread t = new Thread(r, threadName);
+						t.setDaemon(true);
+						return t;
+					},
+					OrderedDispatcher::blockUntilQueued
+			);
+		}
+	}
+
+	/**
+	 * @return the serial executor the given key is pinned to
+	 */
+	Executor executorFor(String key) {
+		return shards[shardIndex(key, shards.length)];
+	}
+
+	int shardCount() {
+		return shards.length;
+	}
+
+	static int shardIndex(String key, int shardCount) {
+		int h = key != null ? key.hashCode() : 0;
+		h ^= (h >>> 16);
+		return (h & 0x7fffffff) % shardCount;
+	}
+
+	void shutdown() {
+		for (ThreadPoolExecutor shard : shards) {
+			shard.shutdown();
+		}
+	}
+
+	void shutdownNow() {
+		for (ThreadPoolExecutor shard : shards) {
+			shard.shutdownNow();
+		}
+	}
+
+	boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		for (ThreadPoolExecutor shard : shards) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0 || !shard.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void blockUntilQueued(Runnable task, ThreadPoolExecutor executor) {
+		if (executor.isShutdown()) {
+			throw new RejectedExecutionException("Ordered dispatcher is shut down");
+		}
+		try {
+			executor.getQueue().put(task);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for dispatch queue", e);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs tasks one after another in submission order on a backing executor, with at most one task of
+ * this executor in flight there. Used per stream on top of the virtual-thread executor, so each SN
+ * gets its own serial lane without pinning it to a platform thread.
+ */
+class SerialExecutor implements Executor {
+
+	private final Executor backing;
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+	SerialExecutor(Executor backing) {
+		this.backing = backing;
+	}
+
+	@Override
+	public void execute(Runnable task) {
+		tasks.add(task);
+		schedule();
+	}
+
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			backing.execute(this::drain);
+		}
+	}
+
+	private void drain() {
+		try {
+			Runnable task;
+			while ((task = tasks.poll()) != null) {
+				task.run();
+			}
+		} finally {
+			scheduled.set(false);
+			// A task added between the last poll and the reset would otherwise wait for the next execute
+			if (!tasks.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+}
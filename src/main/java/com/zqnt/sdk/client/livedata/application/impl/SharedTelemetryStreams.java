@@ -0,0 +1,574 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.StreamHandle;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryAdaptiveFrequency;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryFieldGroup;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Deduplicates {@code streamTelemetryData} subscriptions: callers asking for the same SN at the same
+ * frequency, duration and renewal share one upstream {@link TelemetryStream}. Each frame is mapped once
+ * into a lazy response on the upstream's own serial lane and handed to every local subscriber; the
+ * upstream is stopped when the last subscriber leaves. Tid and timestamp only label the call, so the
+ * first subscriber's are used.
+ * <p>
+ * Field selection, deadband, replay-latest, dispatch mode and stream buffer stay per subscriber: each one
+ * is delivered on its own dispatch executor, behind its own buffer, so a slow subscriber only fills or
+ * drops from its own buffer. A request with adaptive frequency gets an upstream of its own: its
+ * controller moves that upstream's frequency away from the one in the key, which no other subscriber
+ * asked for.
+ * <p>
+ * {@link StreamHandle#update} moves a subscriber make-before-break to the upstream of the new key: it
+ * joins that one, switches on its first frame and then leaves the old one. A subscriber's statistics
+ * count its own dropped and suppressed frames; everything else describes its current upstream.
+ */
+@Slf4j
+class SharedTelemetryStreams {
+
+	private final LiveDataImpl owner;
+	private final ConcurrentHashMap<Key, Upstream> upstreams = new ConcurrentHashMap<>();
+
+	SharedTelemetryStreams(LiveDataImpl owner) {
+		this.owner = owner;
+	}
+
+	/**
+	 * Attaches a subscriber to the shared upstream for the request, opening it if needed.
+	 *
+	 * @return the subscriber's own handle; stopping it detaches only this subscriber
+	 */
+	StreamHandle subscribe(StreamTelemetryRequest request,
+						   Consumer<StreamTelemetryResponse> onData,
+						   Consumer<Throwable> onError) {
+		Key key = Key.of(request);
+		Upstream[] created = new Upstream[1];
+		Subscriber[] attached = new Subscriber[1];
+		Upstream upstream = upstreams.compute(key, (k, existing) -> {
+			Upstream u = existing != null && !existing.stream.isTerminated()
+					? existing
+					: (created[0] = new Upstream(k, request));
+			attached[0] = new Subscriber(u, request, onData, onError);
+			u.subscribers.add(attached[0]);
+			return u;
+		});
+		Subscriber subscriber = attached[0];
+		subscriber.handle.onStop(subscriber::leaveAll);
+		subscriber.handle.onUpdate(subscriber::update);
+
+		if (request.isReplayLatest()) {
+			TelemetrySnapshot snapshot = owner.snapshotStore().get(request.getSn());
+			if (snapshot != null) {
+				upstream.stream.execute(() -> subscriber.enqueue(() -> subscriber.replay(snapshot)));
+			}
+		}
+		if (created[0] != null) {
+			open(created[0]);
+		} else {
+			log.debug("Attached subscriber to shared telemetry stream for SN {} ({} subscribers)",
+					request.getSn(), upstream.subscribers.size());
+		}
+		return subscriber.handle;
+	}
+
+	private void open(Upstream upstream) {
+		owner.startTelemetryStream(upstream.stream);
+		log.debug("Opened shared telemetry stream for SN {}", upstream.key.sn());
+	}
+
+	/**
+	 * @return number of open upstream gRPC streams
+	 */
+	int upstreamCount() {
+		return upstreams.size();
+	}
+
+	private void leave(Upstream upstream, Subscriber subscriber) {
+		if (upstream == null) {
+			return;
+		}
+		boolean[] last = new boolean[1];
+		upstreams.computeIfPresent(upstream.key, (k, u) -> {
+			if (u != upstream) {
+				return u;
+			}
+			u.subscribers.remove(subscriber);
+			last[0] = u.subscribers.isEmpty();
+			return last[0] ? null : u;
+		});
+		// Upstream already gone (failed or completed): just drop the subscriber
+		upstream.subscribers.remove(subscriber);
+		if (last[0]) {
+			upstream.stream.handle().stop();
+			log.debug("Closed shared telemetry stream for SN {}, last subscriber left", upstream.key.sn());
+		}
+	}
+
+	/**
+	 * Upstream settings that must match for two requests to share a gRPC stream. {@code exclusive} is a
+	 * token of its own for requests that must not share, so their key never matches another one.
+	 */
+	private record Key(String sn, int frequencyMs, int duration, boolean autoRenew, Object exclusive) {
+
+		static Key of(StreamTelemetryRequest request) {
+			return new Key(request.getSn(), request.getFrequencyMs(), request.getDuration(), request.isAutoRenew(),
+					request.getAdaptiveFrequency() != null ? new Object() : null);
+		}
+
+		/**
+		 * @return whether both keys describe the same upstream settings, exclusive or not
+		 */
+		boolean sameSettings(Key other) {
+			return equals(new Key(other.sn, other.frequencyMs, other.duration, other.autoRenew, exclusive));
+		}
+	}
+
+	/**
+	 * One gRPC stream and its local subscribers. Maps each frame once and feeds the snapshot store once.
+	 */
+	private final class Upstream implements TelemetryFrameHandler {
+
+		private final Key key;
+		private final CopyOnWriteArrayList<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+		private final TelemetryStream stream;
+
+		private Upstream(Key key, StreamTelemetryRequest request) {
+			this.key = key;
+			// Per-subscriber options are applied locally, the upstream only carries transport settings
+			StreamTelemetryRequest upstreamRequest = request
+					.withAdaptiveFrequency(copy(request.getAdaptiveFrequency()))
+					.withFields(null)
+					.withDeadband(null)
+					.withReplayLatest(false);
+			this.stream = TelemetryStream.forFanOut(owner, upstreamRequest, this, this::onError);
+			stream.whenCompleted(this::onCompleted);
+		}
+
+		@Override
+		public void onFrame(LiveDataTelemetryResponse frame) {
+			var response = owner.mapper().fromProtoResponse(frame);
+			owner.snapshotStore().update(frame, response);
+			for (Subscriber subscriber : subscribers) {
+				subscriber.deliver(this, frame, response);
+			}
+		}
+
+		@Override
+		public void onFrame(LiveDataTelemetryResponse frame, TelemetryLatencyMonitorImpl.SnLatency latency) {
+			long startedAt = System.nanoTime();
+			var response = owner.mapper().fromProtoResponse(frame);
+			owner.snapshotStore().update(frame, response);
+			long mappedAt = System.nanoTime();
+			latency.record(TelemetryLatencyStage.MAPPING, mappedAt - startedAt);
+			for (Subscriber subscriber : subscribers) {
+				subscriber.deliver(this, frame, response);
+			}
+			latency.record(TelemetryLatencyStage.CONSUMER, System.nanoTime() - mappedAt);
+		}
+
+		/**
+		 * Copied: the caller may still change its settings, which must not move the upstream.
+		 */
+		private static TelemetryAdaptiveFrequency copy(TelemetryAdaptiveFrequency a) {
+			return a == null ? null : new TelemetryAdaptiveFrequency(a.getMaxFrequencyMs(), a.getBackoffFactor(),
+					a.getMaxQueueDepth(), a.getMaxUtilization(), a.getMinNetworkQuality(), a.getMinNetworkRate(),
+					a.getEvaluationIntervalMillis(), a.getRestoreAfterMillis());
+		}
+
+		private void onError(Throwable error) {
+			if (!stream.isTerminated()) {
+				// Processing error of this frame, the stream goes on
+				subscribers.forEach(subscriber -> subscriber.error(error));
+				return;
+			}
+			upstreams.remove(key, this);
+			for (Subscriber subscriber : subscribers) {
+				if (subscriber.upstreamEnded(this, error)) {
+					subscriber.error(error);
+					subscriber.handle.markTerminated();
+				}
+			}
+		}
+
+		private void onCompleted() {
+			upstreams.remove(key, this);
+			for (Subscriber subscriber : subscribers) {
+				if (subscriber.upstreamEnded(this, null)) {
+					subscriber.handle.markTerminated();
+				}
+			}
+		}
+	}
+
+	/**
+	 * A local consumer of a shared upstream, delivered on its own dispatch executor and buffer.
+	 */
+	private final class Subscriber {
+
+		private final SubscriberStatistics statistics;
+		private final TelemetryStreamHandle handle;
+		private final StreamTelemetryRequest request;
+		private final Executor dispatchExecutor;
+		// Bounded subscriber buffer, null when deliveries go straight to the dispatch executor
+		private final TelemetryMailbox<Runnable> mailbox;
+		// Guarded by this; pending is the upstream an update moves to until its first frame
+		private Upstream upstream;
+		private Upstream pending;
+		private CompletableFuture<Void> pendingSwitched;
+		// Non-null while frames of the old and the new upstream may overlap
+		private volatile TelemetryOverlap overlap;
+		private final Consumer<StreamTelemetryResponse> onData;
+		private final Consumer<Throwable> onError;
+		// null = all field groups
+		private final Set<TelemetryFieldGroup> fields;
+		// Filter only, null without deadband
+		private final DeadbandFrameHandler deadband;
+
+		private Subscriber(Upstream upstream,
+						   StreamTelemetryRequest request,
+						   Consumer<StreamTelemetryResponse> onData,
+						   Consumer<Throwable> onError) {
+			this.statistics = new SubscriberStatistics(upstream.stream.handle().getStatistics());
+			this.handle = new TelemetryStreamHandle(statistics);
+			this.request = request;
+			TelemetryDispatchMode dispatchMode = owner.dispatchModeFor(request);
+			this.dispatchExecutor = owner.dispatchExecutor(dispatchMode, request.getSn());
+			this.mailbox = owner.mailboxFor(request, dispatchMode, dispatchExecutor, Runnable::run,
+					statistics::recordDroppedFrame);
+			this.upstream = upstream;
+			this.onData = onData;
+			this.onError = onError;
+			this.fields = request.getFields() == null || request.getFields().isEmpty() ? null : request.getFields();
+			this.deadband = request.getDeadband() != null
+					? new DeadbandFrameHandler(null, request.getDeadband(), statistics::recordSuppressedFrame)
+					: null;
+		}
+
+		private CompletableFuture<Void> update(StreamTelemetryRequest next) {
+			if (next == null || !Objects.equals(next.getSn(), request.getSn())) {
+				return CompletableFuture.failedFuture(new IllegalArgumentException("An update must keep the SN " + request.getSn()));
+			}
+			StreamTelemetryRequest merged = TelemetryStream.withServerParameters(request, next);
+			Key key = Key.of(merged);
+			CompletableFuture<Void> switched = new CompletableFuture<>();
+			Upstream abandoned;
+			synchronized (this) {
+				if (upstream == null) {
+					return CompletableFuture.failedFuture(new IllegalStateException("Stream for SN " + request.getSn() + " has ended"));
+				}
+				if (key.sameSettings(upstream.key)) {
+					return CompletableFuture.completedFuture(null);
+				}
+				abandoned = abandonPending(new CancellationException("Superseded by a newer update"));
+				pendingSwitched = switched;
+				overlap = new TelemetryOverlap();
+			}
+			leave(abandoned, this);
+
+			Upstream[] created = new Upstream[1];
+			Upstream target = upstreams.compute(key, (k, existing) -> {
+				Upstream u = existing != null && !existing.stream.isTerminated()
+						? existing
+						: (created[0] = new Upstream(k, merged));
+				u.subscribers.add(this);
+				return u;
+			});
+			boolean joined;
+			synchronized (this) {
+				joined = pendingSwitched == switched && !handle.isStopped();
+				if (joined) {
+					pending = target;
+				}
+			}
+			if (!joined) {
+				// Stopped or superseded meanwhile
+				leave(target, this);
+				return switched;
+			}
+			if (created[0] != null) {
+				open(created[0]);
+			}
+			// The old upstream keeps delivering; give up on the new one if it stays silent
+			owner.timer().schedule(() -> {
+				Upstream silent;
+				synchronized (this) {
+					silent = pending == target && pendingSwitched == switched
+							? abandonPending(new TimeoutException("Updated stream delivered no frame"))
+							: null;
+				}
+				leave(silent, this);
+			}, target.stream.firstFrameTimeoutMillis(), MILLISECONDS);
+			return switched;
+		}
+
+		/**
+		 * Drops the pending switch. Caller holds this.
+		 *
+		 * @return the upstream to leave, if any
+		 */
+		private Upstream abandonPending(Throwable reason) {
+			Upstream target = pending;
+			pending = null;
+			overlap = null;
+			if (pendingSwitched != null) {
+				pendingSwitched.completeExceptionally(reason);
+				pendingSwitched = null;
+			}
+			return target;
+		}
+
+		/**
+		 * Frame gate while an update is in flight, see {@link TelemetryOverlap}.
+		 *
+		 * @return whether to deliver the frame, and the old upstream to leave after a switch
+		 */
+		private boolean admitDuringSwitch(Upstream from, TelemetryOverlap o, LiveDataTelemetryResponse frame) {
+			Upstream replaced = null;
+			boolean admit;
+			synchronized (this) {
+				if (from == pending) {
+					replaced = upstream;
+					upstream = from;
+					statistics.describe(from.stream.handle().getStatistics());
+					pending = null;
+					pendingSwitched.complete(null);
+					pendingSwitched = null;
+				}
+				if (from != upstream) {
+					admit = false;
+				} else if (pending != null) {
+					o.recordOld(frame);
+					admit = true;
+				} else {
+					admit = !o.isDuplicate(frame);
+					if (admit && o.isDone() && overlap == o) {
+						overlap = null;
+					}
+				}
+			}
+			leave(replaced, this);
+			return admit;
+		}
+
+		/**
+		 * @return true if the subscriber ends with the upstream, false if an update is moving it elsewhere
+		 */
+		private boolean upstreamEnded(Upstream ended, Throwable error) {
+			Upstream other;
+			synchronized (this) {
+				if (ended == pending) {
+					abandonPending(error != null ? error : new IllegalStateException("Updated stream completed before delivering"));
+					return false;
+				}
+				if (ended != upstream) {
+					return false;
+				}
+				if (pending == null) {
+					upstream = null;
+					return true;
+				}
+				// The new upstream takes over right away
+				upstream = pending;
+				statistics.describe(upstream.stream.handle().getStatistics());
+				pending = null;
+				pendingSwitched.complete(null);
+				pendingSwitched = null;
+				other = upstream;
+			}
+			log.debug("Shared telemetry stream for SN {} ended during an update, switched early", other.key.sn());
+			return false;
+		}
+
+		private void leaveAll() {
+			Upstream current;
+			Upstream target;
+			synchronized (this) {
+				current = upstream;
+				target = abandonPending(new CancellationException("Stream stopped"));
+				upstream = null;
+			}
+			leave(current, this);
+			leave(target, this);
+			handle.markTerminated();
+		}
+
+		/**
+		 * Runs on the upstream's lane: gates the frame in upstream order, then hands it to this
+		 * subscriber's buffer or dispatch executor.
+		 */
+		private void deliver(Upstream from, LiveDataTelemetryResponse frame, StreamTelemetryResponse response) {
+			if (handle.isStopped()) {
+				return;
+			}
+			TelemetryOverlap o = overlap;
+			if (o != null && !admitDuringSwitch(from, o, frame)) {
+				return;
+			}
+			enqueue(() -> process(frame, response));
+		}
+
+		private void enqueue(Runnable task) {
+			if (mailbox != null) {
+				mailbox.offer(task);
+				return;
+			}
+			try {
+				dispatchExecutor.execute(task);
+			} catch (RejectedExecutionException e) {
+				// Executor shut down, nothing will deliver this frame anymore
+				statistics.recordDroppedFrame();
+			}
+		}
+
+		/**
+		 * Runs on this subscriber's dispatch executor.
+		 */
+		private void process(LiveDataTelemetryResponse frame, StreamTelemetryResponse response) {
+			if (handle.isStopped()) {
+				return;
+			}
+			if (deadband != null && !deadband.accept(frame)) {
+				return;
+			}
+			try {
+				onData.accept(fields == null ? response : owner.mapper().fromProtoResponse(frame, fields));
+			} catch (Exception e) {
+				log.error("Error processing shared stream item: {}", e.getMessage(), e);
+				error(e);
+			}
+		}
+
+		private void replay(TelemetrySnapshot snapshot) {
+			if (handle.isStopped() || snapshot.getLastResponse() == null) {
+				return;
+			}
+			try {
+				onData.accept(owner.mapper().project(snapshot.getLastResponse(), fields));
+			} catch (Exception e) {
+				log.error("Error processing replayed stream item: {}", e.getMessage(), e);
+				error(e);
+			}
+		}
+
+		private void error(Throwable error) {
+			if (onError != null) {
+				onError.accept(error);
+			}
+		}
+	}
+
+	/**
+	 * Statistics of one subscriber. Dropped and suppressed frames are counted per subscriber, since
+	 * each has its own buffer and deadband; the rest describes the upstream it currently receives from.
+	 */
+	private static final class SubscriberStatistics extends TelemetryStreamStatistics {
+
+		private volatile TelemetryStreamStatistics upstream;
+
+		private SubscriberStatistics(TelemetryStreamStatistics upstream) {
+			this.upstream = upstream;
+		}
+
+		private void describe(TelemetryStreamStatistics upstream) {
+			this.upstream = upstream;
+		}
+
+		@Override
+		public long getFramesReceived() {
+			return upstream.getFramesReceived();
+		}
+
+		@Override
+		public long getBytesReceived() {
+			return upstream.getBytesReceived();
+		}
+
+		@Override
+		public long getLastFrameAt() {
+			return upstream.getLastFrameAt();
+		}
+
+		@Override
+		public long getLastFrameAgeMillis() {
+			return upstream.getLastFrameAgeMillis();
+		}
+
+		@Override
+		public long getReconnects() {
+			return upstream.getReconnects();
+		}
+
+		@Override
+		public long getStalls() {
+			return upstream.getStalls();
+		}
+
+		@Override
+		public long getRecoveries() {
+			return upstream.getRecoveries();
+		}
+
+		@Override
+		public long getLastRecoveryMillis() {
+			return upstream.getLastRecoveryMillis();
+		}
+
+		@Override
+		public long getMaxRecoveryMillis() {
+			return upstream.getMaxRecoveryMillis();
+		}
+
+		@Override
+		public double getMeanRecoveryMillis() {
+			return upstream.getMeanRecoveryMillis();
+		}
+
+		@Override
+		public long getDuplicateFrames() {
+			return upstream.getDuplicateFrames();
+		}
+
+		@Override
+		public long getGaps() {
+			return upstream.getGaps();
+		}
+
+		@Override
+		public long getEstimatedMissedFrames() {
+			return upstream.getEstimatedMissedFrames();
+		}
+
+		@Override
+		public int getEffectiveFrequencyMs() {
+			return upstream.getEffectiveFrequencyMs();
+		}
+
+		@Override
+		public long getFrequencyBackoffs() {
+			return upstream.getFrequencyBackoffs();
+		}
+
+		@Override
+		public long getFrequencyRestores() {
+			return upstream.getFrequencyRestores();
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client-wide token bucket for opening telemetry stream calls (first starts and reconnects), so a
+ * restarting service or a booting application sees a ramp of {@code ratePerSecond} calls instead of
+ * all streams at once. Up to {@code burst} calls pass without waiting.
+ * <p>
+ * Implemented as a generic cell rate algorithm: a start never blocks, it reserves the next free slot
+ * and gets the delay until that slot, which the caller waits out on the stream timer.
+ */
+final class StreamStartLimiter {
+
+	private final long intervalNanos;
+	private final long toleranceNanos;
+	// Guarded by this; theoretical arrival time of the next start
+	private long nextFreeNanos = System.nanoTime();
+
+	/**
+	 * @param ratePerSecond sustained starts per second, {@code <= 0} for no limit
+	 * @param burst         starts allowed at once before pacing kicks in
+	 */
+	StreamStartLimiter(double ratePerSecond, int burst) {
+		this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0L;
+		this.toleranceNanos = intervalNanos * Math.max(0, burst - 1);
+	}
+
+	/**
+	 * Reserves a start slot.
+	 *
+	 * @return milliseconds to wait before starting, 0 to start right away
+	 */
+	long reserve() {
+		return reserve(System.nanoTime());
+	}
+
+	/**
+	 * {@link #reserve()} at {@code now} ({@link System#nanoTime()} scale); called directly by tests.
+	 */
+	long reserve(long now) {
+		if (intervalNanos == 0L) {
+			return 0L;
+		}
+		long slot;
+		synchronized (this) {
+			slot = Math.max(nextFreeNanos, now);
+			nextFreeNanos = slot + intervalNanos;
+		}
+		long waitNanos = slot - toleranceNanos - now;
+		return waitNanos <= 0L ? 0L : TimeUnit.NANOSECONDS.toMillis(waitNanos) + 1;
+	}
+}
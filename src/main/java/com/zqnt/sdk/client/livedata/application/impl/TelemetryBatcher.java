@@ -0,0 +1,117 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Collects delivered items of one stream into micro-batches, closed when {@code maxBatchSize} items
+ * are collected or {@code maxLingerMillis} after the first item, whichever comes first.
+ * <p>
+ * Items are added on the stream's dispatch threads, which only close batches and queue them. Closed
+ * batches are delivered one at a time in closing order on a serial lane of {@code flushExecutor}, so
+ * {@code onBatch} never runs concurrently, batches stay in order even with pooled dispatch, and a
+ * slow bulk write holds up neither the dispatch threads nor other streams. The linger timeout runs
+ * on the shared {@link TelemetryTimer}, so its precision is one timer tick.
+ * Batches still queued when the handle is stopped are discarded.
+ */
+@Slf4j
+class TelemetryBatcher<T> {
+
+	private final int maxBatchSize;
+	private final long maxLingerMillis;
+	private final Consumer<List<T>> onBatch;
+	private final Consumer<Throwable> onError;
+	private final TelemetryTimer timer;
+	private final SerialExecutor delivery;
+	private final TelemetryStreamHandle handle;
+
+	// Guarded by this
+	private ArrayList<T> open;
+	private long generation;
+	private TelemetryTimer.Timeout lingerTimeout;
+
+	TelemetryBatcher(int maxBatchSize, long maxLingerMillis,
+					 Consumer<List<T>> onBatch, Consumer<Throwable> onError,
+					 TelemetryTimer timer, Executor flushExecutor, TelemetryStreamHandle handle) {
+		this.maxBatchSize = maxBatchSize;
+		this.maxLingerMillis = maxLingerMillis;
+		this.onBatch = onBatch;
+		this.onError = onError;
+		this.timer = timer;
+		this.delivery = new SerialExecutor(flushExecutor);
+		this.handle = handle;
+	}
+
+	void add(T item) {
+		if (handle.isStopped()) {
+			return;
+		}
+		synchronized (this) {
+			if (open == null) {
+				open = new ArrayList<>(Math.min(maxBatchSize, 1024));
+				long batch = ++generation;
+				lingerTimeout = timer.schedule(() -> lingerExpired(batch), maxLingerMillis, MILLISECONDS);
+			}
+			open.add(item);
+			if (open.size() >= maxBatchSize) {
+				closeOpenBatch();
+			}
+		}
+	}
+
+	/**
+	 * Delivers everything collected so far, e.g. when the server completes the stream.
+	 */
+	synchronized void flush() {
+		closeOpenBatch();
+	}
+
+	// Runs on the timer thread: only closes the batch, delivery happens on the serial lane
+	private synchronized void lingerExpired(long batch) {
+		if (batch != generation) {
+			// That batch was already closed by size
+			return;
+		}
+		closeOpenBatch();
+	}
+
+	// Caller holds this, so batches are queued in closing order
+	private void closeOpenBatch() {
+		if (open == null) {
+			return;
+		}
+		List<T> batch = open;
+		open = null;
+		if (lingerTimeout != null) {
+			lingerTimeout.cancel();
+			lingerTimeout = null;
+		}
+		try {
+			delivery.execute(() -> deliver(batch));
+		} catch (RejectedExecutionException e) {
+			// Client shut down: nothing will deliver the batch anymore
+			log.debug("Dropping telemetry batch of {} items, client is shut down", batch.size());
+		}
+	}
+
+	private void deliver(List<T> batch) {
+		if (handle.isStopped()) {
+			return;
+		}
+		try {
+			onBatch.accept(batch);
+		} catch (Exception e) {
+			log.error("Error processing telemetry batch: {}", e.getMessage(), e);
+			if (onError != null) {
+				onError.accept(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryGap;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/**
+ * Continuity of one stream's telemetry across reconnects. Remembers the newest telemetry timestamp
+ * and tid delivered per kind (asset, sub-asset). After a reconnect, frames of a kind at or before it
+ * are dropped as replayed by the server, until the first newer frame or {@link #DUPLICATE_WINDOW_MILLIS}
+ * have passed; that first newer frame reports a {@link TelemetryGap} when it is more than
+ * {@link #GAP_TOLERANCE} intervals after the last one.
+ * <p>
+ * Within a call nothing is dropped: frames arrive as the server sends them, and a quiet kind (e.g. a
+ * drone on the ground sending no sub-asset telemetry) is not a loss. Frames without telemetry timestamp
+ * pass untouched. Calls are serialized by this object, since frames of an old and a new call may overlap.
+ */
+class TelemetryContinuity {
+
+	// Intervals between two frames before the span counts as a gap
+	private static final double GAP_TOLERANCE = 2.0;
+	// How long after a reconnect old frames count as replayed, in case the asset clock went back
+	static final long DUPLICATE_WINDOW_MILLIS = 10_000L;
+
+	private final String sn;
+	private final Consumer<TelemetryGap> onGap;
+	private final long[] lastNanos = {Long.MIN_VALUE, Long.MIN_VALUE};
+	private final String[] lastTids = new String[2];
+	private final boolean[] resumed = new boolean[2];
+	private long reconnectedAt;
+
+	TelemetryContinuity(String sn, Consumer<TelemetryGap> onGap) {
+		this.sn = sn;
+		this.onGap = onGap;
+	}
+
+	/**
+	 * A new call replaces one that failed or stalled: drop what it replays and check the next frame of
+	 * each kind for a gap.
+	 */
+	synchronized void onReconnect() {
+		resumed[TelemetryOverlap.ASSET] = true;
+		resumed[TelemetryOverlap.SUB_ASSET] = true;
+		reconnectedAt = System.currentTimeMillis();
+	}
+
+	/**
+	 * @param expectedIntervalMillis expected time between two frames, {@code <= 0} if unknown
+	 * @return false if the frame was already delivered before the reconnect
+	 */
+	boolean admit(LiveDataTelemetryResponse frame, long expectedIntervalMillis) {
+		int kind = TelemetryOverlap.kind(frame);
+		if (kind < 0 || !TelemetryOverlap.hasTimestamp(frame, kind)) {
+			return true;
+		}
+		long nanos = TelemetryOverlap.timestampNanos(frame, kind);
+		TelemetryGap gap = null;
+		synchronized (this) {
+			long last = lastNanos[kind];
+			if (resumed[kind] && last != Long.MIN_VALUE) {
+				if (nanos <= last) {
+					if (System.currentTimeMillis() - reconnectedAt < DUPLICATE_WINDOW_MILLIS) {
+						return false;
+					}
+				} else if (expectedIntervalMillis > 0) {
+					long intervalNanos = expectedIntervalMillis * 1_000_000L;
+					long spanNanos = nanos - last;
+					if (spanNanos > intervalNanos * GAP_TOLERANCE) {
+						gap = new TelemetryGap(sn,
+								kind == TelemetryOverlap.ASSET ? TelemetryGap.Kind.ASSET : TelemetryGap.Kind.SUB_ASSET,
+								toInstant(last), toInstant(nanos),
+								Math.max(0L, Math.round((double) spanNanos / intervalNanos) - 1),
+								lastTids[kind]);
+					}
+				}
+			}
+			resumed[kind] = false;
+			if (nanos > last) {
+				lastNanos[kind] = nanos;
+				lastTids[kind] = frame.getTid();
+			}
+		}
+		if (gap != null) {
+			onGap.accept(gap);
+		}
+		return true;
+	}
+
+	private static Instant toInstant(long epochNanos) {
+		return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+	}
+}
@@ -0,0 +1,90 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import io.grpc.stub.ClientCallStreamObserver;
+
+/**
+ * Translates downstream demand ({@code request(n)}) into gRPC inbound flow control for a stream
+ * whose calls run with auto-request disabled. The server is never asked for more frames than the
+ * subscriber requested, across reconnects: each new call is granted the demand that is still open.
+ */
+class TelemetryDemand {
+
+	private long requested;
+	private long received;
+	// Frames asked from the current call and not received yet
+	private int callCredit;
+	private ClientCallStreamObserver<?> call;
+
+	/**
+	 * Adds downstream demand; {@code Long.MAX_VALUE} means unbounded.
+	 */
+	synchronized void request(long n) {
+		requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+		topUp();
+	}
+
+	/**
+	 * @return the credit for a call about to start (see {@code disableAutoRequestWithInitial})
+	 */
+	synchronized int initialRequest() {
+		call = null;
+		callCredit = open();
+		return callCredit;
+	}
+
+	/**
+	 * Attaches a started call and grants demand that arrived while it was starting.
+	 */
+	synchronized void attach(ClientCallStreamObserver<?> startedCall) {
+		call = startedCall;
+		topUp();
+	}
+
+	synchronized void detach(ClientCallStreamObserver<?> endedCall) {
+		if (call == endedCall) {
+			call = null;
+		}
+	}
+
+	synchronized void onReceived() {
+		received++;
+		if (callCredit > 0) {
+			callCredit--;
+		}
+		if (callCredit == 0) {
+			topUp();
+		}
+	}
+
+	/**
+	 * Gives back the demand of a received frame that will not be delivered (e.g. suppressed by a deadband).
+	 */
+	synchronized void release() {
+		if (received > 0) {
+			received--;
+		}
+		topUp();
+	}
+
+	/**
+	 * @return true if the subscriber has no open demand, i.e. silence is backpressure, not a dead stream
+	 */
+	synchronized boolean isPaused() {
+		return open() == 0;
+	}
+
+	private int open() {
+		return (int) Math.min(Integer.MAX_VALUE, Math.max(0L, requested - received));
+	}
+
+	private void topUp() {
+		if (call == null) {
+			return;
+		}
+		int open = open();
+		if (open > callCredit) {
+			call.request(open - callCredit);
+			callCredit = open;
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Frames of a stream fed by a replay between {@link TelemetryStream#dispatch} and the end of their
+ * processing (or their drop by the stream buffer), so the replay ends the stream only once every
+ * frame it handed over went through.
+ */
+final class TelemetryDrain {
+
+	private final AtomicLong pending = new AtomicLong();
+	private final CompletableFuture<Void> drained = new CompletableFuture<>();
+	private volatile boolean inputEnded;
+
+	void onDispatched() {
+		pending.incrementAndGet();
+	}
+
+	void onDone() {
+		if (pending.decrementAndGet() == 0 && inputEnded) {
+			drained.complete(null);
+		}
+	}
+
+	/**
+	 * No frame follows anymore.
+	 *
+	 * @return completes once the frames dispatched before went through
+	 */
+	CompletableFuture<Void> endInput() {
+		inputEnded = true;
+		if (pending.get() == 0) {
+			drained.complete(null);
+		}
+		return drained;
+	}
+}
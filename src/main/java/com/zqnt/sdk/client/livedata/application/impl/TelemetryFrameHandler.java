@@ -0,0 +1,31 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+/**
+ * Turns a raw telemetry frame into whatever the subscriber asked for (POJO, view, ...) and hands it over.
+ * Always invoked on the stream's dispatch executor, never on the gRPC inbound thread.
+ * Exceptions are reported to the stream's error callback by the caller.
+ */
+interface TelemetryFrameHandler {
+
+	void onFrame(LiveDataTelemetryResponse frame);
+
+	/**
+	 * {@link #onFrame} with latency tracking: records the whole call as consumer time. Handlers that
+	 * map frames override it to record mapping and consumer time separately.
+	 */
+	default void onFrame(LiveDataTelemetryResponse frame, TelemetryLatencyMonitorImpl.SnLatency latency) {
+		long startedAt = System.nanoTime();
+		onFrame(frame);
+		latency.record(TelemetryLatencyStage.CONSUMER, System.nanoTime() - startedAt);
+	}
+
+	/**
+	 * Delivers the SN's last known state on subscribe. Handlers that do not consume POJOs ignore it.
+	 */
+	default void replay(TelemetrySnapshot snapshot) {
+	}
+}
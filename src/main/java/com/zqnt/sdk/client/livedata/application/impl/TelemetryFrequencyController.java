@@ -0,0 +1,228 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryAdaptiveFrequency;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * Adaptive {@code frequencyMs} of one {@link TelemetryStream}, see {@link TelemetryAdaptiveFrequency}.
+ * <p>
+ * The stream reports frames entering and leaving its pipeline; the per-frame cost is an atomic
+ * counter, two {@link System#nanoTime()} calls and, for asset frames, a look at the network
+ * information. Decisions run on the shared {@link TelemetryTimer} every evaluation interval, and at
+ * most one frequency switch is in flight at a time.
+ */
+@Slf4j
+class TelemetryFrequencyController {
+
+	// Weight of the newest processing time in its EWMA
+	private static final double PROCESSING_EWMA_ALPHA = 0.125;
+	// Network information older than this is ignored
+	private static final long NETWORK_INFO_MAX_AGE_MILLIS = 60_000L;
+
+	private final TelemetryAdaptiveFrequency policy;
+	private final String sn;
+	private final TelemetryTimer timer;
+	private final TelemetryStreamStatistics statistics;
+	// Applies a frequency make-before-break
+	private final IntFunction<CompletableFuture<Void>> switcher;
+	private final AtomicInteger queued = new AtomicInteger();
+
+	private volatile double processingEwmaNanos;
+	private volatile int networkQuality = -1;
+	private volatile float networkRate = -1f;
+	private volatile long networkSeenAt;
+
+	// Only touched by evaluate() and rebase(), which synchronize on this
+	private int requestedFrequencyMs;
+	private int frequencyMs;
+	private long headroomSince;
+	// The backlog of the previous frequency needs time to drain before the signals mean anything again
+	private long settledAt;
+	private CompletableFuture<Void> inFlight;
+	private volatile TelemetryTimer.Timeout evaluation;
+	private volatile boolean stopped;
+
+	TelemetryFrequencyController(TelemetryAdaptiveFrequency policy, String sn, int frequencyMs,
+								 TelemetryTimer timer, TelemetryStreamStatistics statistics,
+								 IntFunction<CompletableFuture<Void>> switcher) {
+		this.policy = policy;
+		this.sn = sn;
+		this.requestedFrequencyMs = frequencyMs;
+		this.frequencyMs = frequencyMs;
+		this.timer = timer;
+		this.statistics = statistics;
+		this.switcher = switcher;
+		statistics.setEffectiveFrequencyMs(frequencyMs);
+	}
+
+	void start() {
+		schedule();
+	}
+
+	void stop() {
+		stopped = true;
+		TelemetryTimer.Timeout e = evaluation;
+		if (e != null) {
+			e.cancel();
+		}
+	}
+
+	/**
+	 * A frame was handed to the dispatch executor or stream buffer.
+	 */
+	void onQueued() {
+		queued.incrementAndGet();
+	}
+
+	/**
+	 * A frame left the pipeline after {@code nanos} of processing (0 if it was discarded).
+	 */
+	void onProcessed(LiveDataTelemetryResponse frame, long nanos) {
+		queued.decrementAndGet();
+		if (nanos > 0) {
+			double ewma = processingEwmaNanos;
+			processingEwmaNanos = ewma == 0.0 ? nanos : ewma + PROCESSING_EWMA_ALPHA * (nanos - ewma);
+		}
+		if (frame.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.ASSETTELEMETRY
+				&& frame.getAssetTelemetry().hasNetworkInformation()) {
+			var network = frame.getAssetTelemetry().getNetworkInformation();
+			networkQuality = parseQuality(network.getQuality());
+			networkRate = network.getRate();
+			networkSeenAt = System.currentTimeMillis();
+		}
+	}
+
+	/**
+	 * A frame was dropped by the stream buffer before processing.
+	 */
+	void onDropped() {
+		queued.decrementAndGet();
+	}
+
+	/**
+	 * The client asked for another frequency: that becomes the frequency to restore to.
+	 */
+	synchronized void rebase(int frequencyMs) {
+		this.requestedFrequencyMs = frequencyMs;
+		this.frequencyMs = frequencyMs;
+		this.headroomSince = 0L;
+		statistics.setEffectiveFrequencyMs(frequencyMs);
+	}
+
+	private void schedule() {
+		if (stopped) {
+			return;
+		}
+		evaluation = timer.schedule(this::evaluate, Math.max(100L, policy.getEvaluationIntervalMillis()), MILLISECONDS);
+	}
+
+	private void evaluate() {
+		try {
+			evaluate(System.currentTimeMillis());
+		} catch (Exception e) {
+			log.warn("Adaptive frequency evaluation failed for SN {}: {}", sn, e.getMessage());
+		} finally {
+			schedule();
+		}
+	}
+
+	/**
+	 * One evaluation of the signals at {@code nowMillis}; runs on the timer, called directly by tests.
+	 */
+	synchronized void evaluate(long nowMillis) {
+		if ((inFlight != null && !inFlight.isDone()) || nowMillis < settledAt) {
+			return;
+		}
+		int depth = queued.get();
+		double utilization = frequencyMs > 0 ? processingEwmaNanos / 1_000_000.0 / frequencyMs : 0.0;
+		boolean networkKnown = nowMillis - networkSeenAt < NETWORK_INFO_MAX_AGE_MILLIS;
+		boolean poorLink = networkKnown
+				&& ((policy.getMinNetworkQuality() > 0 && networkQuality >= 0 && networkQuality < policy.getMinNetworkQuality())
+				|| (policy.getMinNetworkRate() > 0 && networkRate >= 0 && networkRate < policy.getMinNetworkRate()));
+		boolean behind = (policy.getMaxQueueDepth() > 0 && depth > policy.getMaxQueueDepth())
+				|| (policy.getMaxUtilization() > 0 && utilization > policy.getMaxUtilization());
+
+		if (behind || poorLink) {
+			headroomSince = 0L;
+			int next = (int) Math.min(policy.getMaxFrequencyMs(), Math.ceil(frequencyMs * backoffFactor()));
+			if (next > frequencyMs) {
+				log.info("Backing off telemetry for SN {} from {}ms to {}ms (queued {}, utilization {}, link {})",
+						sn, frequencyMs, next, depth, String.format("%.2f", utilization), poorLink ? "poor" : "ok");
+				apply(next, true);
+			}
+			return;
+		}
+		if (frequencyMs <= requestedFrequencyMs) {
+			headroomSince = 0L;
+			return;
+		}
+		// Headroom: well below both thresholds, so a restore step does not immediately back off again
+		boolean headroom = (policy.getMaxQueueDepth() <= 0 || depth <= policy.getMaxQueueDepth() / 4)
+				&& (policy.getMaxUtilization() <= 0 || utilization * backoffFactor() < policy.getMaxUtilization());
+		if (!headroom) {
+			headroomSince = 0L;
+			return;
+		}
+		if (headroomSince == 0L) {
+			headroomSince = nowMillis;
+		}
+		if (nowMillis - headroomSince >= policy.getRestoreAfterMillis()) {
+			headroomSince = 0L;
+			int next = (int) Math.max(requestedFrequencyMs, Math.floor(frequencyMs / backoffFactor()));
+			log.info("Restoring telemetry for SN {} from {}ms to {}ms", sn, frequencyMs, next);
+			apply(next, false);
+		}
+	}
+
+	// Caller holds this
+	private void apply(int next, boolean backoff) {
+		int previous = frequencyMs;
+		frequencyMs = next;
+		settledAt = System.currentTimeMillis() + 2 * Math.max(100L, policy.getEvaluationIntervalMillis());
+		statistics.setEffectiveFrequencyMs(next);
+		if (backoff) {
+			statistics.recordFrequencyBackoff();
+		} else {
+			statistics.recordFrequencyRestore();
+		}
+		CompletableFuture<Void> switched = switcher.apply(next);
+		inFlight = switched;
+		switched.whenComplete((ignored, error) -> {
+			if (error == null) {
+				return;
+			}
+			log.warn("Could not switch telemetry for SN {} to {}ms, staying at {}ms: {}", sn, next, previous, error.getMessage());
+			synchronized (this) {
+				if (frequencyMs == next) {
+					frequencyMs = previous;
+					statistics.setEffectiveFrequencyMs(previous);
+				}
+			}
+		});
+	}
+
+	private double backoffFactor() {
+		return Math.max(1.1, policy.getBackoffFactor());
+	}
+
+	/**
+	 * The asset reports its link quality as the level {@code "0"} (no signal), {@code "1"} (bad),
+	 * {@code "2"} (poor), {@code "3"} (fair), {@code "4"} (good) or {@code "5"} (excellent).
+	 *
+	 * @return the level, -1 for anything else, which leaves quality out of the decision
+	 */
+	static int parseQuality(String quality) {
+		if (quality == null || quality.length() != 1) {
+			return -1;
+		}
+		char level = quality.charAt(0);
+		return level >= '0' && level <= '5' ? level - '0' : -1;
+	}
+}
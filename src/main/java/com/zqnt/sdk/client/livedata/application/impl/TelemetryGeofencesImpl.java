@@ -0,0 +1,300 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.application.TelemetryGeofences;
+import com.zqnt.sdk.client.livedata.domains.GeofenceEvent;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import com.zqnt.utils.missionautonomy.domains.MissionDTO;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link TelemetryGeofences} over an immutable {@link GeofenceRTree}, replaced as a whole when
+ * geofences change. Each sub-asset frame costs one tree descent plus point-in-polygon tests for
+ * the polygons whose boxes contain the drone, and no allocation unless the drone crossed a border.
+ * Frames at the drone's previous position against the same geofences are skipped outright.
+ */
+@Slf4j
+class TelemetryGeofencesImpl implements TelemetryGeofences {
+
+	private final Object writeLock = new Object();
+	// Replaced under writeLock, never modified
+	private volatile Index index = Index.EMPTY;
+	private final ConcurrentHashMap<String, Tracked> tracked = new ConcurrentHashMap<>();
+	private volatile Consumer<GeofenceEvent> listener;
+
+	@Override
+	public void addMission(String missionId, MissionDTO mission) {
+		if (mission == null || mission.getGeoJson() == null) {
+			throw new IllegalArgumentException("Mission " + missionId + " has no GeoJSON");
+		}
+		add(missionId, mission.getGeoJson());
+	}
+
+	@Override
+	public void add(String geofenceId, String geoJson) {
+		if (geofenceId == null || geofenceId.isEmpty()) {
+			throw new IllegalArgumentException("Geofence id must not be empty");
+		}
+		List<GeofencePolygon> polygons = GeofencePolygon.parse(geofenceId, geoJson);
+		synchronized (writeLock) {
+			Map<String, List<GeofencePolygon>> byId = new HashMap<>(index.byId);
+			byId.put(geofenceId, polygons);
+			index = new Index(byId);
+		}
+		log.info("Added geofence {} ({} polygons)", geofenceId, polygons.size());
+	}
+
+	@Override
+	public void remove(String geofenceId) {
+		synchronized (writeLock) {
+			if (!index.byId.containsKey(geofenceId)) {
+				return;
+			}
+			Map<String, List<GeofencePolygon>> byId = new HashMap<>(index.byId);
+			byId.remove(geofenceId);
+			index = new Index(byId);
+		}
+		// Drones forget the geofence and the old tree; drones inside no geofence anymore are dropped
+		tracked.forEach((subAssetId, drone) -> {
+			synchronized (drone) {
+				drone.index = null;
+				if (Arrays.binarySearch(drone.inside, geofenceId) >= 0) {
+					drone.inside = Arrays.stream(drone.inside).filter(id -> !id.equals(geofenceId)).toArray(String[]::new);
+				}
+				if (drone.inside.length == 0) {
+					drone.removed = true;
+					tracked.remove(subAssetId, drone);
+				}
+			}
+		});
+	}
+
+	@Override
+	public void clear() {
+		synchronized (writeLock) {
+			index = Index.EMPTY;
+		}
+		tracked.forEach((subAssetId, drone) -> {
+			synchronized (drone) {
+				drone.removed = true;
+				tracked.remove(subAssetId, drone);
+			}
+		});
+	}
+
+	@Override
+	public Set<String> ids() {
+		return index.byId.keySet();
+	}
+
+	@Override
+	public List<String> containing(double latitude, double longitude) {
+		Index current = index;
+		GeofenceRTree.Hits hits = new GeofenceRTree.Hits();
+		String[] ids = new String[current.byId.size()];
+		int n = current.containing(longitude, latitude, hits, ids);
+		return List.of(Arrays.copyOf(ids, n));
+	}
+
+	@Override
+	public Set<String> insideOf(String subAssetId) {
+		Tracked drone = tracked.get(subAssetId);
+		if (drone == null) {
+			return Set.of();
+		}
+		Index current = index;
+		String[] inside;
+		synchronized (drone) {
+			inside = drone.inside;
+		}
+		// Geofences removed since the last frame no longer count
+		return Set.of(Arrays.stream(inside).filter(current.byId::containsKey).toArray(String[]::new));
+	}
+
+	@Override
+	public void setListener(Consumer<GeofenceEvent> listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * Evaluates the drone position of a sub-asset frame and emits enter and exit events.
+	 * Runs on the stream's dispatch executor; under POOLED dispatch frames of one drone may arrive
+	 * out of order, so frames older than the last evaluated one are ignored and events are delivered
+	 * while the drone is locked, in the order of its positions.
+	 */
+	void update(LiveDataTelemetryResponse frame) {
+		if (frame.getTelemetryCase() != LiveDataTelemetryResponse.TelemetryCase.SUBASSETTELEMETRY || index.tree.isEmpty()) {
+			return;
+		}
+		var telemetry = frame.getSubAssetTelemetry();
+		double latitude = telemetry.getLatitude();
+		double longitude = telemetry.getLongitude();
+		if (!telemetry.hasLatitude() || !telemetry.hasLongitude() || (latitude == 0 && longitude == 0)) {
+			// No fix: keep the last known state
+			return;
+		}
+		String subAssetId = TelemetrySpatialIndexImpl.subAssetId(frame);
+		while (true) {
+			Tracked drone = tracked.computeIfAbsent(subAssetId, k -> new Tracked());
+			if (update(drone, subAssetId, frame, latitude, longitude)) {
+				return;
+			}
+			// Dropped by remove() or clear() meanwhile: track it anew
+		}
+	}
+
+	/**
+	 * @return false if the drone was dropped before its lock was taken
+	 */
+	private boolean update(Tracked drone, String subAssetId, LiveDataTelemetryResponse frame, double latitude, double longitude) {
+		var telemetry = frame.getSubAssetTelemetry();
+		synchronized (drone) {
+			if (drone.removed) {
+				return false;
+			}
+			if (telemetry.hasTimestamp()) {
+				long nanos = TelemetryOverlap.timestampNanos(frame, TelemetryOverlap.SUB_ASSET);
+				if (nanos < drone.timestampNanos) {
+					return true;
+				}
+				drone.timestampNanos = nanos;
+			}
+			Index current = index;
+			if (current == drone.index && latitude == drone.latitude && longitude == drone.longitude) {
+				return true;
+			}
+			drone.index = current;
+			drone.latitude = latitude;
+			drone.longitude = longitude;
+			if (drone.scratch.length < current.byId.size()) {
+				drone.scratch = new String[current.byId.size()];
+			}
+			int n = current.containing(longitude, latitude, drone.hits, drone.scratch);
+			if (sameIds(drone.inside, drone.scratch, n)) {
+				return true;
+			}
+			Instant timestamp = toInstant(telemetry.getTimestamp());
+			String[] now = Arrays.copyOf(drone.scratch, n);
+			String[] before = drone.inside;
+			drone.inside = now;
+			Consumer<GeofenceEvent> l = listener;
+			if (l == null) {
+				return true;
+			}
+			for (String id : before) {
+				// A geofence removed meanwhile was not left
+				if (Arrays.binarySearch(now, id) < 0 && current.byId.containsKey(id)) {
+					emit(l, new GeofenceEvent(id, subAssetId, frame.getSn(), GeofenceEvent.Type.EXIT,
+							latitude, longitude, timestamp));
+				}
+			}
+			for (String id : now) {
+				if (Arrays.binarySearch(before, id) < 0) {
+					emit(l, new GeofenceEvent(id, subAssetId, frame.getSn(), GeofenceEvent.Type.ENTER,
+							latitude, longitude, timestamp));
+				}
+			}
+			return true;
+		}
+	}
+
+	private static void emit(Consumer<GeofenceEvent> listener, GeofenceEvent event) {
+		try {
+			listener.accept(event);
+		} catch (Exception e) {
+			log.error("Error in geofence listener: {}", e.getMessage(), e);
+		}
+	}
+
+	private static boolean sameIds(String[] inside, String[] ids, int n) {
+		if (inside.length != n) {
+			return false;
+		}
+		for (int i = 0; i < n; i++) {
+			if (!inside[i].equals(ids[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Instant toInstant(Timestamp timestamp) {
+		return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+	}
+
+	/**
+	 * The geofences and their tree at one point in time.
+	 */
+	private static final class Index {
+
+		static final Index EMPTY = new Index(Map.of());
+
+		final Map<String, List<GeofencePolygon>> byId;
+		final GeofenceRTree tree;
+
+		Index(Map<String, List<GeofencePolygon>> byId) {
+			this.byId = Map.copyOf(byId);
+			List<GeofencePolygon> polygons = new ArrayList<>();
+			byId.values().forEach(polygons::addAll);
+			this.tree = polygons.isEmpty() ? GeofenceRTree.EMPTY : new GeofenceRTree(polygons);
+		}
+
+		/**
+		 * Writes the sorted ids of the geofences containing the point to {@code ids}.
+		 *
+		 * @return number of ids written
+		 */
+		int containing(double lon, double lat, GeofenceRTree.Hits hits, String[] ids) {
+			hits.clear();
+			tree.search(lon, lat, hits);
+			int n = 0;
+			for (int i = 0; i < hits.size(); i++) {
+				GeofencePolygon polygon = tree.polygon(hits.get(i));
+				if (!contains(ids, n, polygon.geofenceId) && polygon.contains(lon, lat)) {
+					ids[n++] = polygon.geofenceId;
+				}
+			}
+			if (n > 1) {
+				Arrays.sort(ids, 0, n);
+			}
+			return n;
+		}
+
+		private static boolean contains(String[] ids, int n, String id) {
+			for (int i = 0; i < n; i++) {
+				if (ids[i].equals(id)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+
+	/**
+	 * Last evaluated position of one drone and the geofences it was inside. Guarded by this.
+	 */
+	private static final class Tracked {
+
+		private final GeofenceRTree.Hits hits = new GeofenceRTree.Hits();
+		// Dropped from tracked by remove() or clear()
+		private boolean removed;
+		// Telemetry timestamp of the last evaluated frame
+		private long timestampNanos = Long.MIN_VALUE;
+		// Index the position was evaluated against, null after a geofence was removed
+		private Index index;
+		private double latitude;
+		private double longitude;
+		private String[] inside = new String[0];
+		private String[] scratch = new String[0];
+	}
+}
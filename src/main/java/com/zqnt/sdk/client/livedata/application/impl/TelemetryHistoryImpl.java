@@ -0,0 +1,192 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.application.TelemetryHistory;
+import com.zqnt.sdk.client.livedata.domains.TelemetryHistoryField;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySeries;
+import com.zqnt.sdk.client.livedata.domains.TelemetryView;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * {@link TelemetryHistory} with one {@link TelemetryRing} per SN and kind. Samples are read straight
+ * from the protobuf frame through a {@link TelemetryView}, so recording allocates nothing per frame.
+ */
+public class TelemetryHistoryImpl implements TelemetryHistory {
+
+	private static final ThreadLocal<TelemetryView> VIEW = ThreadLocal.withInitial(TelemetryView::new);
+
+	private final int capacity;
+	private final ConcurrentHashMap<String, SnRings> rings = new ConcurrentHashMap<>();
+
+	TelemetryHistoryImpl(int capacity) {
+		this.capacity = Math.max(0, capacity);
+	}
+
+	/**
+	 * Records the position, altitude, speed, heading and battery values of an asset or sub-asset frame.
+	 * Frames without any of these values (e.g. errors) are skipped. Called once per received frame,
+	 * on the gRPC thread.
+	 */
+	void record(LiveDataTelemetryResponse frame) {
+		if (capacity == 0 || frame == null || frame.getSn().isEmpty()) {
+			return;
+		}
+		int kind = TelemetryOverlap.kind(frame);
+		if (kind < 0) {
+			return;
+		}
+		TelemetryView view = VIEW.get().wrap(frame);
+		try {
+			int mask = 0;
+			if (view.hasLatitude()) {
+				mask |= TelemetryHistoryField.LATITUDE.mask();
+			}
+			if (view.hasLongitude()) {
+				mask |= TelemetryHistoryField.LONGITUDE.mask();
+			}
+			if (view.hasAbsoluteAltitude()) {
+				mask |= TelemetryHistoryField.ABSOLUTE_ALTITUDE.mask();
+			}
+			if (view.hasRelativeAltitude()) {
+				mask |= TelemetryHistoryField.RELATIVE_ALTITUDE.mask();
+			}
+			if (view.hasHorizontalSpeed()) {
+				mask |= TelemetryHistoryField.HORIZONTAL_SPEED.mask();
+			}
+			if (view.hasVerticalSpeed()) {
+				mask |= TelemetryHistoryField.VERTICAL_SPEED.mask();
+			}
+			if (view.hasHeading()) {
+				mask |= TelemetryHistoryField.HEADING.mask();
+			}
+			// A dock reports the charge of the docked drone, a drone its own battery
+			double battery = view.isAssetTelemetry()
+					? (view.hasSubAssetPercentage() ? view.getSubAssetPercentage() : Double.NaN)
+					: view.getBatteryPercentage();
+			if (!Double.isNaN(battery)) {
+				mask |= TelemetryHistoryField.BATTERY_PERCENTAGE.mask();
+			}
+			if (mask == 0) {
+				return;
+			}
+
+			// Telemetry timestamp when the asset sent one, server timestamp otherwise
+			long timestampNanos = view.getTelemetryTimestampEpochNanos();
+			if (timestampNanos == 0L) {
+				timestampNanos = view.getTimestampEpochNanos();
+			}
+
+			rings.computeIfAbsent(frame.getSn(), sn -> new SnRings()).ring(kind, capacity).append(
+					timestampNanos / 1_000_000L, mask,
+					view.getLatitude(), view.getLongitude(),
+					view.getAbsoluteAltitude(), view.getRelativeAltitude(),
+					view.getHorizontalSpeed(), view.getVerticalSpeed(),
+					view.getHeading(), battery);
+		} finally {
+			view.wrap(null);
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return capacity > 0;
+	}
+
+	@Override
+	public int getCapacity() {
+		return capacity;
+	}
+
+	@Override
+	public TelemetrySeries query(String sn, TelemetrySeries.Kind kind, Instant from, Instant to) {
+		TelemetryRing ring = ring(sn, kind);
+		if (ring == null) {
+			return TelemetrySeries.empty(sn, kind);
+		}
+		long fromMillis = from != null ? from.toEpochMilli() : Long.MIN_VALUE;
+		long toMillis = to != null ? to.toEpochMilli() : Long.MAX_VALUE;
+		return ring.copyRange(sn, kind, fromMillis, toMillis);
+	}
+
+	@Override
+	public TelemetrySeries getAll(String sn, TelemetrySeries.Kind kind) {
+		TelemetryRing ring = ring(sn, kind);
+		return ring != null ? ring.copyAll(sn, kind) : TelemetrySeries.empty(sn, kind);
+	}
+
+	@Override
+	public int size(String sn, TelemetrySeries.Kind kind) {
+		TelemetryRing ring = ring(sn, kind);
+		return ring != null ? ring.size() : 0;
+	}
+
+	@Override
+	public Set<String> getSns() {
+		return Set.copyOf(rings.keySet());
+	}
+
+	@Override
+	public long getBytesPerRing() {
+		return (long) capacity * TelemetryRing.BYTES_PER_SAMPLE;
+	}
+
+	@Override
+	public long getEstimatedMemoryBytes() {
+		long count = 0;
+		for (SnRings sn : rings.values()) {
+			count += sn.count();
+		}
+		return count * getBytesPerRing();
+	}
+
+	@Override
+	public void remove(String sn) {
+		if (sn != null) {
+			rings.remove(sn);
+		}
+	}
+
+	@Override
+	public void clear() {
+		rings.clear();
+	}
+
+	private TelemetryRing ring(String sn, TelemetrySeries.Kind kind) {
+		SnRings snRings = sn != null && kind != null ? rings.get(sn) : null;
+		return snRings != null ? snRings.get(kind) : null;
+	}
+
+	/**
+	 * The rings of one SN, indexed by {@link TelemetryOverlap#kind} (the order of {@link TelemetrySeries.Kind}),
+	 * each allocated on its first sample.
+	 */
+	private static final class SnRings {
+
+		private final AtomicReferenceArray<TelemetryRing> byKind = new AtomicReferenceArray<>(2);
+
+		TelemetryRing ring(int kind, int capacity) {
+			TelemetryRing ring = byKind.get(kind);
+			if (ring != null) {
+				return ring;
+			}
+			synchronized (this) {
+				if (byKind.get(kind) == null) {
+					byKind.set(kind, new TelemetryRing(capacity));
+				}
+				return byKind.get(kind);
+			}
+		}
+
+		TelemetryRing get(TelemetrySeries.Kind kind) {
+			return byKind.get(kind.ordinal());
+		}
+
+		int count() {
+			return (byKind.get(0) != null ? 1 : 0) + (byKind.get(1) != null ? 1 : 0);
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.application.TelemetryLatencyMonitor;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencySnapshot;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link TelemetryLatencyMonitor} fed by the telemetry streams. Each stream looks up its SN's
+ * {@link SnLatency} once; recording a stage then costs two histogram updates (SN and overall).
+ */
+class TelemetryLatencyMonitorImpl implements TelemetryLatencyMonitor {
+
+	private static final TelemetryLatencyStage[] STAGES = TelemetryLatencyStage.values();
+
+	private final boolean enabled;
+	private final ConcurrentHashMap<String, SnLatency> bySn = new ConcurrentHashMap<>();
+	private final LatencyHistogram[] overall = newHistograms();
+
+	TelemetryLatencyMonitorImpl(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @return the SN's recorder, or {@code null} when latency tracking is disabled
+	 */
+	SnLatency forSn(String sn) {
+		return enabled ? bySn.computeIfAbsent(sn, k -> new SnLatency()) : null;
+	}
+
+	@Override
+	public TelemetryLatencySnapshot get(String sn, TelemetryLatencyStage stage) {
+		SnLatency latency = bySn.get(sn);
+		return latency != null ? latency.histograms[stage.ordinal()].snapshot() : null;
+	}
+
+	@Override
+	public TelemetryLatencySnapshot overall(TelemetryLatencyStage stage) {
+		return overall[stage.ordinal()].snapshot();
+	}
+
+	@Override
+	public long getClockOffsetMillis(String sn) {
+		SnLatency latency = bySn.get(sn);
+		return latency != null ? latency.clockOffsetMillis() : 0L;
+	}
+
+	@Override
+	public Set<String> sns() {
+		return Collections.unmodifiableSet(bySn.keySet());
+	}
+
+	@Override
+	public void remove(String sn) {
+		bySn.remove(sn);
+	}
+
+	@Override
+	public void reset() {
+		bySn.values().forEach(latency -> {
+			for (LatencyHistogram histogram : latency.histograms) {
+				histogram.reset();
+			}
+		});
+		for (LatencyHistogram histogram : overall) {
+			histogram.reset();
+		}
+	}
+
+	private static LatencyHistogram[] newHistograms() {
+		LatencyHistogram[] histograms = new LatencyHistogram[STAGES.length];
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i] = new LatencyHistogram();
+		}
+		return histograms;
+	}
+
+	/**
+	 * Histograms of one SN, plus its clock offset estimate.
+	 * <p>
+	 * Without a round trip, one-way delay and clock offset cannot be told apart. The offset is
+	 * estimated as the smallest raw delay (receipt - server timestamp) of the current and the previous
+	 * window, the way NTP trusts its minimum-delay sample; network latency is the raw delay above it.
+	 * Two windows let the estimate follow clock drift without forgetting the minimum at every rollover.
+	 */
+	final class SnLatency {
+
+		private static final long OFFSET_WINDOW_MILLIS = 60_000L;
+
+		private final LatencyHistogram[] histograms = newHistograms();
+		// Guarded by this
+		private long windowStartedAt;
+		private long windowMinMillis = Long.MAX_VALUE;
+		private long previousWindowMinMillis = Long.MAX_VALUE;
+
+		void record(TelemetryLatencyStage stage, long nanos) {
+			histograms[stage.ordinal()].recordNanos(nanos);
+			overall[stage.ordinal()].recordNanos(nanos);
+		}
+
+		/**
+		 * @param serverEpochMillis server timestamp of the frame
+		 * @param receivedAtMillis  local receipt time
+		 */
+		void recordNetwork(long serverEpochMillis, long receivedAtMillis) {
+			long raw = receivedAtMillis - serverEpochMillis;
+			long offset;
+			synchronized (this) {
+				if (receivedAtMillis - windowStartedAt >= OFFSET_WINDOW_MILLIS) {
+					previousWindowMinMillis = windowMinMillis;
+					windowMinMillis = Long.MAX_VALUE;
+					windowStartedAt = receivedAtMillis;
+				}
+				windowMinMillis = Math.min(windowMinMillis, raw);
+				offset = Math.min(windowMinMillis, previousWindowMinMillis);
+			}
+			long micros = (raw - offset) * 1_000L;
+			histograms[TelemetryLatencyStage.NETWORK.ordinal()].recordMicros(micros);
+			overall[TelemetryLatencyStage.NETWORK.ordinal()].recordMicros(micros);
+		}
+
+		synchronized long clockOffsetMillis() {
+			long offset = Math.min(windowMinMillis, previousWindowMinMillis);
+			return offset == Long.MAX_VALUE ? 0L : offset;
+		}
+	}
+}
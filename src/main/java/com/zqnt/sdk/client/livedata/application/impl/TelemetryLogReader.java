@@ -0,0 +1,85 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Sequential reader over the segment files written by {@link TelemetryRecorderImpl}, in segment order.
+ * Not thread-safe; used by a single replay thread.
+ */
+class TelemetryLogReader {
+
+	private final List<Path> segments;
+	private int nextSegment;
+	private MappedByteBuffer segment;
+	private long receivedAtMillis;
+
+	TelemetryLogReader(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			this.segments = files.filter(TelemetryRecorderImpl::isSegmentFile).sorted().toList();
+		}
+		if (segments.isEmpty()) {
+			throw new IOException("No telemetry recording found in " + directory);
+		}
+	}
+
+	/**
+	 * @return the next recorded frame, or {@code null} at the end of the recording
+	 */
+	LiveDataTelemetryResponse next() throws IOException {
+		while (true) {
+			if (segment == null && !openNextSegment()) {
+				return null;
+			}
+			if (segment.remaining() >= TelemetryRecorderImpl.RECORD_HEADER_BYTES) {
+				int start = segment.position();
+				int length = segment.getInt(start);
+				// 0 = end of written records (zero-filled tail or segment of a recording still in progress)
+				if (length > 0 && length <= segment.remaining() - TelemetryRecorderImpl.RECORD_HEADER_BYTES) {
+					receivedAtMillis = segment.getLong(start + Integer.BYTES);
+					int payload = start + TelemetryRecorderImpl.RECORD_HEADER_BYTES;
+					LiveDataTelemetryResponse frame = LiveDataTelemetryResponse.parseFrom(segment.slice(payload, length));
+					segment.position(payload + length);
+					return frame;
+				}
+			}
+			segment = null;
+		}
+	}
+
+	/**
+	 * @return receive timestamp of the frame last returned by {@link #next()}
+	 */
+	long receivedAtMillis() {
+		return receivedAtMillis;
+	}
+
+	private boolean openNextSegment() throws IOException {
+		if (nextSegment >= segments.size()) {
+			return false;
+		}
+		Path file = segments.get(nextSegment++);
+		if (!Files.exists(file)) {
+			// Deleted by the retention of a recording still in progress
+			return openNextSegment();
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.remaining() < TelemetryRecorderImpl.SEGMENT_HEADER_BYTES
+					|| buffer.getInt() != TelemetryRecorderImpl.MAGIC
+					|| buffer.getInt() != TelemetryRecorderImpl.VERSION) {
+				throw new IOException("Not a telemetry recording segment: " + file);
+			}
+			segment = buffer;
+		}
+		return true;
+	}
+}
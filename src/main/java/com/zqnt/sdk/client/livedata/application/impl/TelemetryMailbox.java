@@ -0,0 +1,120 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Bounded per-stream buffer between the gRPC inbound thread and the consumer.
+ * The inbound thread only enqueues (or drops, per {@link TelemetryOverflowPolicy}); a single drain
+ * task per mailbox runs on the dispatch executor, so a stream never has more than one task queued
+ * there and its items are delivered serially in order.
+ */
+class TelemetryMailbox<T> implements Runnable {
+
+	// Items per drain run before yielding the worker to other streams
+	private static final int MAX_ITEMS_PER_RUN = 64;
+
+	private final TelemetryOverflowPolicy policy;
+	private final ArrayBlockingQueue<T> queue;
+	private final AtomicReference<T> latest = new AtomicReference<>();
+	private final AtomicBoolean scheduled = new AtomicBoolean(false);
+	private final Executor executor;
+	private final Consumer<T> sink;
+	private final Runnable onDrop;
+
+	TelemetryMailbox(int capacity, TelemetryOverflowPolicy policy, Executor executor,
+					 Consumer<T> sink, Runnable onDrop) {
+		this.policy = policy;
+		this.queue = policy == TelemetryOverflowPolicy.CONFLATE_LATEST ? null : new ArrayBlockingQueue<>(Math.max(1, capacity));
+		this.executor = executor;
+		this.sink = sink;
+		this.onDrop = onDrop;
+	}
+
+	/**
+	 * Enqueues an item, applying the overflow policy when the buffer is full.
+	 * Only {@link TelemetryOverflowPolicy#BLOCK} can block the caller.
+	 */
+	void offer(T item) {
+		switch (policy) {
+			case BLOCK -> {
+				try {
+					queue.put(item);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					onDrop.run();
+					return;
+				}
+			}
+			case DROP_NEWEST -> {
+				if (!queue.offer(item)) {
+					onDrop.run();
+					return;
+				}
+			}
+			case DROP_OLDEST -> {
+				while (!queue.offer(item)) {
+					if (queue.poll() != null) {
+						onDrop.run();
+					}
+				}
+			}
+			case CONFLATE_LATEST -> {
+				if (latest.getAndSet(item) != null) {
+					onDrop.run();
+				}
+			}
+		}
+		schedule();
+	}
+
+	/**
+	 * @return number of items waiting for the consumer
+	 */
+	int size() {
+		return queue != null ? queue.size() : (latest.get() != null ? 1 : 0);
+	}
+
+	@Override
+	public void run() {
+		try {
+			for (int i = 0; i < MAX_ITEMS_PER_RUN; i++) {
+				T item = poll();
+				if (item == null) {
+					break;
+				}
+				sink.accept(item);
+			}
+		} finally {
+			scheduled.set(false);
+			// An item offered while we were finishing saw scheduled == true and did not reschedule
+			if (size() > 0) {
+				schedule();
+			}
+		}
+	}
+
+	private T poll() {
+		return queue != null ? queue.poll() : latest.getAndSet(null);
+	}
+
+	private void schedule() {
+		if (scheduled.compareAndSet(false, true)) {
+			try {
+				executor.execute(this);
+			} catch (RejectedExecutionException e) {
+				// Executor shut down: nothing will consume the buffer anymore, so its items count as dropped
+				while (poll() != null) {
+					onDrop.run();
+				}
+				scheduled.set(false);
+			}
+		}
+	}
+}
@@ -0,0 +1,76 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+/**
+ * Duplicate suppression for a make-before-break switch between two calls of the same SN.
+ * While the new call is opening, the newest telemetry timestamp delivered from the old call is
+ * remembered per telemetry kind (asset, sub-asset); afterwards, frames of the new call up to that
+ * timestamp are dropped. Once the new call has passed the watermark of a kind, that kind is done.
+ * <p>
+ * Frames without telemetry timestamp (errors) always pass. Callers serialize access.
+ */
+class TelemetryOverlap {
+
+	static final int ASSET = 0;
+	static final int SUB_ASSET = 1;
+
+	private final long[] watermarks = {Long.MIN_VALUE, Long.MIN_VALUE};
+
+	/**
+	 * Remembers a frame delivered from the old call.
+	 */
+	void recordOld(LiveDataTelemetryResponse frame) {
+		int kind = kind(frame);
+		if (kind >= 0 && hasTimestamp(frame, kind)) {
+			watermarks[kind] = Math.max(watermarks[kind], timestampNanos(frame, kind));
+		}
+	}
+
+	/**
+	 * @return true if a frame of the new call was already delivered from the old one
+	 */
+	boolean isDuplicate(LiveDataTelemetryResponse frame) {
+		int kind = kind(frame);
+		if (kind < 0 || watermarks[kind] == Long.MIN_VALUE || !hasTimestamp(frame, kind)) {
+			return false;
+		}
+		if (timestampNanos(frame, kind) <= watermarks[kind]) {
+			return true;
+		}
+		watermarks[kind] = Long.MIN_VALUE;
+		return false;
+	}
+
+	/**
+	 * @return true once no frame of the new call can be a duplicate anymore
+	 */
+	boolean isDone() {
+		return watermarks[ASSET] == Long.MIN_VALUE && watermarks[SUB_ASSET] == Long.MIN_VALUE;
+	}
+
+	/**
+	 * @return {@link #ASSET}, {@link #SUB_ASSET}, or -1 for frames without telemetry
+	 */
+	static int kind(LiveDataTelemetryResponse frame) {
+		return switch (frame.getTelemetryCase()) {
+			case ASSETTELEMETRY -> ASSET;
+			case SUBASSETTELEMETRY -> SUB_ASSET;
+			default -> -1;
+		};
+	}
+
+	static boolean hasTimestamp(LiveDataTelemetryResponse frame, int kind) {
+		return kind == ASSET
+				? frame.getAssetTelemetry().hasTimestamp()
+				: frame.getSubAssetTelemetry().hasTimestamp();
+	}
+
+	static long timestampNanos(LiveDataTelemetryResponse frame, int kind) {
+		Timestamp timestamp = kind == ASSET
+				? frame.getAssetTelemetry().getTimestamp()
+				: frame.getSubAssetTelemetry().getTimestamp();
+		return timestamp.getSeconds() * 1_000_000_000L + timestamp.getNanos();
+	}
+}
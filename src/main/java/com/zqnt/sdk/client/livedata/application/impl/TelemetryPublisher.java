@@ -0,0 +1,113 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Cold publisher of one SN's telemetry: every subscriber gets its own {@link TelemetryStream},
+ * with gRPC auto-request disabled and inbound flow control driven by the subscriber's
+ * {@code request(n)}. Frames, completion and errors are all delivered on the SN's ordered dispatch
+ * shard, so signals are serialized as Reactive Streams requires. Reconnects happen inside; only a
+ * final failure or a normal server completion terminates the subscription.
+ */
+@Slf4j
+class TelemetryPublisher implements Flow.Publisher<StreamTelemetryResponse> {
+
+	private final LiveDataImpl owner;
+	private final StreamTelemetryRequest request;
+
+	TelemetryPublisher(LiveDataImpl owner, StreamTelemetryRequest request) {
+		this.owner = owner;
+		// Serial delivery per subscriber; flow control replaces the stream buffer
+		this.request = request.withDispatchMode(TelemetryDispatchMode.ORDERED);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super StreamTelemetryResponse> subscriber) {
+		Objects.requireNonNull(subscriber, "subscriber");
+		new Subscription(subscriber).start();
+	}
+
+	private final class Subscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super StreamTelemetryResponse> subscriber;
+		private final TelemetryDemand demand = new TelemetryDemand();
+		private final TelemetryStreamHandle handle = new TelemetryStreamHandle();
+		private final AtomicBoolean done = new AtomicBoolean(false);
+		private final TelemetryStream stream;
+
+		private Subscription(Flow.Subscriber<? super StreamTelemetryResponse> subscriber) {
+			this.subscriber = subscriber;
+			this.stream = new TelemetryStream(owner, request,
+					new MappedFrameHandler(owner.mapper(), owner.snapshotStore(), request.getFields(), this::onNext),
+					this::onError, handle, demand);
+			stream.whenCompleted(this::onComplete);
+		}
+
+		private void start() {
+			subscriber.onSubscribe(this);
+			if (!done.get()) {
+				owner.startTelemetryStream(stream);
+			}
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				onError(new IllegalArgumentException("request(n) requires n > 0 (Reactive Streams rule 3.9), got " + n));
+				cancel();
+				return;
+			}
+			demand.request(n);
+		}
+
+		@Override
+		public void cancel() {
+			if (done.compareAndSet(false, true)) {
+				stop("Cancelled by subscriber");
+			}
+		}
+
+		private void onNext(StreamTelemetryResponse response) {
+			if (!done.get()) {
+				subscriber.onNext(response);
+			}
+		}
+
+		/**
+		 * Failures come from the gRPC thread, the timer or the subscriber; the signal itself is queued
+		 * on the ordered shard behind any onNext in progress (Reactive Streams rule 1.3).
+		 */
+		private void onError(Throwable error) {
+			if (done.compareAndSet(false, true)) {
+				stop("Stream failed");
+				try {
+					stream.execute(() -> subscriber.onError(error));
+				} catch (RejectedExecutionException e) {
+					// Dispatch executor shut down: deliver the terminal signal directly
+					subscriber.onError(error);
+				}
+			}
+		}
+
+		private void onComplete() {
+			if (done.compareAndSet(false, true)) {
+				handle.stop();
+				subscriber.onComplete();
+			}
+		}
+
+		private void stop(String reason) {
+			// Cancels the gRPC call and pending reconnects
+			handle.stop();
+			log.debug("Telemetry subscription for SN {} ended: {}", request.getSn(), reason);
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.CodedOutputStream;
+import com.zqnt.sdk.client.livedata.application.TelemetryRecorder;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Appends frames to fixed-size memory-mapped segment files ({@code telemetry-000000.rec}, ...).
+ * Frames are serialized straight into the mapping, without an intermediate byte array.
+ *
+ * <pre>
+ * segment: MAGIC (int) | VERSION (int) | record* | 0 (int, zero-filled tail)
+ * record:  length (int) | receivedAtMillis (long) | LiveDataTelemetryResponse bytes
+ * </pre>
+ * The length is written last, so a crash never leaves a half-written record visible to readers.
+ * <p>
+ * Rolling over stays cheap on the gRPC thread: the next segment is mapped ahead of time, and flushing
+ * full segments and deleting the ones beyond {@code maxSegments} run on a recorder thread of its own.
+ */
+@Slf4j
+class TelemetryRecorderImpl implements TelemetryRecorder {
+
+	static final int MAGIC = 0x5A544C52; // "ZTLR"
+	static final int VERSION = 1;
+	static final int SEGMENT_HEADER_BYTES = 2 * Integer.BYTES;
+	static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES;
+	static final String SEGMENT_PREFIX = "telemetry-";
+	static final String SEGMENT_SUFFIX = ".rec";
+	private static final Pattern SEGMENT_NAME = Pattern.compile("telemetry-\\d{6,}\\.rec");
+
+	private final Path directory;
+	private final long segmentSize;
+	private final int maxSegments;
+	private final Consumer<TelemetryRecorderImpl> onClose;
+	private final AtomicBoolean closed = new AtomicBoolean(false);
+	// Maps, flushes and deletes segments off the gRPC threads, in submission order
+	private final ExecutorService io;
+	// Segment files of this recording in use, oldest first; only touched on io
+	private final ArrayDeque<Path> segments = new ArrayDeque<>();
+	private int segmentIndex;
+	private MappedByteBuffer segment;
+	// Mapped ahead of time for segmentIndex + 1
+	private CompletableFuture<MappedByteBuffer> nextSegment;
+	private long recordedFrames;
+	private long recordedBytes;
+
+	TelemetryRecorderImpl(Path directory, long segmentSize, int maxSegments, Consumer<TelemetryRecorderImpl> onClose) {
+		if (segmentSize < SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES || segmentSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Segment size must be between "
+					+ (SEGMENT_HEADER_BYTES + RECORD_HEADER_BYTES) + " and " + Integer.MAX_VALUE + " bytes");
+		}
+		if (maxSegments < 1) {
+			throw new IllegalArgumentException("maxSegments must be positive");
+		}
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = maxSegments;
+		this.onClose = onClose;
+		try {
+			Files.createDirectories(directory);
+			// Continue after existing segments instead of overwriting an earlier recording
+			this.segmentIndex = nextSegmentIndex(directory);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot open telemetry recording in " + directory, e);
+		}
+		this.segment = mapSegment(segmentIndex);
+		this.io = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, "livedata-recorder");
+			t.setDaemon(true);
+			return t;
+		});
+		int first = segmentIndex;
+		io.execute(() -> retain(first));
+		prepareNextSegment();
+	}
+
+	/**
+	 * Appends a frame. Called on the gRPC inbound thread, so it only copies bytes into the mapping.
+	 */
+	synchronized void append(LiveDataTelemetryResponse frame, long receivedAtMillis) {
+		if (closed.get()) {
+			return;
+		}
+		int length = frame.getSerializedSize();
+		int required = RECORD_HEADER_BYTES + length;
+		if (segment.remaining() < required + Integer.BYTES) {
+			if (SEGMENT_HEADER_BYTES + required + Integer.BYTES > segmentSize) {
+				log.warn("Telemetry frame of {} bytes does not fit into a recording segment, skipped", length);
+				return;
+			}
+			if (!rollOver()) {
+				return;
+			}
+		}
+
+		int start = segment.position();
+		try {
+			segment.position(start + RECORD_HEADER_BYTES);
+			CodedOutputStream out = CodedOutputStream.newInstance(segment);
+			frame.writeTo(out);
+			out.flush();
+		} catch (IOException e) {
+			segment.position(start);
+			log.error("Failed to record telemetry frame: {}", e.getMessage(), e);
+			return;
+		}
+		segment.putLong(start + Integer.BYTES, receivedAtMillis);
+		segment.putInt(start, length);
+		recordedFrames++;
+		recordedBytes += required;
+	}
+
+	@Override
+	public Path getDirectory() {
+		return directory;
+	}
+
+	@Override
+	public synchronized long getRecordedFrames() {
+		return recordedFrames;
+	}
+
+	@Override
+	public synchronized long getRecordedBytes() {
+		return recordedBytes;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed.get();
+	}
+
+	@Override
+	public void close() {
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+		onClose.accept(this);
+		MappedByteBuffer last;
+		CompletableFuture<MappedByteBuffer> unused;
+		int unusedIndex;
+		synchronized (this) {
+			last = segment;
+			unused = nextSegment;
+			unusedIndex = segmentIndex + 1;
+		}
+		// Full segments still being flushed first
+		io.shutdown();
+		try {
+			io.awaitTermination(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		last.force();
+		// The segment mapped ahead was never written to
+		if (unused.handle((buffer, error) -> error == null).join()) {
+			delete(directory.resolve(segmentFileName(unusedIndex)));
+		}
+		log.info("Telemetry recording in {} closed: {} frames, {} bytes", directory, recordedFrames, recordedBytes);
+	}
+
+	/**
+	 * Switches to the segment mapped ahead of time, then hands the full one to the recorder thread.
+	 * Caller holds this.
+	 *
+	 * @return false if recording had to stop
+	 */
+	private boolean rollOver() {
+		MappedByteBuffer full = segment;
+		try {
+			// Only waits if a whole segment filled up faster than one could be mapped
+			segment = nextSegment.join();
+		} catch (CompletionException e) {
+			log.error("Telemetry recording in {} stopped: {}", directory, e.getCause().getMessage(), e.getCause());
+			closed.set(true);
+			onClose.accept(this);
+			io.shutdown();
+			return false;
+		}
+		segmentIndex++;
+		int index = segmentIndex;
+		io.execute(() -> {
+			full.force();
+			retain(index);
+		});
+		prepareNextSegment();
+		return true;
+	}
+
+	private void prepareNextSegment() {
+		int index = segmentIndex + 1;
+		nextSegment = CompletableFuture.supplyAsync(() -> mapSegment(index), io);
+	}
+
+	private MappedByteBuffer mapSegment(int index) {
+		Path file = directory.resolve(segmentFileName(index));
+		try (FileChannel channel = FileChannel.open(file,
+				StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			// The mapping stays valid after the channel is closed
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+			buffer.putInt(MAGIC);
+			buffer.putInt(VERSION);
+			return buffer;
+		} catch (IOException e) {
+			throw new UncheckedIOException("Cannot create telemetry recording segment " + file, e);
+		}
+	}
+
+	/**
+	 * Counts a segment as in use and deletes this recording's oldest segments beyond {@code maxSegments}.
+	 * Runs on the recorder thread.
+	 */
+	private void retain(int index) {
+		Path file = directory.resolve(segmentFileName(index));
+		log.debug("Recording telemetry to {}", file);
+		segments.add(file);
+		while (segments.size() > maxSegments) {
+			delete(segments.poll());
+		}
+	}
+
+	private static void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			log.warn("Cannot delete telemetry recording segment {}: {}", file, e.getMessage());
+		}
+	}
+
+	static String segmentFileName(int index) {
+		return String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+	}
+
+	static boolean isSegmentFile(Path file) {
+		return SEGMENT_NAME.matcher(file.getFileName().toString()).matches();
+	}
+
+	private static int nextSegmentIndex(Path directory) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(TelemetryRecorderImpl::isSegmentFile)
+					.map(file -> file.getFileName().toString())
+					.mapToInt(name -> Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+					.max()
+					.orElse(-1) + 1;
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.application.TelemetryReplay;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryReplaySpeed;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+
+/**
+ * Reads a recording on a dedicated thread and feeds each frame into a per-SN {@link TelemetryStream}
+ * exactly where live frames enter it, so replayed frames go through the same deadband, projection,
+ * stream buffer, dispatch mode and mapping as live ones — just without a gRPC call. Live state
+ * (snapshot store, spatial index, geofences) is left alone.
+ * <p>
+ * At the end of the recording each stream's input ends and the replay completes once the frames
+ * handed over were delivered or dropped; only {@link #stop()} discards frames still buffered.
+ */
+@Slf4j
+class TelemetryReplayImpl implements TelemetryReplay {
+
+	private final LiveDataImpl owner;
+	private final Path directory;
+	private final TelemetryReplaySpeed speed;
+	private final StreamTelemetryRequest template;
+	private final BiConsumer<String, StreamTelemetryResponse> onData;
+	private final BiConsumer<String, Throwable> onError;
+	// Created by the replay thread, stopped by either thread
+	private final Map<String, TelemetryStream> streams = new ConcurrentHashMap<>();
+	private final CompletableFuture<Long> completion = new CompletableFuture<>();
+	private final AtomicBoolean stopped = new AtomicBoolean(false);
+	private final AtomicLong replayedFrames = new AtomicLong();
+	private final Thread thread;
+
+	TelemetryReplayImpl(LiveDataImpl owner,
+						Path directory,
+						TelemetryReplaySpeed speed,
+						StreamTelemetryRequest template,
+						BiConsumer<String, StreamTelemetryResponse> onData,
+						BiConsumer<String, Throwable> onError) {
+		this.owner = owner;
+		this.directory = directory;
+		this.speed = speed != null ? speed : TelemetryReplaySpeed.realTime();
+		this.template = template != null ? template : new StreamTelemetryRequest();
+		this.onData = onData;
+		this.onError = onError;
+		this.thread = new Thread(this::run, "livedata-telemetry-replay");
+		this.thread.setDaemon(true);
+	}
+
+	void start() {
+		thread.start();
+	}
+
+	@Override
+	public CompletableFuture<Long> completion() {
+		return completion;
+	}
+
+	@Override
+	public long getReplayedFrames() {
+		return replayedFrames.get();
+	}
+
+	@Override
+	public void stop() {
+		if (stopped.compareAndSet(false, true)) {
+			LockSupport.unpark(thread);
+			// Also ends a replay that is waiting for its streams to drain
+			stopStreams();
+			completion.complete(replayedFrames.get());
+		}
+	}
+
+	@Override
+	public boolean isStopped() {
+		return stopped.get();
+	}
+
+	@Override
+	public void close() {
+		stop();
+	}
+
+	private void run() {
+		try {
+			TelemetryLogReader reader = new TelemetryLogReader(directory);
+			long firstRecordedAt = Long.MIN_VALUE;
+			long startNanos = System.nanoTime();
+			LiveDataTelemetryResponse frame;
+			while (!stopped.get() && (frame = reader.next()) != null) {
+				if (!speed.isMax()) {
+					long recordedAt = reader.receivedAtMillis();
+					if (firstRecordedAt == Long.MIN_VALUE) {
+						firstRecordedAt = recordedAt;
+					}
+					long dueNanos = dueNanos(startNanos, firstRecordedAt, recordedAt, speed);
+					long waitNanos;
+					while ((waitNanos = dueNanos - System.nanoTime()) > 0 && !stopped.get()) {
+						LockSupport.parkNanos(this, waitNanos);
+					}
+					if (stopped.get()) {
+						break;
+					}
+				}
+				streamFor(frame.getSn()).dispatch(frame);
+			}
+		} catch (Exception e) {
+			log.error("Telemetry replay of {} failed: {}", directory, e.getMessage(), e);
+			stopped.set(true);
+			stopStreams();
+			completion.completeExceptionally(e);
+			return;
+		}
+		if (stopped.get()) {
+			stopStreams();
+			return;
+		}
+		CompletableFuture.allOf(streams.values().stream()
+						.map(TelemetryStream::endInput)
+						.toArray(CompletableFuture[]::new))
+				.whenComplete((ignored, error) -> {
+					stopped.set(true);
+					stopStreams();
+					log.info("Telemetry replay of {} finished: {} frames", directory, replayedFrames.get());
+					completion.complete(replayedFrames.get());
+				});
+	}
+
+	/**
+	 * When a frame recorded at {@code recordedAt} is due, relative to the first frame of the replay.
+	 * Called directly by tests.
+	 */
+	static long dueNanos(long startNanos, long firstRecordedAt, long recordedAt, TelemetryReplaySpeed speed) {
+		return startNanos + (long) ((recordedAt - firstRecordedAt) * 1_000_000d / speed.getFactor());
+	}
+
+	private void stopStreams() {
+		streams.values().forEach(stream -> stream.handle().stop());
+	}
+
+	private TelemetryStream streamFor(String sn) {
+		return streams.computeIfAbsent(sn, key -> TelemetryStream.forReplay(owner,
+				template.withSn(key).withTid(template.getTid() != null ? template.getTid() : UUID.randomUUID().toString()),
+				new MappedFrameHandler(owner.mapper(), null, template.getFields(),
+						response -> {
+							replayedFrames.incrementAndGet();
+							onData.accept(key, response);
+						}),
+				error -> {
+					if (onError != null) {
+						onError.accept(key, error);
+					} else {
+						log.error("Unhandled replay error for SN {}: {}", key, error.getMessage(), error);
+					}
+				}));
+	}
+}
@@ -0,0 +1,212 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetrySeries;
+
+/**
+ * Fixed-capacity ring of telemetry samples for one SN and kind, stored column-wise in primitive arrays.
+ * Rows are kept sorted by timestamp so range queries can binary-search the timestamp column;
+ * a frame that arrives out of order (pooled dispatch) is moved into place on insert. A sample with
+ * the timestamp of one already held (the same frame received by another stream) is skipped.
+ */
+final class TelemetryRing {
+
+	// timestamp + latitude + longitude + 6 float columns + presence mask
+	static final int BYTES_PER_SAMPLE = Long.BYTES + 2 * Double.BYTES + 6 * Float.BYTES + Byte.BYTES;
+
+	private final int capacity;
+	private final long[] timestamps;
+	private final double[] latitude;
+	private final double[] longitude;
+	private final float[] absoluteAltitude;
+	private final float[] relativeAltitude;
+	private final float[] horizontalSpeed;
+	private final float[] verticalSpeed;
+	private final float[] heading;
+	private final float[] batteryPercentage;
+	private final byte[] presence;
+	// Physical index of the oldest sample
+	private int head;
+	private int size;
+
+	TelemetryRing(int capacity) {
+		this.capacity = capacity;
+		this.timestamps = new long[capacity];
+		this.latitude = new double[capacity];
+		this.longitude = new double[capacity];
+		this.absoluteAltitude = new float[capacity];
+		this.relativeAltitude = new float[capacity];
+		this.horizontalSpeed = new float[capacity];
+		this.verticalSpeed = new float[capacity];
+		this.heading = new float[capacity];
+		this.batteryPercentage = new float[capacity];
+		this.presence = new byte[capacity];
+	}
+
+	/**
+	 * Appends a sample, overwriting the oldest one when full. Values whose {@link
+	 * com.zqnt.sdk.client.livedata.domains.TelemetryHistoryField#mask() bit} is not set in
+	 * {@code mask} are stored but reported as absent.
+	 */
+	synchronized void append(long timestamp, int mask,
+							 double lat, double lon,
+							 double absAlt, double relAlt,
+							 double hSpeed, double vSpeed,
+							 double hdg, double battery) {
+		// Usually only the newest sample is looked at
+		for (int i = size - 1; i >= 0; i--) {
+			long held = timestamps[physical(i)];
+			if (held == timestamp) {
+				return;
+			}
+			if (held < timestamp) {
+				break;
+			}
+		}
+		int row;
+		if (size < capacity) {
+			row = physical(size);
+			size++;
+		} else {
+			row = head;
+			head = (head + 1) % capacity;
+		}
+		timestamps[row] = timestamp;
+		latitude[row] = lat;
+		longitude[row] = lon;
+		absoluteAltitude[row] = (float) absAlt;
+		relativeAltitude[row] = (float) relAlt;
+		horizontalSpeed[row] = (float) hSpeed;
+		verticalSpeed[row] = (float) vSpeed;
+		heading[row] = (float) hdg;
+		batteryPercentage[row] = (float) battery;
+		presence[row] = (byte) mask;
+
+		// Usually a no-op: only frames overtaken by a later one on another pool thread move
+		for (int i = size - 1; i > 0; i--) {
+			int current = physical(i);
+			int previous = physical(i - 1);
+			if (timestamps[previous] <= timestamps[current]) {
+				break;
+			}
+			swap(previous, current);
+		}
+	}
+
+	synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Copies the samples with {@code from <= timestamp <= to}.
+	 */
+	synchronized TelemetrySeries copyRange(String sn, TelemetrySeries.Kind kind, long from, long to) {
+		if (size == 0 || from > to) {
+			return TelemetrySeries.empty(sn, kind);
+		}
+		return copy(sn, kind, lowerBound(from), upperBound(to));
+	}
+
+	synchronized TelemetrySeries copyAll(String sn, TelemetrySeries.Kind kind) {
+		return size == 0 ? TelemetrySeries.empty(sn, kind) : copy(sn, kind, 0, size);
+	}
+
+	/**
+	 * @return logical index of the first sample with a timestamp {@code >= timestamp}, or {@code size}
+	 */
+	private int lowerBound(long timestamp) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (timestamps[physical(mid)] < timestamp) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @return logical index of the first sample with a timestamp {@code > timestamp}, or {@code size}
+	 */
+	private int upperBound(long timestamp) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (timestamps[physical(mid)] <= timestamp) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	private TelemetrySeries copy(String sn, TelemetrySeries.Kind kind, int start, int end) {
+		int count = end - start;
+		if (count <= 0) {
+			return TelemetrySeries.empty(sn, kind);
+		}
+		long[] ts = new long[count];
+		double[] lat = new double[count];
+		double[] lon = new double[count];
+		float[] absAlt = new float[count];
+		float[] relAlt = new float[count];
+		float[] hSpeed = new float[count];
+		float[] vSpeed = new float[count];
+		float[] hdg = new float[count];
+		float[] battery = new float[count];
+		byte[] mask = new byte[count];
+
+		// The range is at most two contiguous segments of the ring
+		int first = physical(start);
+		int firstLength = Math.min(count, capacity - first);
+		copySegment(first, 0, firstLength, ts, lat, lon, absAlt, relAlt, hSpeed, vSpeed, hdg, battery, mask);
+		if (firstLength < count) {
+			copySegment(0, firstLength, count - firstLength, ts, lat, lon, absAlt, relAlt, hSpeed, vSpeed, hdg, battery, mask);
+		}
+		return new TelemetrySeries(sn, kind, ts, lat, lon, absAlt, relAlt, hSpeed, vSpeed, hdg, battery, mask);
+	}
+
+	private void copySegment(int from, int to, int length,
+							 long[] ts, double[] lat, double[] lon,
+							 float[] absAlt, float[] relAlt, float[] hSpeed, float[] vSpeed,
+							 float[] hdg, float[] battery, byte[] mask) {
+		System.arraycopy(timestamps, from, ts, to, length);
+		System.arraycopy(latitude, from, lat, to, length);
+		System.arraycopy(longitude, from, lon, to, length);
+		System.arraycopy(absoluteAltitude, from, absAlt, to, length);
+		System.arraycopy(relativeAltitude, from, relAlt, to, length);
+		System.arraycopy(horizontalSpeed, from, hSpeed, to, length);
+		System.arraycopy(verticalSpeed, from, vSpeed, to, length);
+		System.arraycopy(heading, from, hdg, to, length);
+		System.arraycopy(batteryPercentage, from, battery, to, length);
+		System.arraycopy(presence, from, mask, to, length);
+	}
+
+	private int physical(int logical) {
+		int index = head + logical;
+		return index >= capacity ? index - capacity : index;
+	}
+
+	private void swap(int a, int b) {
+		long t = timestamps[a]; timestamps[a] = timestamps[b]; timestamps[b] = t;
+		double d = latitude[a]; latitude[a] = latitude[b]; latitude[b] = d;
+		d = longitude[a]; longitude[a] = longitude[b]; longitude[b] = d;
+		swap(absoluteAltitude, a, b);
+		swap(relativeAltitude, a, b);
+		swap(horizontalSpeed, a, b);
+		swap(verticalSpeed, a, b);
+		swap(heading, a, b);
+		swap(batteryPercentage, a, b);
+		byte m = presence[a]; presence[a] = presence[b]; presence[b] = m;
+	}
+
+	private static void swap(float[] column, int a, int b) {
+		float f = column[a];
+		column[a] = column[b];
+		column[b] = f;
+	}
+}
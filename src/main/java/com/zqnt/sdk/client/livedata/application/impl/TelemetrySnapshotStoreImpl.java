@@ -0,0 +1,125 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.application.TelemetrySnapshotStore;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.utils.edge.sdk.domains.AssetTelemetryData;
+import com.zqnt.utils.edge.sdk.domains.SubAssetTelemetryData;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Copy-on-write snapshot per SN in a {@link ConcurrentHashMap}: writers replace the immutable
+ * snapshot atomically per key, readers never lock.
+ */
+public class TelemetrySnapshotStoreImpl implements TelemetrySnapshotStore {
+
+	private final ConcurrentHashMap<String, TelemetrySnapshot> snapshots = new ConcurrentHashMap<>();
+	private final Map<String, TelemetrySnapshot> readOnlyView = Collections.unmodifiableMap(snapshots);
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Merges a frame into the SN's snapshot. Asset and sub-asset telemetry are kept independently,
+	 * so a dock frame does not erase the last known drone position and vice versa.
+	 * <p>
+	 * POOLED dispatch hands frames of one SN to the consumer out of order: a frame whose telemetry
+	 * timestamp is older than the one of the same kind already kept leaves the snapshot unchanged.
+	 *
+	 * @param frame    the received frame, read for its kind and telemetry timestamp
+	 * @param response {@code frame} mapped, kept in the snapshot
+	 */
+	void update(LiveDataTelemetryResponse frame, StreamTelemetryResponse response) {
+		if (response == null || response.getSn() == null) {
+			return;
+		}
+		int kind = TelemetryOverlap.kind(frame);
+		if (kind < 0) {
+			return;
+		}
+		boolean asset = kind == TelemetryOverlap.ASSET;
+		Instant telemetryTimestamp = TelemetryOverlap.hasTimestamp(frame, kind)
+				? toInstant(TelemetryOverlap.timestampNanos(frame, kind))
+				: null;
+		snapshots.compute(response.getSn(), (sn, previous) -> {
+			if (previous == null) {
+				return new TelemetrySnapshot(sn, response.getAssetId(),
+						asset ? response : null, asset ? null : response, response, response.getTimestamp(),
+						asset ? telemetryTimestamp : null, asset ? null : telemetryTimestamp,
+						sequence.incrementAndGet());
+			}
+			Instant kept = asset ? previous.getAssetTelemetryTimestamp() : previous.getSubAssetTelemetryTimestamp();
+			if (telemetryTimestamp != null && kept != null && telemetryTimestamp.isBefore(kept)) {
+				return previous;
+			}
+			return new TelemetrySnapshot(
+					sn,
+					response.getAssetId() != null ? response.getAssetId() : previous.getAssetId(),
+					asset ? response : previous.getAssetResponse(),
+					asset ? previous.getSubAssetResponse() : response,
+					response,
+					response.getTimestamp(),
+					asset ? telemetryTimestamp : previous.getAssetTelemetryTimestamp(),
+					asset ? previous.getSubAssetTelemetryTimestamp() : telemetryTimestamp,
+					sequence.incrementAndGet());
+		});
+	}
+
+	private static Instant toInstant(long epochNanos) {
+		return Instant.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L), Math.floorMod(epochNanos, 1_000_000_000L));
+	}
+
+	@Override
+	public TelemetrySnapshot get(String sn) {
+		return sn != null ? snapshots.get(sn) : null;
+	}
+
+	@Override
+	public AssetTelemetryData getAssetTelemetry(String sn) {
+		TelemetrySnapshot snapshot = get(sn);
+		return snapshot != null ? snapshot.getAssetTelemetry() : null;
+	}
+
+	@Override
+	public SubAssetTelemetryData getSubAssetTelemetry(String sn) {
+		TelemetrySnapshot snapshot = get(sn);
+		return snapshot != null ? snapshot.getSubAssetTelemetry() : null;
+	}
+
+	@Override
+	public long getVersion(String sn) {
+		TelemetrySnapshot snapshot = get(sn);
+		return snapshot != null ? snapshot.getVersion() : -1L;
+	}
+
+	@Override
+	public long getVersion() {
+		return sequence.get();
+	}
+
+	@Override
+	public Map<String, TelemetrySnapshot> snapshotAll() {
+		return readOnlyView;
+	}
+
+	@Override
+	public int size() {
+		return snapshots.size();
+	}
+
+	@Override
+	public void remove(String sn) {
+		if (sn != null) {
+			snapshots.remove(sn);
+		}
+	}
+
+	@Override
+	public void clear() {
+		snapshots.clear();
+	}
+}
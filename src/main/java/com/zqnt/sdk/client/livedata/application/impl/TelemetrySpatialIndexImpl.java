@@ -0,0 +1,382 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.application.TelemetrySpatialIndex;
+import com.zqnt.sdk.client.livedata.domains.TelemetryPosition;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * {@link TelemetrySpatialIndex} as a uniform grid of {@value #CELL_DEGREES}-degree cells (about
+ * 5.5 km north-south), holding only occupied cells. A position update replaces the entry's position
+ * and moves it to another cell only when it crossed a cell border.
+ * <p>
+ * Box and radius queries visit the cells overlapping the area; nearest-neighbour queries search
+ * rings of cells outwards until no closer position can exist. Queries that would visit more cells
+ * than there are positions scan all positions instead, which is just as fast for small fleets and
+ * bounds the cost of continent-sized areas.
+ * <p>
+ * Each entry keeps its position as a unit vector computed once per update. Candidates are ranked
+ * and radius-filtered by squared chord length (a dot product, monotonic in great-circle distance),
+ * so a query does no trigonometry per position.
+ */
+class TelemetrySpatialIndexImpl implements TelemetrySpatialIndex {
+
+	static final double CELL_DEGREES = 0.05;
+	private static final int LAT_CELLS = (int) Math.round(180 / CELL_DEGREES);
+	private static final int LON_CELLS = (int) Math.round(360 / CELL_DEGREES);
+	private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+	private static final double METERS_PER_DEGREE = Math.PI * EARTH_RADIUS_METERS / 180;
+	private static final String SUB_ASSET_SUFFIX = "/sub-asset";
+
+	private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer, Set<Entry>> cells = new ConcurrentHashMap<>();
+
+	/**
+	 * Takes the position of a received frame, if it has one.
+	 */
+	void update(LiveDataTelemetryResponse frame) {
+		switch (frame.getTelemetryCase()) {
+			case ASSETTELEMETRY -> {
+				var telemetry = frame.getAssetTelemetry();
+				if (telemetry.hasLatitude() && telemetry.hasLongitude()) {
+					put(frame.getSn(), frame.getSn(), TelemetryPosition.Kind.ASSET,
+							telemetry.getLatitude(), telemetry.getLongitude(), telemetry.getTimestamp());
+				}
+			}
+			case SUBASSETTELEMETRY -> {
+				var telemetry = frame.getSubAssetTelemetry();
+				if (telemetry.hasLatitude() && telemetry.hasLongitude()) {
+					put(subAssetId(frame), frame.getSn(), TelemetryPosition.Kind.SUB_ASSET,
+							telemetry.getLatitude(), telemetry.getLongitude(), telemetry.getTimestamp());
+				}
+			}
+			default -> {
+			}
+		}
+	}
+
+	/**
+	 * @return the drone's sub-asset id, or its dock's SN with a suffix when the frame has none
+	 */
+	static String subAssetId(LiveDataTelemetryResponse frame) {
+		String id = frame.getSubAssetTelemetry().getId();
+		return id.isEmpty() ? frame.getSn() + SUB_ASSET_SUFFIX : id;
+	}
+
+	void put(String id, String sn, TelemetryPosition.Kind kind, double latitude, double longitude, Timestamp timestamp) {
+		if (!isValid(latitude, longitude)) {
+			return;
+		}
+		Instant at = Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+		Located located = new Located(new TelemetryPosition(id, sn, kind, latitude, longitude, at));
+		int cell = cellOf(latitude, longitude);
+		Entry entry = entries.computeIfAbsent(id, k -> new Entry());
+		synchronized (entry) {
+			if (entry.removed) {
+				// Lost a race with remove(): the next frame re-adds it
+				return;
+			}
+			// POOLED dispatch is unordered: never go back to an older position (unstamped frames pass)
+			if (entry.located != null && !Instant.EPOCH.equals(at) && at.isBefore(entry.located.position.getTimestamp())) {
+				return;
+			}
+			entry.located = located;
+			if (entry.cell != cell) {
+				if (entry.cell >= 0) {
+					leaveCell(entry.cell, entry);
+				}
+				cells.compute(cell, (k, members) -> {
+					Set<Entry> set = members != null ? members : ConcurrentHashMap.newKeySet();
+					set.add(entry);
+					return set;
+				});
+				entry.cell = cell;
+			}
+		}
+	}
+
+	@Override
+	public TelemetryPosition get(String id) {
+		Entry entry = entries.get(id);
+		Located located = entry != null ? entry.located : null;
+		return located != null ? located.position : null;
+	}
+
+	@Override
+	public List<TelemetryPosition> withinBox(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+		double south = Math.max(-90, Math.min(minLatitude, maxLatitude));
+		double north = Math.min(90, Math.max(minLatitude, maxLatitude));
+		double west = normalizeLongitude(minLongitude);
+		double east = normalizeLongitude(maxLongitude);
+		boolean wraps = west > east;
+		List<TelemetryPosition> result = new ArrayList<>();
+		forEachCandidate(south, west, north, east, located -> {
+			TelemetryPosition position = located.position;
+			double lon = position.getLongitude();
+			boolean inLongitude = wraps ? lon >= west || lon <= east : lon >= west && lon <= east;
+			if (position.getLatitude() >= south && position.getLatitude() <= north && inLongitude) {
+				result.add(position);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public List<TelemetryPosition> withinRadius(double latitude, double longitude, double radiusMeters) {
+		if (radiusMeters < 0) {
+			return List.of();
+		}
+		double dLat = radiusMeters / METERS_PER_DEGREE;
+		double south = latitude - dLat;
+		double north = latitude + dLat;
+		double west;
+		double east;
+		double cos = Math.cos(Math.toRadians(Math.max(Math.abs(south), Math.abs(north))));
+		if (south <= -90 || north >= 90 || cos <= 0 || dLat / cos >= 180) {
+			// Around a pole: every longitude
+			west = -180;
+			east = 180;
+		} else {
+			west = normalizeLongitude(longitude - dLat / cos);
+			east = normalizeLongitude(longitude + dLat / cos);
+		}
+		double[] query = unitVector(latitude, longitude);
+		double maxChord = chordSquared(Math.min(radiusMeters, Math.PI * EARTH_RADIUS_METERS));
+		List<Match> matches = new ArrayList<>();
+		forEachCandidate(Math.max(-90, south), west, Math.min(90, north), east, located -> {
+			double chord = located.chordSquared(query);
+			if (chord <= maxChord) {
+				matches.add(new Match(located.position, chord));
+			}
+		});
+		return sorted(matches, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public List<TelemetryPosition> nearest(double latitude, double longitude, int k) {
+		if (k <= 0 || entries.isEmpty()) {
+			return List.of();
+		}
+		int size = entries.size();
+		int cx = cellX(longitude);
+		int cy = cellY(latitude);
+		double[] query = unitVector(latitude, longitude);
+		List<Match> matches = new ArrayList<>();
+		long visited = 0;
+		for (int r = 0; ; r++) {
+			visited += r == 0 ? 1 : 8L * r;
+			// A cell lookup costs a few position checks: past a quarter of the fleet, scanning it is cheaper
+			if (4 * visited > size || 2 * r + 1 >= LON_CELLS) {
+				return nearestByScan(query, k);
+			}
+			for (int y = cy - r; y <= cy + r; y++) {
+				if (y < 0 || y >= LAT_CELLS) {
+					continue;
+				}
+				boolean edgeRow = y == cy - r || y == cy + r;
+				for (int x = cx - r; x <= cx + r; x += edgeRow || r == 0 ? 1 : 2 * r) {
+					Set<Entry> members = cells.get(y * LON_CELLS + Math.floorMod(x, LON_CELLS));
+					if (members != null) {
+						for (Entry entry : members) {
+							Located located = entry.located;
+							matches.add(new Match(located.position, located.chordSquared(query)));
+						}
+					}
+				}
+			}
+			if (matches.size() >= k) {
+				matches.sort(Comparator.comparingDouble(Match::chord));
+				// Anything outside the rings searched so far is at least this far away
+				double maxAbsLatitude = Math.min(89.9, Math.abs(latitude) + (r + 1) * CELL_DEGREES);
+				double bound = r * CELL_DEGREES * METERS_PER_DEGREE * Math.cos(Math.toRadians(maxAbsLatitude));
+				if (matches.get(k - 1).chord() <= chordSquared(bound)) {
+					return sorted(matches, k);
+				}
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	@Override
+	public void remove(String id) {
+		Entry entry = entries.remove(id);
+		if (entry == null) {
+			return;
+		}
+		synchronized (entry) {
+			entry.removed = true;
+			if (entry.cell >= 0) {
+				leaveCell(entry.cell, entry);
+				entry.cell = -1;
+			}
+		}
+	}
+
+	@Override
+	public void clear() {
+		entries.keySet().forEach(this::remove);
+	}
+
+	private List<TelemetryPosition> nearestByScan(double[] query, int k) {
+		// Max-heap of the k nearest so far: no sort of the whole fleet
+		PriorityQueue<Match> nearest = new PriorityQueue<>(k, Comparator.comparingDouble(Match::chord).reversed());
+		for (Entry entry : entries.values()) {
+			Located located = entry.located;
+			if (located == null) {
+				continue;
+			}
+			double chord = located.chordSquared(query);
+			if (nearest.size() < k) {
+				nearest.add(new Match(located.position, chord));
+			} else if (chord < nearest.peek().chord()) {
+				nearest.poll();
+				nearest.add(new Match(located.position, chord));
+			}
+		}
+		return sorted(new ArrayList<>(nearest), k);
+	}
+
+	/**
+	 * Hands every position in the cells overlapping the box to {@code consumer}, or every position
+	 * at all when that is fewer cells to look at. The consumer does the exact filtering.
+	 */
+	private void forEachCandidate(double south, double west, double north, double east,
+								  Consumer<Located> consumer) {
+		int y0 = cellY(south);
+		int y1 = cellY(north);
+		int x0 = cellX(west);
+		int x1 = cellX(east);
+		long columns = x0 <= x1 ? x1 - x0 + 1 : LON_CELLS - x0 + x1 + 1;
+		long cellCount = columns * (y1 - y0 + 1);
+		if (cellCount > cells.size()) {
+			for (Entry entry : entries.values()) {
+				Located located = entry.located;
+				if (located != null) {
+					consumer.accept(located);
+				}
+			}
+			return;
+		}
+		for (int y = y0; y <= y1; y++) {
+			for (long i = 0; i < columns; i++) {
+				Set<Entry> members = cells.get(y * LON_CELLS + (int) ((x0 + i) % LON_CELLS));
+				if (members != null) {
+					for (Entry entry : members) {
+						consumer.accept(entry.located);
+					}
+				}
+			}
+		}
+	}
+
+	private void leaveCell(int cell, Entry entry) {
+		cells.computeIfPresent(cell, (k, members) -> {
+			members.remove(entry);
+			return members.isEmpty() ? null : members;
+		});
+	}
+
+	private static List<TelemetryPosition> sorted(List<Match> matches, int limit) {
+		matches.sort(Comparator.comparingDouble(Match::chord));
+		int n = Math.min(limit, matches.size());
+		List<TelemetryPosition> result = new ArrayList<>(n);
+		for (int i = 0; i < n; i++) {
+			result.add(matches.get(i).position());
+		}
+		return result;
+	}
+
+	/**
+	 * @return squared chord length between two points on the unit sphere the given distance apart
+	 */
+	private static double chordSquared(double meters) {
+		double half = Math.sin(meters / EARTH_RADIUS_METERS / 2);
+		return 4 * half * half;
+	}
+
+	private static double[] unitVector(double latitude, double longitude) {
+		double lat = Math.toRadians(latitude);
+		double lon = Math.toRadians(longitude);
+		double cosLat = Math.cos(lat);
+		return new double[]{cosLat * Math.cos(lon), cosLat * Math.sin(lon), Math.sin(lat)};
+	}
+
+	private static boolean isValid(double latitude, double longitude) {
+		return Double.isFinite(latitude) && Double.isFinite(longitude)
+				&& latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180
+				&& !(latitude == 0 && longitude == 0);
+	}
+
+	private static int cellOf(double latitude, double longitude) {
+		return cellY(latitude) * LON_CELLS + cellX(longitude);
+	}
+
+	private static int cellY(double latitude) {
+		return Math.min(LAT_CELLS - 1, Math.max(0, (int) Math.floor((latitude + 90) / CELL_DEGREES)));
+	}
+
+	private static int cellX(double longitude) {
+		return Math.floorMod((int) Math.floor((longitude + 180) / CELL_DEGREES), LON_CELLS);
+	}
+
+	private static double normalizeLongitude(double longitude) {
+		if (longitude >= -180 && longitude <= 180) {
+			return longitude;
+		}
+		double wrapped = ((longitude + 180) % 360 + 360) % 360 - 180;
+		return wrapped == -180 && longitude > 0 ? 180 : wrapped;
+	}
+
+	private record Match(TelemetryPosition position, double chord) {
+	}
+
+	/**
+	 * A position with its unit vector.
+	 */
+	private static final class Located {
+
+		private final TelemetryPosition position;
+		private final double x;
+		private final double y;
+		private final double z;
+
+		private Located(TelemetryPosition position) {
+			double[] v = unitVector(position.getLatitude(), position.getLongitude());
+			this.position = position;
+			this.x = v[0];
+			this.y = v[1];
+			this.z = v[2];
+		}
+
+		double chordSquared(double[] q) {
+			double dx = x - q[0];
+			double dy = y - q[1];
+			double dz = z - q[2];
+			return dx * dx + dy * dy + dz * dz;
+		}
+	}
+
+	/**
+	 * One dock or drone. Position changes are serialized on the entry; readers see the volatile position.
+	 */
+	private static final class Entry {
+
+		private volatile Located located;
+		// Guarded by this; -1 when not in a cell
+		private int cell = -1;
+		private boolean removed;
+	}
+}
@@ -0,0 +1,923 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.domains.StreamHandle;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryGap;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySnapshot;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import com.zqnt.utils.livedata.proto.LiveDataStreamTelemetryRequest;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * One logical telemetry stream for a single SN, including its reconnect loop.
+ * Each (re)connect is an {@link Attempt}; the stream itself survives across attempts
+ * until it is stopped, completes, or gives up.
+ *
+ * Inactivity checks and reconnect delays are timeouts on the owner's shared {@link TelemetryTimer}.
+ * The inactivity timeout is armed once per stream and re-armed for the remaining idle time when it
+ * fires, so frames never touch the timer. Reconnect delays use decorrelated jitter, and every call
+ * opened by {@code start} or a reconnect takes a slot from the client's {@link StreamStartLimiter}.
+ *
+ * {@link StreamHandle#update} switches make-before-break: a candidate attempt is opened next to the
+ * current one and promoted on its first frame, with overlapping frames deduplicated by
+ * {@link TelemetryOverlap}. Streams with {@code autoRenew} do the same shortly before their duration ends.
+ * With {@code adaptiveFrequency}, a {@link TelemetryFrequencyController} uses the same switch to back
+ * off and restore the frequency.
+ *
+ * Stall detection is adaptive: a stream counts as stalled after {@code tolerance} times the larger of
+ * the requested {@code frequencyMs} and the EWMA of observed inter-arrival gaps, bounded by the
+ * configured minimum and {@link #MAX_STALL_TIMEOUT_MILLIS}. Without a frequency the maximum applies.
+ */
+@Slf4j
+class TelemetryStream {
+
+	// Upper bound of the stall timeout, and the timeout of streams without a frequency (unrelated to unary requestTimeoutSeconds)
+	static final long MAX_STALL_TIMEOUT_MILLIS = 5 * 60 * 1000L;
+	// A new call gets at least this long for its first frame (connect + server-side subscribe)
+	private static final long FIRST_FRAME_TIMEOUT_MILLIS = 10_000L;
+	// Weight of the newest gap in the inter-arrival EWMA
+	private static final double GAP_EWMA_ALPHA = 0.125;
+	static final long MAX_RECONNECT_DELAY_MILLIS = 30_000L;
+	// Auto-renewal opens the next call this long before the duration ends: 10% of it, within these bounds
+	private static final long MIN_RENEWAL_LEAD_MILLIS = 2_000L;
+	private static final long MAX_RENEWAL_LEAD_MILLIS = 30_000L;
+
+	private final LiveDataImpl owner;
+	// Replaced when an update or renewal takes over; delivery options never change
+	private volatile StreamTelemetryRequest request;
+	private final TelemetryFrameHandler frameHandler;
+	private final Consumer<Throwable> onError;
+	private final TelemetryStreamHandle handle;
+	private final Executor dispatchExecutor;
+	// Bounded stream buffer, null when frames go straight to the dispatch executor
+	// Holds frames, or TimedFrames when latency is tracked, so untracked streams allocate no wrapper
+	private final TelemetryMailbox<Object> mailbox;
+	private final int maxAttempts;
+	private final long baseDelayMillis;
+	// Delay of the previous reconnect, the seed of the next jittered one
+	private volatile long lastReconnectDelayMillis;
+	private final double stallTolerance;
+	private final long minStallTimeoutMillis;
+	// Written by the gRPC thread of the current attempt only
+	private volatile double gapEwmaMillis;
+	// When the current outage (stall or disconnect) was detected, 0 while frames flow
+	private volatile long outageStartedAt;
+	private final AtomicBoolean terminated = new AtomicBoolean(false);
+	// Manual gRPC flow control driven by a subscriber, null for callback streams (auto-request)
+	private final TelemetryDemand demand;
+	// Null unless latency tracking is enabled
+	private final TelemetryLatencyMonitorImpl.SnLatency latency;
+	// Dedup and gap detection across reconnects
+	private final TelemetryContinuity continuity;
+	// Null unless the request asks for adaptive frequency
+	private final TelemetryFrequencyController frequencyController;
+	// Null unless the stream is fed by a replay instead of a gRPC call
+	private final TelemetryDrain drain;
+	private volatile Runnable completionListener;
+	private volatile Attempt current;
+	private volatile TelemetryTimer.Timeout inactivityCheck;
+	private volatile TelemetryTimer.Timeout pendingReconnect;
+	private volatile TelemetryTimer.Timeout renewal;
+	private final Object switchLock = new Object();
+	// Make-before-break: the call opened by an update until its first frame, guarded by switchLock
+	private Attempt candidate;
+	private CompletableFuture<Void> candidateSwitched;
+	// Non-null while frames of the old and the new call may overlap
+	private volatile TelemetryOverlap overlap;
+
+	TelemetryStream(LiveDataImpl owner,
+					StreamTelemetryRequest request,
+					TelemetryFrameHandler frameHandler,
+					Consumer<Throwable> onError,
+					TelemetryStreamHandle handle) {
+		this(owner, request, frameHandler, onError, handle, null);
+	}
+
+	TelemetryStream(LiveDataImpl owner,
+					StreamTelemetryRequest request,
+					TelemetryFrameHandler frameHandler,
+					Consumer<Throwable> onError,
+					TelemetryStreamHandle handle,
+					TelemetryDemand demand) {
+		this(owner, request, frameHandler, onError, handle, demand, null, null);
+	}
+
+	private TelemetryStream(LiveDataImpl owner,
+							StreamTelemetryRequest request,
+							TelemetryFrameHandler frameHandler,
+							Consumer<Throwable> onError,
+							TelemetryStreamHandle handle,
+							TelemetryDemand demand,
+							TelemetryDrain drain,
+							Executor lane) {
+		this.owner = owner;
+		this.request = request;
+		this.demand = demand;
+		this.drain = drain;
+		// Deadband runs first, so suppressed frames are never mapped
+		this.frameHandler = request.getDeadband() != null
+				? new DeadbandFrameHandler(frameHandler, request.getDeadband(), () -> {
+					handle.getStatistics().recordSuppressedFrame();
+					if (demand != null) {
+						demand.release();
+					}
+				})
+				: frameHandler;
+		this.onError = onError;
+		this.handle = handle;
+		TelemetryDispatchMode dispatchMode = owner.dispatchModeFor(request);
+		this.dispatchExecutor = lane != null ? lane : owner.dispatchExecutor(dispatchMode, request.getSn());
+
+		this.continuity = new TelemetryContinuity(request.getSn(), this::onGap);
+		// Replayed frames say nothing about the live pipeline's latency
+		this.latency = drain == null ? owner.telemetryLatency().forSn(request.getSn()) : null;
+		// Switching the frequency needs a second concurrent call, which flow control cannot share
+		this.frequencyController = request.getAdaptiveFrequency() != null && demand == null && request.getFrequencyMs() > 0
+				? new TelemetryFrequencyController(request.getAdaptiveFrequency(), request.getSn(), request.getFrequencyMs(),
+						owner.timer(), handle.getStatistics(),
+						frequencyMs -> update(this.request.withFrequencyMs(frequencyMs)))
+				: null;
+
+		// With flow control the server never sends more than was requested, so there is nothing to buffer
+		this.mailbox = demand == null && lane == null
+				? owner.mailboxFor(request, dispatchMode, dispatchExecutor, this::processQueued, this::onDropped)
+				: null;
+		this.maxAttempts = owner.config() != null ? owner.config().getMaxRetryAttempts() : 3;
+		this.baseDelayMillis = owner.config() != null ? owner.config().getRetryDelayMillis() : 1000L;
+		this.stallTolerance = owner.config() != null ? Math.max(1.0, owner.config().getStreamStallTolerance()) : 5.0;
+		this.minStallTimeoutMillis = owner.config() != null ? Math.max(1L, owner.config().getStreamMinStallTimeoutMillis()) : 3000L;
+		handle.onStop(this::onStopped);
+		if (demand == null) {
+			// Two concurrent calls cannot share one subscriber's flow control
+			handle.onUpdate(next -> {
+				if (frequencyController != null && next != null) {
+					// The client's frequency becomes the one to restore to
+					frequencyController.rebase(next.getFrequencyMs());
+				}
+				return update(next);
+			});
+		}
+	}
+
+	/**
+	 * A stream fed through {@link #dispatch} by a replay rather than by a gRPC call; it is never started.
+	 */
+	static TelemetryStream forReplay(LiveDataImpl owner,
+									 StreamTelemetryRequest request,
+									 TelemetryFrameHandler frameHandler,
+									 Consumer<Throwable> onError) {
+		// The replay thread is not the gRPC thread: rather than the ORDERED default of dropping, it waits for the consumer
+		if (request.getOverflowPolicy() == null && owner.config().getTelemetryOverflowPolicy() == null
+				&& owner.dispatchModeFor(request) == TelemetryDispatchMode.ORDERED) {
+			request = request.withOverflowPolicy(TelemetryOverflowPolicy.BLOCK);
+		}
+		return new TelemetryStream(owner, request, frameHandler, onError, new TelemetryStreamHandle(), null, new TelemetryDrain(), null);
+	}
+
+	/**
+	 * A stream shared by several subscribers: frames are handed to the frame handler on a serial lane of
+	 * its own, which only maps them and fans them out. Dispatch mode and stream buffer are the subscribers'
+	 * own, so the request's are ignored.
+	 */
+	static TelemetryStream forFanOut(LiveDataImpl owner,
+									 StreamTelemetryRequest request,
+									 TelemetryFrameHandler frameHandler,
+									 Consumer<Throwable> onError) {
+		return new TelemetryStream(owner, request, frameHandler, onError, new TelemetryStreamHandle(), null, null,
+				new SerialExecutor(owner.bufferDrainExecutor()));
+	}
+
+	/**
+	 * @return {@code base} with the server-side parameters of {@code next}; delivery options stay from {@code base}
+	 */
+	static StreamTelemetryRequest withServerParameters(StreamTelemetryRequest base, StreamTelemetryRequest next) {
+		return base.withTid(next.getTid())
+				.withFrequencyMs(next.getFrequencyMs())
+				.withDuration(next.getDuration())
+				.withTimestamp(next.getTimestamp())
+				.withAutoRenew(next.isAutoRenew());
+	}
+
+	String sn() {
+		return request.getSn();
+	}
+
+	TelemetryStreamHandle handle() {
+		return handle;
+	}
+
+	/**
+	 * @return true once the stream will not produce data anymore (stopped, completed or gave up)
+	 */
+	boolean isTerminated() {
+		return terminated.get() || handle.isStopped();
+	}
+
+	/**
+	 * Runs a task on the stream's dispatch executor, behind the frames already dispatched.
+	 */
+	void execute(Runnable task) {
+		dispatchExecutor.execute(task);
+	}
+
+	/**
+	 * Ends the input of a replay stream: no frame is dispatched anymore.
+	 *
+	 * @return completes once the frames dispatched before were processed or dropped
+	 */
+	CompletableFuture<Void> endInput() {
+		if (drain == null) {
+			throw new IllegalStateException("Only replay streams end their input");
+		}
+		return drain.endInput();
+	}
+
+	/**
+	 * Runs once the server completes the stream normally, after all frames received before.
+	 */
+	void whenCompleted(Runnable listener) {
+		this.completionListener = listener;
+	}
+
+	void start() {
+		if (isTerminated()) {
+			// Stopped before its turn to start, e.g. removed from a fleet while pending
+			return;
+		}
+		if (request.isReplayLatest()) {
+			replayLatest();
+		}
+		start(0);
+		armInactivityCheck(stallTimeoutMillis(current));
+		if (frequencyController != null) {
+			frequencyController.start();
+		}
+	}
+
+	/**
+	 * Hands the last known frame of the SN to the consumer right away, on the same executor as live frames.
+	 */
+	private void replayLatest() {
+		TelemetrySnapshot snapshot = owner.snapshotStore().get(sn());
+		if (snapshot == null) {
+			return;
+		}
+		dispatchExecutor.execute(() -> {
+			try {
+				frameHandler.replay(snapshot);
+			} catch (Exception e) {
+				log.error("Error processing replayed stream item: {}", e.getMessage(), e);
+				if (onError != null) {
+					onError.accept(e);
+				}
+			}
+		});
+	}
+
+	private void start(int reconnectAttempt) {
+		if (isTerminated()) {
+			return;
+		}
+		long wait = owner.startLimiter().reserve();
+		if (wait > 0L) {
+			// Over the client's start rate: wait for the reserved slot, cancelled by stop()
+			pendingReconnect = owner.timer().schedule(() -> connect(reconnectAttempt), wait, MILLISECONDS);
+			return;
+		}
+		connect(reconnectAttempt);
+	}
+
+	private void connect(int reconnectAttempt) {
+		if (isTerminated()) {
+			return;
+		}
+
+		try {
+			owner.resilience().checkCircuitBreaker();
+		} catch (RuntimeException e) {
+			log.warn("Rejecting stream request for SN {} - circuit breaker is OPEN: {}", sn(), e.getMessage());
+			fail(e);
+			return;
+		}
+
+		Attempt attempt = new Attempt(reconnectAttempt, request);
+		current = attempt;
+
+		try {
+			open(attempt);
+			armRenewal(attempt);
+		} catch (Exception e) {
+			log.error("Failed to start stream for SN {}: {}", sn(), e.getMessage(), e);
+			fail(e);
+		}
+	}
+
+	private void open(Attempt attempt) {
+		owner.asyncStub().streamTelemetry(owner.mapper().toProtoRequest(attempt.request), attempt);
+		if (handle.isStopped()) {
+			// Stopped while the call was being opened: onStopped did not see this attempt yet
+			attempt.cancelCall("Stopped by client");
+			return;
+		}
+		if (demand != null && attempt.call != null) {
+			demand.attach(attempt.call);
+		}
+	}
+
+	/**
+	 * Opens a candidate call with the new server-side parameters next to the current one.
+	 */
+	private CompletableFuture<Void> update(StreamTelemetryRequest next) {
+		if (next == null || !Objects.equals(next.getSn(), sn())) {
+			return CompletableFuture.failedFuture(new IllegalArgumentException("An update must keep the SN " + sn()));
+		}
+		if (isTerminated()) {
+			return CompletableFuture.failedFuture(new IllegalStateException("Stream for SN " + sn() + " has ended"));
+		}
+		CompletableFuture<Void> switched = new CompletableFuture<>();
+		Attempt attempt = new Attempt(0, withServerParameters(request, next));
+		synchronized (switchLock) {
+			abandonCandidate(new CancellationException("Superseded by a newer update"));
+			candidate = attempt;
+			candidateSwitched = switched;
+			overlap = new TelemetryOverlap();
+		}
+		try {
+			open(attempt);
+		} catch (Exception e) {
+			log.warn("Failed to open updated stream for SN {}: {}", sn(), e.getMessage());
+			synchronized (switchLock) {
+				if (candidate == attempt) {
+					abandonCandidate(e);
+				}
+			}
+			return switched;
+		}
+		// The old call keeps delivering; give up on the new one if it stays silent
+		owner.timer().schedule(() -> {
+			synchronized (switchLock) {
+				if (candidate == attempt) {
+					log.warn("Updated stream for SN {} delivered nothing, keeping the current one", sn());
+					abandonCandidate(new TimeoutException("Updated stream delivered no frame"));
+				}
+			}
+		}, firstFrameTimeoutMillis(), MILLISECONDS);
+		return switched;
+	}
+
+	/**
+	 * Makes the candidate the current attempt and closes the old call. Caller holds switchLock.
+	 */
+	private void promote(Attempt next) {
+		Attempt old = current;
+		current = next;
+		candidate = null;
+		request = next.request;
+		gapEwmaMillis = 0.0;
+		cancelTimeout(pendingReconnect);
+		if (old != null && old != next && old.ended.compareAndSet(false, true)) {
+			old.cancelCall("Replaced by updated stream");
+		}
+		armRenewal(next);
+		if (candidateSwitched != null) {
+			candidateSwitched.complete(null);
+			candidateSwitched = null;
+		}
+		log.debug("Stream for SN {} switched to frequency {}ms", sn(), next.request.getFrequencyMs());
+	}
+
+	/**
+	 * Drops the candidate, the current call stays. Caller holds switchLock.
+	 */
+	private void abandonCandidate(Throwable reason) {
+		Attempt attempt = candidate;
+		if (attempt == null) {
+			return;
+		}
+		candidate = null;
+		overlap = null;
+		attempt.ended.set(true);
+		attempt.cancelCall("Update abandoned");
+		if (candidateSwitched != null) {
+			candidateSwitched.completeExceptionally(reason);
+			candidateSwitched = null;
+		}
+	}
+
+	/**
+	 * Frame gate while an update is in flight: promotes the candidate on its first frame, remembers what
+	 * the old call delivered until then, and drops the new call's frames the old one already delivered.
+	 */
+	private boolean admitDuringSwitch(Attempt attempt, TelemetryOverlap o, LiveDataTelemetryResponse frame) {
+		synchronized (switchLock) {
+			if (attempt == candidate) {
+				promote(attempt);
+			}
+			if (attempt != current) {
+				// Old call racing the switch, or a stale attempt
+				return false;
+			}
+			if (candidate != null) {
+				o.recordOld(frame);
+				return true;
+			}
+			if (o.isDuplicate(frame)) {
+				return false;
+			}
+			if (o.isDone() && overlap == o) {
+				overlap = null;
+			}
+			return true;
+		}
+	}
+
+	private void armRenewal(Attempt attempt) {
+		StreamTelemetryRequest r = attempt.request;
+		if (!r.isAutoRenew() || r.getDuration() <= 0 || isTerminated()) {
+			return;
+		}
+		long durationMillis = r.getDuration() * 1000L;
+		long lead = Math.min(MAX_RENEWAL_LEAD_MILLIS, Math.max(MIN_RENEWAL_LEAD_MILLIS, durationMillis / 10));
+		long delay = durationMillis > lead ? durationMillis - lead : durationMillis / 2;
+		cancelTimeout(renewal);
+		renewal = owner.timer().schedule(() -> {
+			if (current == attempt && !isTerminated()) {
+				log.debug("Renewing duration-limited stream for SN {}", sn());
+				update(r.withTimestamp(LocalDateTime.now()));
+			}
+		}, delay, MILLISECONDS);
+	}
+
+	/**
+	 * @return how long a newly opened call may take to deliver its first frame
+	 */
+	long firstFrameTimeoutMillis() {
+		return stallTimeoutMillis(null);
+	}
+
+	/**
+	 * @return how long the attempt may stay silent before it counts as stalled
+	 */
+	private long stallTimeoutMillis(Attempt attempt) {
+		long timeout = MAX_STALL_TIMEOUT_MILLIS;
+		int frequencyMs = request.getFrequencyMs();
+		if (frequencyMs > 0) {
+			double interval = Math.max(frequencyMs, gapEwmaMillis);
+			timeout = Math.min(MAX_STALL_TIMEOUT_MILLIS, Math.max(minStallTimeoutMillis, (long) (interval * stallTolerance)));
+		}
+		if (attempt == null || !attempt.dataReceived) {
+			timeout = Math.max(timeout, FIRST_FRAME_TIMEOUT_MILLIS);
+		}
+		return timeout;
+	}
+
+	/**
+	 * Reconnects the current attempt if it has not delivered anything for its stall timeout.
+	 */
+	private void checkInactivity(long nowMillis) {
+		Attempt attempt = current;
+		if (attempt == null || attempt.ended.get() || isTerminated()) {
+			return;
+		}
+		if (demand != null && demand.isPaused()) {
+			// Silent because the subscriber applies backpressure: not inactivity
+			attempt.lastReceivedAt = nowMillis;
+			return;
+		}
+		long timeout = stallTimeoutMillis(attempt);
+		if (nowMillis - attempt.lastReceivedAt < timeout) {
+			return;
+		}
+		if (!attempt.ended.compareAndSet(false, true)) {
+			return;
+		}
+
+		log.warn("Stream for SN {} stalled, nothing received for {}ms, reconnecting...", sn(), timeout);
+		handle.getStatistics().recordStall();
+		markOutage(nowMillis);
+
+		// Reconnect: if data was received before, treat as blip and reset counter
+		int nextAttempt = attempt.dataReceived ? 0 : attempt.number + 1;
+
+		if (nextAttempt > maxAttempts) {
+			String msg = "Stream stalled for " + timeout + "ms and max reconnect attempts (" + maxAttempts + ") reached";
+			log.error(msg);
+			fail(new TimeoutException(msg));
+			return;
+		}
+
+		long delay = reconnectDelay(nextAttempt);
+		log.warn("Reconnecting SN {} after stall (attempt {}/{}), delay {}ms",
+				sn(), nextAttempt, maxAttempts, delay);
+		attempt.cancelCall("Stall detected");
+		scheduleReconnect(nextAttempt, delay);
+	}
+
+	/**
+	 * Runs once on {@link StreamHandle#stop()}: cancels the gRPC call so the server stops sending,
+	 * and the pending timeouts so nothing reconnects. The handle terminates when the call is closed.
+	 */
+	private void onStopped() {
+		cancelTimeout(inactivityCheck);
+		cancelTimeout(pendingReconnect);
+		cancelTimeout(renewal);
+		stopFrequencyController();
+		synchronized (switchLock) {
+			abandonCandidate(new CancellationException("Stream stopped"));
+		}
+		Attempt attempt = current;
+		if (attempt != null && !attempt.ended.get()) {
+			attempt.cancelCall("Stopped by client");
+		} else {
+			handle.markTerminated();
+		}
+	}
+
+	private void stopFrequencyController() {
+		if (frequencyController != null) {
+			frequencyController.stop();
+		}
+	}
+
+	private static void cancelTimeout(TelemetryTimer.Timeout timeout) {
+		if (timeout != null) {
+			timeout.cancel();
+		}
+	}
+
+	private void armInactivityCheck(long delayMillis) {
+		if (isTerminated()) {
+			return;
+		}
+		inactivityCheck = owner.timer().schedule(this::onInactivityCheck, delayMillis, MILLISECONDS);
+	}
+
+	private void onInactivityCheck() {
+		long now = System.currentTimeMillis();
+		checkInactivity(now);
+		Attempt attempt = current;
+		long idle = attempt != null && !attempt.ended.get() ? now - attempt.lastReceivedAt : 0L;
+		// Wake up exactly when the current attempt could time out, not on a fixed polling interval
+		armInactivityCheck(Math.max(1L, stallTimeoutMillis(attempt) - idle));
+	}
+
+	private void markOutage(long nowMillis) {
+		if (outageStartedAt == 0L) {
+			outageStartedAt = nowMillis;
+		}
+	}
+
+	/**
+	 * Called on every frame of the current attempt, on its gRPC thread.
+	 */
+	private void onFrameReceived(Attempt attempt, long nowMillis) {
+		if (attempt.dataReceived) {
+			long gap = nowMillis - attempt.lastReceivedAt;
+			double ewma = gapEwmaMillis;
+			gapEwmaMillis = ewma == 0.0 ? gap : ewma + GAP_EWMA_ALPHA * (gap - ewma);
+			return;
+		}
+		attempt.dataReceived = true;
+		long outageStart = outageStartedAt;
+		if (outageStart != 0L) {
+			outageStartedAt = 0L;
+			handle.getStatistics().recordRecovery(nowMillis - outageStart);
+		}
+	}
+
+	/**
+	 * Decorrelated jitter: a random delay between the base delay and three times the previous one,
+	 * capped, so streams that failed together do not come back together. Starts over from the base
+	 * delay after a blip of a stream that had delivered data.
+	 */
+	private long reconnectDelay(int nextAttempt) {
+		long previous = nextAttempt == 0 || lastReconnectDelayMillis == 0L ? baseDelayMillis : lastReconnectDelayMillis;
+		long delay = nextReconnectDelay(baseDelayMillis, previous);
+		lastReconnectDelayMillis = delay;
+		return delay;
+	}
+
+	/**
+	 * One draw of {@link #reconnectDelay}: within [base, 3 * previous], at most
+	 * {@link #MAX_RECONNECT_DELAY_MILLIS}.
+	 */
+	static long nextReconnectDelay(long baseDelayMillis, long previousDelayMillis) {
+		long upper = Math.max(baseDelayMillis, previousDelayMillis * 3) + 1;
+		return Math.min(MAX_RECONNECT_DELAY_MILLIS, ThreadLocalRandom.current().nextLong(baseDelayMillis, upper));
+	}
+
+	private void scheduleReconnect(int nextAttempt, long delayMillis) {
+		pendingReconnect = owner.timer().schedule(() -> {
+			if (!isTerminated()) {
+				handle.getStatistics().recordReconnect();
+				continuity.onReconnect();
+				start(nextAttempt);
+			}
+		}, delayMillis, MILLISECONDS);
+	}
+
+	/**
+	 * Entry point of a received frame into the stream's pipeline: the stream buffer if there is one,
+	 * otherwise the dispatch executor. Used for live frames and for replayed recordings.
+	 */
+	void dispatch(LiveDataTelemetryResponse protoResponse) {
+		if (frequencyController != null) {
+			frequencyController.onQueued();
+		}
+		if (drain != null) {
+			drain.onDispatched();
+		}
+		long queuedAt = latency != null ? System.nanoTime() : 0L;
+		if (mailbox != null) {
+			mailbox.offer(latency != null ? new TimedFrame(protoResponse, queuedAt) : protoResponse);
+			return;
+		}
+		// Proto-to-POJO mapping is moved into the executor to avoid blocking the gRPC Netty I/O thread.
+		try {
+			dispatchExecutor.execute(() -> process(protoResponse, queuedAt));
+		} catch (RejectedExecutionException e) {
+			onProcessed(protoResponse, 0L);
+			throw e;
+		}
+	}
+
+	private void processQueued(Object item) {
+		if (item instanceof TimedFrame timed) {
+			process(timed.frame(), timed.queuedAt());
+		} else {
+			process((LiveDataTelemetryResponse) item, 0L);
+		}
+	}
+
+	/**
+	 * Hands a frame to the frame handler. Runs on the dispatch executor, never on the gRPC thread.
+	 */
+	private void process(LiveDataTelemetryResponse protoResponse, long queuedAt) {
+		if (handle.isStopped()) {
+			// Buffered before stop(): discard without mapping
+			onProcessed(protoResponse, 0L);
+			return;
+		}
+		long startedAt = frequencyController != null || latency != null ? System.nanoTime() : 0L;
+		try {
+			if (drain == null) {
+				// Live state: a replay of the past must not move the fleet or fire geofence events
+				owner.spatialIndex().update(protoResponse);
+				owner.geofences().update(protoResponse);
+			}
+			if (latency != null) {
+				latency.record(TelemetryLatencyStage.QUEUE, startedAt - queuedAt);
+				frameHandler.onFrame(protoResponse, latency);
+			} else {
+				frameHandler.onFrame(protoResponse);
+			}
+			if (drain == null) {
+				// Nor about the health of the connection
+				owner.resilience().recordSuccess();
+			}
+		} catch (Exception e) {
+			log.error("Error processing stream item: {}", e.getMessage(), e);
+			if (onError != null) {
+				onError.accept(e);
+			}
+		} finally {
+			onProcessed(protoResponse, frequencyController != null ? System.nanoTime() - startedAt : 0L);
+		}
+	}
+
+	/**
+	 * A frame left the pipeline after {@code nanos} of processing (0 if it was discarded).
+	 */
+	private void onProcessed(LiveDataTelemetryResponse protoResponse, long nanos) {
+		if (frequencyController != null) {
+			frequencyController.onProcessed(protoResponse, nanos);
+		}
+		if (drain != null) {
+			drain.onDone();
+		}
+	}
+
+	/**
+	 * A buffered frame with the time it entered the pipeline.
+	 */
+	private record TimedFrame(LiveDataTelemetryResponse frame, long queuedAt) {
+	}
+
+	private long expectedIntervalMillis() {
+		int frequencyMs = request.getFrequencyMs();
+		return frequencyMs > 0 ? frequencyMs : (long) gapEwmaMillis;
+	}
+
+	private void onGap(TelemetryGap gap) {
+		handle.getStatistics().recordGap(gap.getEstimatedMissedFrames());
+		log.info("Telemetry gap for SN {} ({}): {} to {}, ~{} frames missed",
+				sn(), gap.getKind(), gap.getFrom(), gap.getTo(), gap.getEstimatedMissedFrames());
+		Consumer<TelemetryGap> listener = owner.gapListener();
+		if (listener != null) {
+			dispatchExecutor.execute(() -> {
+				try {
+					listener.accept(gap);
+				} catch (Exception e) {
+					log.error("Error in telemetry gap listener: {}", e.getMessage(), e);
+				}
+			});
+		}
+	}
+
+	private void onDropped() {
+		handle.getStatistics().recordDroppedFrame();
+		if (frequencyController != null) {
+			frequencyController.onDropped();
+		}
+		if (drain != null) {
+			drain.onDone();
+		}
+	}
+
+	private void fail(Throwable error) {
+		terminated.set(true);
+		cancelTimeout(inactivityCheck);
+		cancelTimeout(renewal);
+		stopFrequencyController();
+		handle.markTerminated();
+		if (onError != null) {
+			onError.accept(error);
+		}
+	}
+
+	/**
+	 * A single gRPC server-streaming call. Frames from an attempt that was already replaced
+	 * (zombie stream after an inactivity reconnect) are ignored.
+	 */
+	private final class Attempt implements ClientResponseObserver<LiveDataStreamTelemetryRequest, LiveDataTelemetryResponse> {
+
+		private final int number;
+		private final StreamTelemetryRequest request;
+		private final AtomicBoolean ended = new AtomicBoolean(false);
+		private volatile boolean dataReceived;
+		private volatile long lastReceivedAt = System.currentTimeMillis();
+		private volatile ClientCallStreamObserver<LiveDataStreamTelemetryRequest> call;
+
+		private Attempt(int number, StreamTelemetryRequest request) {
+			this.number = number;
+			this.request = request;
+		}
+
+		@Override
+		public void beforeStart(ClientCallStreamObserver<LiveDataStreamTelemetryRequest> requestStream) {
+			this.call = requestStream;
+			if (demand != null) {
+				requestStream.disableAutoRequestWithInitial(demand.initialRequest());
+			}
+		}
+
+		private void cancelCall(String reason) {
+			ClientCallStreamObserver<LiveDataStreamTelemetryRequest> c = call;
+			if (c != null) {
+				if (demand != null) {
+					demand.detach(c);
+				}
+				c.cancel(reason, null);
+			}
+		}
+
+		@Override
+		public void onNext(LiveDataTelemetryResponse protoResponse) {
+			if (ended.get()) {
+				return;
+			}
+			TelemetryOverlap o = overlap;
+			if (o != null && !admitDuringSwitch(this, o, protoResponse)) {
+				return;
+			}
+			long now = System.currentTimeMillis();
+			onFrameReceived(this, now);
+			lastReceivedAt = now;
+			handle.getStatistics().recordFrame(protoResponse.getSerializedSize(), now);
+			if (demand != null) {
+				demand.onReceived();
+			}
+			if (!continuity.admit(protoResponse, expectedIntervalMillis())) {
+				// Replayed after a reconnect
+				handle.getStatistics().recordDuplicateFrame();
+				if (demand != null) {
+					demand.release();
+				}
+				return;
+			}
+			if (latency != null && protoResponse.hasTimestamp()) {
+				Timestamp sent = protoResponse.getTimestamp();
+				latency.recordNetwork(sent.getSeconds() * 1_000L + sent.getNanos() / 1_000_000, now);
+			}
+			owner.recordFrame(protoResponse, now);
+			dispatch(protoResponse);
+		}
+
+		@Override
+		public void onError(Throwable error) {
+			synchronized (switchLock) {
+				if (candidate == this) {
+					log.warn("Updated stream for SN {} failed before delivering, keeping the current one: {}", sn(), error.getMessage());
+					abandonCandidate(error);
+					return;
+				}
+			}
+			// An attempt already ended by the inactivity check has its reconnect scheduled
+			boolean alreadyEnded = ended.getAndSet(true);
+			if (demand != null) {
+				demand.detach(call);
+			}
+			owner.resilience().recordFailure(error);
+
+			if (isTerminated()) {
+				// Call closed after stop() or the final failure
+				handle.markTerminated();
+				return;
+			}
+			if (alreadyEnded) {
+				return;
+			}
+			synchronized (switchLock) {
+				if (candidate != null && current == this) {
+					// An update is already opening the next call: take it instead of reconnecting
+					promote(candidate);
+					return;
+				}
+			}
+
+			// If data was received, treat disconnect as a blip and reset attempt counter
+			int nextAttempt = dataReceived ? 0 : number + 1;
+
+			if (nextAttempt > maxAttempts) {
+				log.error("Stream for SN {} failed after {} reconnect attempts, giving up: {}", sn(), number, error.getMessage(), error);
+				fail(error);
+				return;
+			}
+
+			markOutage(System.currentTimeMillis());
+			long delay = reconnectDelay(nextAttempt);
+			log.warn("Stream error for SN {} (attempt {}/{}), reconnecting in {}ms: {}",
+					sn(), nextAttempt, maxAttempts, delay, error.getMessage());
+			scheduleReconnect(nextAttempt, delay);
+		}
+
+		@Override
+		public void onCompleted() {
+			// Server closed the stream normally: no reconnect, unless this attempt was already replaced
+			if (demand != null) {
+				demand.detach(call);
+			}
+			synchronized (switchLock) {
+				if (candidate == this) {
+					abandonCandidate(new IllegalStateException("Updated stream completed before delivering"));
+					return;
+				}
+				if (candidate != null && current == this && ended.compareAndSet(false, true)) {
+					// Duration ran out while the renewal was opening: the new call takes over
+					promote(candidate);
+					return;
+				}
+			}
+			if (request.isAutoRenew() && current == this && !isTerminated() && ended.compareAndSet(false, true)) {
+				// Renewal did not make it in time: reconnect rather than end the stream
+				log.warn("Auto-renewed stream for SN {} completed before its renewal, reconnecting", sn());
+				markOutage(System.currentTimeMillis());
+				scheduleReconnect(0, 0L);
+				return;
+			}
+			if (!ended.getAndSet(true) && current == this) {
+				terminated.set(true);
+				cancelTimeout(inactivityCheck);
+				stopFrequencyController();
+				Runnable listener = completionListener;
+				if (listener != null) {
+					// Queued behind the frames already dispatched on a serial executor
+					dispatchExecutor.execute(listener);
+				}
+			}
+			if (isTerminated()) {
+				handle.markTerminated();
+			}
+			log.debug("Stream for SN {} completed", sn());
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.StreamHandle;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * The SDK's {@link StreamHandle}: opens the protected hooks to this package and reports counters
+ * only the SDK can update. Callers see it as a plain {@link StreamHandle}.
+ */
+final class TelemetryStreamHandle extends StreamHandle {
+
+	TelemetryStreamHandle() {
+		this(new TelemetryStreamStatistics());
+	}
+
+	TelemetryStreamHandle(TelemetryStreamStatistics statistics) {
+		super(statistics);
+	}
+
+	@Override
+	public TelemetryStreamStatistics getStatistics() {
+		return (TelemetryStreamStatistics) super.getStatistics();
+	}
+
+	@Override
+	public void onUpdate(Function<StreamTelemetryRequest, CompletableFuture<Void>> updater) {
+		super.onUpdate(updater);
+	}
+
+	@Override
+	public void onStop(Runnable action) {
+		super.onStop(action);
+	}
+
+	@Override
+	public void markTerminated() {
+		super.markTerminated();
+	}
+}
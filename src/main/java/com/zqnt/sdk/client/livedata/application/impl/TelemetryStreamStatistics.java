@@ -0,0 +1,65 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.StreamStatistics;
+
+/**
+ * The SDK's {@link StreamStatistics}: opens the protected update methods to this package.
+ * Callers see it as read-only {@link StreamStatistics}.
+ */
+class TelemetryStreamStatistics extends StreamStatistics {
+
+	@Override
+	public void recordFrame(long bytes, long receivedAtMillis) {
+		super.recordFrame(bytes, receivedAtMillis);
+	}
+
+	@Override
+	public void recordReconnect() {
+		super.recordReconnect();
+	}
+
+	@Override
+	public void recordDroppedFrame() {
+		super.recordDroppedFrame();
+	}
+
+	@Override
+	public void recordSuppressedFrame() {
+		super.recordSuppressedFrame();
+	}
+
+	@Override
+	public void recordStall() {
+		super.recordStall();
+	}
+
+	@Override
+	public void recordRecovery(long millis) {
+		super.recordRecovery(millis);
+	}
+
+	@Override
+	public void recordDuplicateFrame() {
+		super.recordDuplicateFrame();
+	}
+
+	@Override
+	public void recordGap(long missedFrames) {
+		super.recordGap(missedFrames);
+	}
+
+	@Override
+	public void setEffectiveFrequencyMs(int frequencyMs) {
+		super.setEffectiveFrequencyMs(frequencyMs);
+	}
+
+	@Override
+	public void recordFrequencyBackoff() {
+		super.recordFrequencyBackoff();
+	}
+
+	@Override
+	public void recordFrequencyRestore() {
+		super.recordFrequencyRestore();
+	}
+}
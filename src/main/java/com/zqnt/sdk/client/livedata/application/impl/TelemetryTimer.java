@@ -0,0 +1,277 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed-wheel timer for the many short-lived timeouts of telemetry streams (inactivity checks,
+ * reconnect delays). Adding and cancelling are O(1) and lock-free for the caller; one worker
+ * thread advances the wheel every tick and runs expired tasks. Precision is one tick, which is
+ * plenty for second-scale stream timeouts.
+ * <p>
+ * Unlike a {@code ScheduledThreadPoolExecutor}, there is no shared heap to re-balance on every
+ * add, and cancelled timeouts are unlinked on the next tick instead of piling up until purged.
+ * Tasks run on the worker thread and must be short; anything heavier must hand off to an executor.
+ */
+@Slf4j
+final class TelemetryTimer {
+
+	private static final int STATE_PENDING = 0;
+	private static final int STATE_CANCELLED = 1;
+	private static final int STATE_EXPIRED = 2;
+
+	private static final int WORKER_INIT = 0;
+	private static final int WORKER_STARTED = 1;
+	private static final int WORKER_SHUTDOWN = 2;
+
+	// Bounds the work of one tick when a burst of timeouts is added
+	private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+	private final long tickNanos;
+	private final Bucket[] wheel;
+	private final int mask;
+	private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+	private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger workerState = new AtomicInteger(WORKER_INIT);
+	private final Thread worker;
+	private volatile long startNanos;
+	private long tick;
+
+	TelemetryTimer(String threadName, long tickDuration, TimeUnit unit, int wheelSize) {
+		if (tickDuration <= 0 || wheelSize <= 0) {
+			throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+		}
+		int size = Integer.highestOneBit(wheelSize - 1) << 1;
+		this.wheel = new Bucket[Math.max(1, size)];
+		for (int i = 0; i < wheel.length; i++) {
+			wheel[i] = new Bucket();
+		}
+		this.mask = wheel.length - 1;
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.worker = new Thread(this::run, threadName);
+		this.worker.setDaemon(true);
+	}
+
+	/**
+	 * Schedules a one-shot task. The worker thread is started on first use.
+	 * After {@link #shutdown()} the task is dropped: streams may still reconnect or renew from gRPC
+	 * threads while the client shuts down, and there is nothing left to run them for.
+	 *
+	 * @return a handle to cancel the task; already cancelled if the timer is shut down
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		if (workerState.get() == WORKER_SHUTDOWN) {
+			Timeout dropped = new Timeout(this, task, 0L);
+			dropped.state.set(STATE_CANCELLED);
+			return dropped;
+		}
+		startWorkerIfNeeded();
+		long deadline = System.nanoTime() - startNanos + Math.max(0L, unit.toNanos(delay));
+		Timeout timeout = new Timeout(this, task, deadline);
+		pendingAdds.add(timeout);
+		return timeout;
+	}
+
+	/**
+	 * @return number of scheduled, not yet expired or cancelled timeouts (approximate)
+	 */
+	int pendingCount() {
+		int count = pendingAdds.size();
+		for (Bucket bucket : wheel) {
+			count += bucket.size;
+		}
+		return count;
+	}
+
+	void shutdown() {
+		if (workerState.getAndSet(WORKER_SHUTDOWN) == WORKER_STARTED) {
+			worker.interrupt();
+		}
+	}
+
+	private void startWorkerIfNeeded() {
+		if (workerState.get() == WORKER_INIT && workerState.compareAndSet(WORKER_INIT, WORKER_STARTED)) {
+			startNanos = System.nanoTime();
+			worker.start();
+		}
+		while (startNanos == 0L && workerState.get() == WORKER_STARTED) {
+			// Another thread is starting the worker; startNanos is published right away
+			Thread.onSpinWait();
+		}
+	}
+
+	private void run() {
+		while (workerState.get() == WORKER_STARTED) {
+			if (!waitForNextTick()) {
+				break;
+			}
+			removeCancelled();
+			transferPending();
+			wheel[(int) (tick & mask)].expire();
+			tick++;
+		}
+	}
+
+	/**
+	 * @return false on shutdown
+	 */
+	private boolean waitForNextTick() {
+		long deadline = tickNanos * (tick + 1);
+		while (true) {
+			long elapsed = System.nanoTime() - startNanos;
+			long sleepNanos = deadline - elapsed;
+			if (sleepNanos <= 0) {
+				return true;
+			}
+			try {
+				TimeUnit.NANOSECONDS.sleep(sleepNanos);
+			} catch (InterruptedException e) {
+				if (workerState.get() == WORKER_SHUTDOWN) {
+					return false;
+				}
+			}
+		}
+	}
+
+	private void transferPending() {
+		for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+			Timeout timeout = pendingAdds.poll();
+			if (timeout == null) {
+				return;
+			}
+			if (timeout.state.get() == STATE_CANCELLED) {
+				continue;
+			}
+			long ticks = timeout.deadline / tickNanos;
+			timeout.remainingRounds = (ticks - tick) / wheel.length;
+			// Never schedule into the past: late timeouts expire on the current tick
+			long target = Math.max(ticks, tick);
+			wheel[(int) (target & mask)].add(timeout);
+		}
+	}
+
+	private void removeCancelled() {
+		Timeout timeout;
+		while ((timeout = pendingCancels.poll()) != null) {
+			Bucket bucket = timeout.bucket;
+			if (bucket != null) {
+				bucket.remove(timeout);
+			}
+		}
+	}
+
+	/**
+	 * A scheduled task. {@link #cancel()} is O(1): it flips the state and queues the unlink for the worker.
+	 */
+	static final class Timeout {
+
+		private final TelemetryTimer timer;
+		private final Runnable task;
+		private final long deadline;
+		private final AtomicInteger state = new AtomicInteger(STATE_PENDING);
+		// Owned by the worker thread
+		private long remainingRounds;
+		private Bucket bucket;
+		private Timeout next;
+		private Timeout prev;
+
+		private Timeout(TelemetryTimer timer, Runnable task, long deadline) {
+			this.timer = timer;
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * @return false if the task already ran or was cancelled before
+		 */
+		boolean cancel() {
+			if (!state.compareAndSet(STATE_PENDING, STATE_CANCELLED)) {
+				return false;
+			}
+			timer.pendingCancels.add(this);
+			return true;
+		}
+
+		boolean isCancelled() {
+			return state.get() == STATE_CANCELLED;
+		}
+
+		boolean isExpired() {
+			return state.get() == STATE_EXPIRED;
+		}
+
+		private void expire() {
+			if (!state.compareAndSet(STATE_PENDING, STATE_EXPIRED)) {
+				return;
+			}
+			try {
+				task.run();
+			} catch (Throwable t) {
+				log.error("Telemetry timer task failed: {}", t.getMessage(), t);
+			}
+		}
+	}
+
+	/**
+	 * Doubly-linked list of timeouts, only touched by the worker thread.
+	 */
+	private static final class Bucket {
+
+		private Timeout head;
+		private Timeout tail;
+		private int size;
+
+		private void add(Timeout timeout) {
+			timeout.bucket = this;
+			if (head == null) {
+				head = tail = timeout;
+			} else {
+				tail.next = timeout;
+				timeout.prev = tail;
+				tail = timeout;
+			}
+			size++;
+		}
+
+		private void expire() {
+			Timeout timeout = head;
+			while (timeout != null) {
+				Timeout next = timeout.next;
+				if (timeout.remainingRounds <= 0) {
+					// Deadline is always within this tick: rounds and bucket were derived from it
+					remove(timeout);
+					timeout.expire();
+				} else if (timeout.isCancelled()) {
+					remove(timeout);
+				} else {
+					timeout.remainingRounds--;
+				}
+				timeout = next;
+			}
+		}
+
+		private void remove(Timeout timeout) {
+			if (timeout.bucket != this) {
+				return;
+			}
+			if (timeout.prev != null) {
+				timeout.prev.next = timeout.next;
+			} else {
+				head = timeout.next;
+			}
+			if (timeout.next != null) {
+				timeout.next.prev = timeout.prev;
+			} else {
+				tail = timeout.prev;
+			}
+			timeout.prev = null;
+			timeout.next = null;
+			timeout.bucket = null;
+			size--;
+		}
+	}
+}
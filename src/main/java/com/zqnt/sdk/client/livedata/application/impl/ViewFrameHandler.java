@@ -0,0 +1,32 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryView;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * Allocation-free delivery: re-points a per-thread {@link TelemetryView} flyweight at the frame.
+ * No POJO is mapped, so these streams do not feed the snapshot store.
+ */
+class ViewFrameHandler implements TelemetryFrameHandler {
+
+	// One view per dispatch thread: the callback runs on that thread and must not retain the view
+	private static final ThreadLocal<TelemetryView> VIEW = ThreadLocal.withInitial(TelemetryView::new);
+
+	private final Consumer<TelemetryView> onView;
+
+	ViewFrameHandler(Consumer<TelemetryView> onView) {
+		this.onView = onView;
+	}
+
+	@Override
+	public void onFrame(LiveDataTelemetryResponse frame) {
+		TelemetryView view = VIEW.get().wrap(frame);
+		try {
+			onView.accept(view);
+		} finally {
+			view.wrap(null);
+		}
+	}
+}
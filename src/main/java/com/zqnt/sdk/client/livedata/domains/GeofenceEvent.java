@@ -0,0 +1,41 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * A drone crossed the border of a geofence, as seen by the first sub-asset frame on the other side.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class GeofenceEvent {
+
+    public enum Type {
+        ENTER,
+        EXIT
+    }
+
+    private final String geofenceId;
+
+    /**
+     * The drone's sub-asset id (its dock's SN with a suffix when the id is missing).
+     */
+    private final String subAssetId;
+
+    /**
+     * SN of the stream that reported the position, i.e. the dock's.
+     */
+    private final String sn;
+    private final Type type;
+    private final double latitude;
+    private final double longitude;
+
+    /**
+     * Telemetry timestamp of the frame that crossed the border.
+     */
+    private final Instant timestamp;
+}
@@ -1,26 +1,137 @@
 package com.zqnt.sdk.client.livedata.domains;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
 
 /**
  * Handle for a running telemetry stream.
  * Call {@link #stop()} to cancel the stream and prevent any further reconnection attempts.
+ * <p>
+ * The SDK wires its streams through the protected hooks of its own subclass; through this type a
+ * caller can only observe and stop a stream.
  */
 public class StreamHandle implements AutoCloseable {
 
     private final AtomicBoolean stopped = new AtomicBoolean(false);
+    private final StreamStatistics statistics;
+    private final CountDownLatch terminated = new CountDownLatch(1);
+    private final List<Runnable> stopActions = new ArrayList<>();
+    private volatile Function<StreamTelemetryRequest, CompletableFuture<Void>> updater;
+
+    public StreamHandle() {
+        this(new StreamStatistics());
+    }
 
     /**
-     * Stops the stream and cancels any pending reconnection attempts.
+     * Handle reporting the given counters. The SDK passes counters only it can update.
+     */
+    protected StreamHandle(StreamStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Stops the stream: cancels the running gRPC call and any pending reconnection attempts.
+     * Frames still buffered in the SDK are discarded.
      */
     public void stop() {
-        stopped.set(true);
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
+        List<Runnable> actions;
+        synchronized (stopActions) {
+            actions = List.copyOf(stopActions);
+            stopActions.clear();
+        }
+        actions.forEach(Runnable::run);
     }
 
     public boolean isStopped() {
         return stopped.get();
     }
 
+    /**
+     * Switches the stream to a new request for the same SN (e.g. another {@code frequencyMs}) without
+     * a gap: the new gRPC call is opened first, frames the old and the new call both deliver are passed
+     * on once, and the old call is closed only after the new one has delivered.
+     * The SN must not change. Delivery options (dispatch mode, buffer, field selection, deadband) stay
+     * as the stream was opened; only what is sent to the server (frequency, duration, tid) changes.
+     *
+     * @return completes when the new call has taken over; fails if it could not be opened or stayed
+     * silent, in which case the old call keeps running
+     * @throws UnsupportedOperationException for streams that cannot be switched, e.g. flow-controlled ones
+     */
+    public CompletableFuture<Void> update(StreamTelemetryRequest request) {
+        Function<StreamTelemetryRequest, CompletableFuture<Void>> u = updater;
+        if (u == null) {
+            throw new UnsupportedOperationException("This stream cannot be updated");
+        }
+        if (isStopped()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("Stream is stopped"));
+        }
+        return u.apply(request);
+    }
+
+    /**
+     * Installs the SDK's implementation of {@link #update(StreamTelemetryRequest)}.
+     */
+    protected void onUpdate(Function<StreamTelemetryRequest, CompletableFuture<Void>> updater) {
+        this.updater = updater;
+    }
+
+    /**
+     * Registers an action the SDK runs once on {@link #stop()}, e.g. to cancel the gRPC call.
+     * Runs right away if the handle is already stopped.
+     */
+    protected void onStop(Runnable action) {
+        synchronized (stopActions) {
+            if (!stopped.get()) {
+                stopActions.add(action);
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * Waits until the stream has ended: stopped and its gRPC call closed, completed by the server,
+     * or failed after its reconnect attempts.
+     *
+     * @return true if the stream ended, false if the timeout elapsed first
+     */
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return terminated.await(timeout, unit);
+    }
+
+    public boolean isTerminated() {
+        return terminated.getCount() == 0;
+    }
+
+    /**
+     * Marks the stream as ended and releases {@link #awaitTermination(long, TimeUnit)}. Called by the SDK.
+     */
+    protected void markTerminated() {
+        terminated.countDown();
+    }
+
+    /**
+     * @return live counters of this stream
+     */
+    public StreamStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * @return frames discarded because the consumer could not keep up (see {@link TelemetryOverflowPolicy})
+     */
+    public long getDroppedFrames() {
+        return statistics.getDroppedFrames();
+    }
+
     @Override
     public void close() {
         stop();
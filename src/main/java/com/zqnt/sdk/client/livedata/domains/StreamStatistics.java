@@ -0,0 +1,204 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters of a telemetry stream. Updated by the SDK while the stream runs;
+ * reads are cheap and never block the stream. The update methods are protected so that only
+ * the SDK's own counters can be written to.
+ */
+public class StreamStatistics {
+
+    private final LongAdder framesReceived = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LongAdder reconnects = new LongAdder();
+    private volatile long lastFrameAt;
+    private final LongAdder droppedFrames = new LongAdder();
+    private final LongAdder suppressedFrames = new LongAdder();
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder recoveries = new LongAdder();
+    private final LongAdder totalRecoveryMillis = new LongAdder();
+    private final AtomicLong maxRecoveryMillis = new AtomicLong();
+    private volatile long lastRecoveryMillis;
+    private volatile int effectiveFrequencyMs;
+    private final LongAdder duplicateFrames = new LongAdder();
+    private final LongAdder gaps = new LongAdder();
+    private final LongAdder estimatedMissedFrames = new LongAdder();
+    private final LongAdder frequencyBackoffs = new LongAdder();
+    private final LongAdder frequencyRestores = new LongAdder();
+
+    /**
+     * @return frames received from the server, before buffering, deadband or mapping
+     */
+    public long getFramesReceived() {
+        return framesReceived.sum();
+    }
+
+    /**
+     * @return serialized size of all received frames
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return epoch millis of the last received frame, 0 if none yet
+     */
+    public long getLastFrameAt() {
+        return lastFrameAt;
+    }
+
+    /**
+     * @return millis since the last received frame, -1 if none yet
+     */
+    public long getLastFrameAgeMillis() {
+        long last = lastFrameAt;
+        return last == 0L ? -1L : System.currentTimeMillis() - last;
+    }
+
+    protected void recordFrame(long bytes, long receivedAtMillis) {
+        framesReceived.increment();
+        bytesReceived.add(bytes);
+        lastFrameAt = receivedAtMillis;
+    }
+
+    /**
+     * @return new gRPC calls opened after a stall or disconnect
+     */
+    public long getReconnects() {
+        return reconnects.sum();
+    }
+
+    protected void recordReconnect() {
+        reconnects.increment();
+    }
+
+    /**
+     * @return frames discarded by the stream buffer's overflow policy
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.sum();
+    }
+
+    protected void recordDroppedFrame() {
+        droppedFrames.increment();
+    }
+
+    /**
+     * @return frames not delivered because nothing changed beyond the stream's {@link TelemetryDeadband}
+     */
+    public long getSuppressedFrames() {
+        return suppressedFrames.sum();
+    }
+
+    protected void recordSuppressedFrame() {
+        suppressedFrames.increment();
+    }
+
+    /**
+     * @return times the stream went silent for longer than its stall timeout and was reconnected
+     */
+    public long getStalls() {
+        return stalls.sum();
+    }
+
+    protected void recordStall() {
+        stalls.increment();
+    }
+
+    /**
+     * @return outages (stall or disconnect) that ended with a frame on the new call
+     */
+    public long getRecoveries() {
+        return recoveries.sum();
+    }
+
+    /**
+     * @return time from detecting the last outage until the first frame of the new call, 0 if none yet
+     */
+    public long getLastRecoveryMillis() {
+        return lastRecoveryMillis;
+    }
+
+    public long getMaxRecoveryMillis() {
+        return maxRecoveryMillis.get();
+    }
+
+    public double getMeanRecoveryMillis() {
+        long count = recoveries.sum();
+        return count == 0 ? 0.0 : (double) totalRecoveryMillis.sum() / count;
+    }
+
+    protected void recordRecovery(long millis) {
+        lastRecoveryMillis = millis;
+        maxRecoveryMillis.accumulateAndGet(millis, Math::max);
+        totalRecoveryMillis.add(millis);
+        recoveries.increment();
+    }
+
+    /**
+     * @return frames dropped because a frame with the same or a later telemetry timestamp was
+     * already delivered, e.g. replayed by the server after a reconnect
+     */
+    public long getDuplicateFrames() {
+        return duplicateFrames.sum();
+    }
+
+    protected void recordDuplicateFrame() {
+        duplicateFrames.increment();
+    }
+
+    /**
+     * @return telemetry gaps detected across reconnects, see {@link TelemetryGap}
+     */
+    public long getGaps() {
+        return gaps.sum();
+    }
+
+    /**
+     * @return frames estimated to be missing over all detected gaps
+     */
+    public long getEstimatedMissedFrames() {
+        return estimatedMissedFrames.sum();
+    }
+
+    protected void recordGap(long missedFrames) {
+        gaps.increment();
+        estimatedMissedFrames.add(missedFrames);
+    }
+
+    /**
+     * @return {@code frequencyMs} the stream currently runs at, 0 until the adaptive frequency
+     * controller first reports it
+     */
+    public int getEffectiveFrequencyMs() {
+        return effectiveFrequencyMs;
+    }
+
+    protected void setEffectiveFrequencyMs(int frequencyMs) {
+        this.effectiveFrequencyMs = frequencyMs;
+    }
+
+    /**
+     * @return times the adaptive frequency controller slowed the stream down
+     */
+    public long getFrequencyBackoffs() {
+        return frequencyBackoffs.sum();
+    }
+
+    protected void recordFrequencyBackoff() {
+        frequencyBackoffs.increment();
+    }
+
+    /**
+     * @return times the adaptive frequency controller sped the stream back up
+     */
+    public long getFrequencyRestores() {
+        return frequencyRestores.sum();
+    }
+
+    protected void recordFrequencyRestore() {
+        frequencyRestores.increment();
+    }
+}
@@ -4,14 +4,17 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.With;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 
 @Getter
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@With
 public class StreamTelemetryRequest {
 
 	private String sn;
@@ -20,4 +23,62 @@ public class StreamTelemetryRequest {
 	private int duration;
 	private LocalDateTime timestamp;
 
+	/**
+	 * How frames are handed to {@code onData}. Use {@link TelemetryDispatchMode#ORDERED}
+	 * when the consumer needs frames of one SN in arrival order. {@code null} uses the client
+	 * default, which is {@link TelemetryDispatchMode#POOLED} unless configured otherwise.
+	 */
+	private TelemetryDispatchMode dispatchMode;
+
+	/**
+	 * Overflow policy of the bounded per-stream buffer. {@code null} uses the client default;
+	 * when neither is set, {@link TelemetryDispatchMode#ORDERED} streams drop the oldest frame
+	 * and other modes hand frames straight to the dispatch executor without a stream buffer.
+	 */
+	private TelemetryOverflowPolicy overflowPolicy;
+
+	/**
+	 * Capacity of the per-stream buffer. {@code 0} uses the client default.
+	 */
+	private int bufferCapacity;
+
+	/**
+	 * Deliver the last known frame of this SN from the snapshot store immediately on subscribe,
+	 * before the first live frame arrives.
+	 */
+	private boolean replayLatest;
+
+	/**
+	 * Field groups to map into the delivered telemetry, e.g. {@code EnumSet.of(POSITION)} for a map
+	 * layer. {@code null} or empty maps everything. Does not change what the server sends; the
+	 * snapshot store and telemetry history still see complete frames.
+	 */
+	private Set<TelemetryFieldGroup> fields;
+
+	/**
+	 * Change-only delivery: when set, {@code onData} is only called for frames that changed beyond
+	 * these thresholds (e.g. {@link TelemetryDeadband#defaults()}). {@code null} delivers every frame.
+	 */
+	private TelemetryDeadband deadband;
+
+	/**
+	 * For duration-limited streams: open a new call shortly before {@code duration} (seconds) runs out
+	 * and switch over without a gap, so the stream runs until stopped.
+	 */
+	private boolean autoRenew;
+
+	/**
+	 * Backs off {@code frequencyMs} automatically while the consumer falls behind or the asset's link
+	 * is poor, and restores it when there is headroom again. {@code null} keeps the frequency fixed.
+	 */
+	private TelemetryAdaptiveFrequency adaptiveFrequency;
+
+	public StreamTelemetryRequest(String sn, String tid, int frequencyMs, int duration, LocalDateTime timestamp) {
+		this.sn = sn;
+		this.tid = tid;
+		this.frequencyMs = frequencyMs;
+		this.duration = duration;
+		this.timestamp = timestamp;
+	}
+
 }
@@ -23,6 +23,19 @@ public class StreamTelemetryResponse {
 	private SubAssetTelemetryData subAssetTelemetry;
 	private ErrorInfo error;
 
+	/**
+	 * @return true if the frame carries asset (dock) telemetry. Does not trigger nested mapping.
+	 */
+	public boolean hasAssetTelemetry() {
+		return assetTelemetry != null;
+	}
+
+	/**
+	 * @return true if the frame carries sub-asset (drone) telemetry. Does not trigger nested mapping.
+	 */
+	public boolean hasSubAssetTelemetry() {
+		return subAssetTelemetry != null;
+	}
 
 	@Data
 	@Builder
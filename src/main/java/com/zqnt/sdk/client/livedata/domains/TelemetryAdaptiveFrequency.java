@@ -0,0 +1,87 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Automatic {@code frequencyMs} control for a telemetry stream. The stream's frequency is backed off
+ * (the interval multiplied by {@code backoffFactor}, up to {@code maxFrequencyMs}) while the consumer
+ * falls behind or the asset reports a poor link, and restored step by step towards the requested
+ * frequency once there has been headroom for {@code restoreAfterMillis}. Changes are applied with
+ * {@link StreamHandle#update}, so they never leave a gap.
+ * <p>
+ * The consumer falls behind when more than {@code maxQueueDepth} frames wait for dispatch, or when
+ * processing a frame takes more than {@code maxUtilization} of the current interval on average.
+ * The link is poor when the asset's network information reports a quality below
+ * {@code minNetworkQuality} or a rate below {@code minNetworkRate}.
+ * <p>
+ * The current frequency is exposed as {@link StreamStatistics#getEffectiveFrequencyMs()}.
+ * Flow-controlled streams do not support it.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryAdaptiveFrequency {
+
+    /**
+     * Slowest interval the stream may be backed off to, in milliseconds.
+     */
+    private int maxFrequencyMs;
+
+    /**
+     * Factor applied to the interval per back-off step, and divided out per restore step.
+     */
+    private double backoffFactor;
+
+    /**
+     * Frames waiting for dispatch above which the consumer counts as falling behind.
+     * {@code 0} leaves queue depth out.
+     */
+    private int maxQueueDepth;
+
+    /**
+     * Share of the current interval a frame may take to process on average, e.g. {@code 0.8}.
+     * {@code 0} leaves processing time out.
+     */
+    private double maxUtilization;
+
+    /**
+     * Lowest acceptable link quality as reported by the asset (0 no signal to 5 excellent).
+     * {@code 0} leaves quality out.
+     */
+    private int minNetworkQuality;
+
+    /**
+     * Lowest acceptable link rate as reported by the asset. {@code 0} leaves the rate out.
+     */
+    private float minNetworkRate;
+
+    /**
+     * How often the signals are evaluated, in milliseconds.
+     */
+    private long evaluationIntervalMillis;
+
+    /**
+     * How long all signals must show headroom before one restore step, in milliseconds.
+     */
+    private long restoreAfterMillis;
+
+    /**
+     * Up to 10 s interval, factor 2, 64 queued frames, 80 % utilization, quality 2, evaluated
+     * every 5 s, restored after 30 s of headroom.
+     */
+    public static TelemetryAdaptiveFrequency defaults() {
+        return TelemetryAdaptiveFrequency.builder()
+                .maxFrequencyMs(10_000)
+                .backoffFactor(2.0)
+                .maxQueueDepth(64)
+                .maxUtilization(0.8)
+                .minNetworkQuality(2)
+                .evaluationIntervalMillis(5_000L)
+                .restoreAfterMillis(30_000L)
+                .build();
+    }
+}
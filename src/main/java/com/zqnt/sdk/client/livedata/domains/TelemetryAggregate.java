@@ -0,0 +1,58 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Min, max, mean and last value per {@link TelemetryAggregateField} of one SN over one window
+ * {@code [windowStart, windowEnd)}. Statistics of a field without samples in the window are {@code NaN}.
+ */
+@AllArgsConstructor
+public class TelemetryAggregate {
+
+    @Getter
+    private final String sn;
+    @Getter
+    private final Instant windowStart;
+    @Getter
+    private final Instant windowEnd;
+
+    /**
+     * Frames that fell into the window, whatever values they carried.
+     */
+    @Getter
+    private final long frameCount;
+
+    // Indexed by TelemetryAggregateField.ordinal()
+    private final long[] counts;
+    private final double[] min;
+    private final double[] max;
+    private final double[] sum;
+    private final double[] last;
+
+    public long getCount(TelemetryAggregateField field) {
+        return counts[field.ordinal()];
+    }
+
+    public double getMin(TelemetryAggregateField field) {
+        return counts[field.ordinal()] > 0 ? min[field.ordinal()] : Double.NaN;
+    }
+
+    public double getMax(TelemetryAggregateField field) {
+        return counts[field.ordinal()] > 0 ? max[field.ordinal()] : Double.NaN;
+    }
+
+    public double getMean(TelemetryAggregateField field) {
+        long count = counts[field.ordinal()];
+        return count > 0 ? sum[field.ordinal()] / count : Double.NaN;
+    }
+
+    /**
+     * @return the value with the latest frame timestamp in the window
+     */
+    public double getLast(TelemetryAggregateField field) {
+        return counts[field.ordinal()] > 0 ? last[field.ordinal()] : Double.NaN;
+    }
+}
@@ -0,0 +1,24 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+/**
+ * Numeric telemetry values aggregated by telemetry windows. Each field has a single source: dock
+ * (asset) or drone (sub-asset) telemetry.
+ */
+public enum TelemetryAggregateField {
+    /**
+     * Measured by the dock's weather station (asset)
+     */
+    WIND_SPEED,
+    /**
+     * Estimated by the drone in flight (sub-asset)
+     */
+    SUB_ASSET_WIND_SPEED,
+    ENVIRONMENT_TEMP,
+    INSIDE_TEMP,
+    HUMIDITY,
+    WORKING_VOLTAGE,
+    WORKING_CURRENT,
+    SUPPLY_VOLTAGE,
+    HORIZONTAL_SPEED,
+    VERTICAL_SPEED
+}
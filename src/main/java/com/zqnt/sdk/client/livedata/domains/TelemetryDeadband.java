@@ -0,0 +1,74 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change-only delivery for a telemetry stream: a frame is delivered only if at least one configured
+ * value moved by at least its threshold since the last <em>delivered</em> frame of the same kind
+ * (asset or sub-asset), so a battery deadband of 1 delivers every whole-percent step. A threshold
+ * of {@code 0} (or {@code false}) leaves that value out of the comparison. Error frames and the first frame of each kind are always delivered.
+ * <p>
+ * Suppressed frames are counted in {@link StreamStatistics#getSuppressedFrames()}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TelemetryDeadband {
+
+    /**
+     * Minimum horizontal movement in meters.
+     */
+    private double positionMeters;
+
+    /**
+     * Minimum change of absolute or relative altitude in meters.
+     */
+    private double altitudeMeters;
+
+    /**
+     * Minimum change of heading in degrees.
+     */
+    private double headingDegrees;
+
+    /**
+     * Minimum change of horizontal or vertical speed in m/s.
+     */
+    private double speedMetersPerSecond;
+
+    /**
+     * Minimum change of battery charge in percentage points.
+     */
+    private double batteryPercent;
+
+    /**
+     * Deliver when the dock cover state changes.
+     */
+    private boolean coverState;
+
+    /**
+     * Deliver when the asset or sub-asset mode changes.
+     */
+    private boolean mode;
+
+    /**
+     * Deliver a frame at least this often even without changes, so consumers can tell a quiet
+     * asset from a dead stream. {@code 0} never forces delivery.
+     */
+    private long maxSilenceMillis;
+
+    /**
+     * Position 0.5 m, battery 1 %, cover state and mode.
+     */
+    public static TelemetryDeadband defaults() {
+        return TelemetryDeadband.builder()
+                .positionMeters(0.5)
+                .batteryPercent(1.0)
+                .coverState(true)
+                .mode(true)
+                .build();
+    }
+}
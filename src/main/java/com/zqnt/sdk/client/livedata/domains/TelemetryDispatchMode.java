@@ -0,0 +1,47 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+/**
+ * How telemetry frames of a stream are handed to the {@code onData} callback.
+ */
+public enum TelemetryDispatchMode {
+
+    /**
+     * Frames are mapped and delivered on the shared stream pool. Frames of the same SN
+     * may run concurrently and therefore out of order.
+     */
+    POOLED,
+
+    /**
+     * Frames are delivered serially per SN, in arrival order. Each SN is pinned to one
+     * dispatch shard; different SNs still run in parallel across shards. Frames wait in a
+     * bounded per-stream buffer, {@link TelemetryOverflowPolicy#DROP_OLDEST} unless the request
+     * or client sets another policy, so a slow consumer never blocks the gRPC inbound thread.
+     */
+    ORDERED,
+
+    /**
+     * Frames are mapped and delivered on the gRPC inbound thread, in arrival order, without any
+     * thread handoff. Only for consumers that return within microseconds: a slow callback stalls
+     * every stream sharing the channel's event loop.
+     */
+    DIRECT,
+
+    /**
+     * One virtual thread per frame, for consumers that block (JDBC, HTTP). Frames of the same SN
+     * may run concurrently and therefore out of order.
+     */
+    VIRTUAL,
+
+    /**
+     * Frames of an SN are delivered serially, in arrival order, on virtual threads. For blocking
+     * consumers that need order; a slow SN delays only its own frames.
+     */
+    VIRTUAL_ORDERED;
+
+    /**
+     * @return true if frames of one SN are delivered one at a time in arrival order
+     */
+    public boolean isOrdered() {
+        return this == ORDERED || this == DIRECT || this == VIRTUAL_ORDERED;
+    }
+}
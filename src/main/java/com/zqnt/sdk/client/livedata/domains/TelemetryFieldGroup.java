@@ -0,0 +1,51 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+/**
+ * Groups of telemetry fields a stream consumer can select with
+ * {@link StreamTelemetryRequest#getFields()}. Unselected groups are neither mapped nor allocated
+ * and stay {@code null} in the delivered telemetry. Id and timestamp are always mapped.
+ */
+public enum TelemetryFieldGroup {
+
+    /**
+     * Latitude, longitude, altitudes and heading; dock position validity and GNSS state;
+     * drone home distance.
+     */
+    POSITION,
+
+    /**
+     * Drone speeds, gear, height limit and movement totals.
+     */
+    MOTION,
+
+    /**
+     * Drone battery information; dock view of the drone's charge and charging state.
+     */
+    BATTERY,
+
+    /**
+     * Drone payload: camera/gimbal, range finder and sensor data.
+     */
+    PAYLOAD,
+
+    /**
+     * Weather and climate: wind, temperatures, humidity, rainfall, dock air conditioner.
+     */
+    ENVIRONMENT,
+
+    /**
+     * Dock working/supply voltage and current.
+     */
+    POWER,
+
+    /**
+     * Modes and states: flight/dock mode, cover state, manual control, debug mode, drone at home,
+     * paired drone information, country.
+     */
+    STATUS,
+
+    /**
+     * Dock network link type, rate and quality.
+     */
+    NETWORK
+}
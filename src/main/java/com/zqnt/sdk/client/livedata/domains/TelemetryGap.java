@@ -0,0 +1,52 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Telemetry missed while a stream reconnected: the span between the last frame delivered before
+ * the outage and the first frame delivered after it, for one telemetry kind of one SN.
+ * Timestamps are the telemetry timestamps set by the asset.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TelemetryGap {
+
+    public enum Kind {
+        ASSET,
+        SUB_ASSET
+    }
+
+    private final String sn;
+    private final Kind kind;
+
+    /**
+     * Telemetry timestamp of the last frame delivered before the gap.
+     */
+    private final Instant from;
+
+    /**
+     * Telemetry timestamp of the first frame delivered after the gap.
+     */
+    private final Instant to;
+
+    /**
+     * Frames the gap is estimated to have swallowed, from the stream's frequency
+     * (or its observed frame interval when it has none).
+     */
+    private final long estimatedMissedFrames;
+
+    /**
+     * tid of the last frame delivered before the gap.
+     */
+    private final String lastTid;
+
+    public Duration getDuration() {
+        return Duration.between(from, to);
+    }
+}
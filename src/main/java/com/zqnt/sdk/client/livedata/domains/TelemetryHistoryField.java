@@ -0,0 +1,26 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+/**
+ * Telemetry values kept per sample by the telemetry history.
+ * Latitude and longitude are stored as {@code double}, all other values as {@code float}.
+ */
+public enum TelemetryHistoryField {
+    LATITUDE,
+    LONGITUDE,
+    ABSOLUTE_ALTITUDE,
+    RELATIVE_ALTITUDE,
+    HORIZONTAL_SPEED,
+    VERTICAL_SPEED,
+    HEADING,
+    /**
+     * The drone's battery; for asset (dock) samples, the charge of the docked drone as the dock reports it.
+     */
+    BATTERY_PERCENTAGE;
+
+    /**
+     * @return bit of this field in a sample's presence mask
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
@@ -0,0 +1,22 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Latency distribution of one {@link TelemetryLatencyStage}, in microseconds. Percentiles are
+ * accurate to about 6 %.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TelemetryLatencySnapshot {
+
+    private final long count;
+    private final long meanMicros;
+    private final long p50Micros;
+    private final long p99Micros;
+    private final long p999Micros;
+    private final long maxMicros;
+}
@@ -0,0 +1,31 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+/**
+ * Stages of the telemetry path measured by the latency monitor.
+ */
+public enum TelemetryLatencyStage {
+
+    /**
+     * Server timestamp of the frame to its receipt by the client, corrected by the estimated clock
+     * offset: the delay above the best transit seen recently, see
+     * {@link com.zqnt.sdk.client.livedata.application.TelemetryLatencyMonitor#getClockOffsetMillis(String)}.
+     */
+    NETWORK,
+
+    /**
+     * Receipt to the start of processing: time spent in the stream buffer and the dispatch executor's queue.
+     */
+    QUEUE,
+
+    /**
+     * Proto-to-POJO mapping and the snapshot store update. Nested telemetry is mapped lazily,
+     * so reading it is part of {@link #CONSUMER}.
+     */
+    MAPPING,
+
+    /**
+     * Time in the subscriber's callback ({@code onData}, a view or aggregate consumer, or the
+     * fan-out to all subscribers of a shared stream).
+     */
+    CONSUMER
+}
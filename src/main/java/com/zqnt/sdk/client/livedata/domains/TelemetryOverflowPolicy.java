@@ -0,0 +1,30 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+/**
+ * What a bounded per-stream telemetry buffer does when the consumer falls behind.
+ * Every frame that is discarded is counted in {@link StreamStatistics#getDroppedFrames()}.
+ */
+public enum TelemetryOverflowPolicy {
+
+    /**
+     * Wait for free space. Nothing is dropped, but the gRPC inbound thread is held
+     * until the consumer catches up, which also delays other streams on the channel.
+     */
+    BLOCK,
+
+    /**
+     * Discard the oldest buffered frame to make room for the new one.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Discard the incoming frame while the buffer is full.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Keep only the most recent frame; the buffer capacity is ignored. Suited for
+     * dashboards that only render the current state.
+     */
+    CONFLATE_LATEST
+}
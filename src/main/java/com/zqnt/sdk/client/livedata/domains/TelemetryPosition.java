@@ -0,0 +1,68 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Immutable last known position of a dock or drone in the spatial index. A new instance replaces
+ * the previous one whenever the position changes.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class TelemetryPosition {
+
+    // Mean earth radius (IUGG)
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+
+    public enum Kind {
+        /**
+         * A dock, from asset telemetry.
+         */
+        ASSET,
+        /**
+         * A drone, from sub-asset telemetry.
+         */
+        SUB_ASSET
+    }
+
+    /**
+     * The dock's SN, or the drone's sub-asset id (its dock's SN with a suffix when the id is missing).
+     */
+    private final String id;
+
+    /**
+     * SN of the stream that reported the position, i.e. the dock's.
+     */
+    private final String sn;
+    private final Kind kind;
+    private final double latitude;
+    private final double longitude;
+
+    /**
+     * Telemetry timestamp of the position.
+     */
+    private final Instant timestamp;
+
+    /**
+     * @return great-circle distance to the point in meters
+     */
+    public double distanceMeters(double latitude, double longitude) {
+        return distanceMeters(this.latitude, this.longitude, latitude, longitude);
+    }
+
+    /**
+     * @return great-circle (haversine) distance between two points in meters
+     */
+    public static double distanceMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
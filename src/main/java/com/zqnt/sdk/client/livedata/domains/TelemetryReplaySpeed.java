@@ -0,0 +1,50 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.Getter;
+
+/**
+ * Pacing of a telemetry replay relative to the recorded receive timestamps.
+ */
+@Getter
+public final class TelemetryReplaySpeed {
+
+    private static final TelemetryReplaySpeed REAL_TIME = new TelemetryReplaySpeed(1.0);
+    private static final TelemetryReplaySpeed MAX = new TelemetryReplaySpeed(Double.POSITIVE_INFINITY);
+
+    /**
+     * Speed-up factor; {@code Infinity} replays as fast as the pipeline accepts frames.
+     */
+    private final double factor;
+
+    private TelemetryReplaySpeed(double factor) {
+        this.factor = factor;
+    }
+
+    /**
+     * Original timing (1x).
+     */
+    public static TelemetryReplaySpeed realTime() {
+        return REAL_TIME;
+    }
+
+    /**
+     * {@code factor} times faster than recorded, e.g. 10 for 10x.
+     */
+    public static TelemetryReplaySpeed times(double factor) {
+        if (!(factor > 0)) {
+            throw new IllegalArgumentException("Replay speed factor must be positive");
+        }
+        return new TelemetryReplaySpeed(factor);
+    }
+
+    /**
+     * No pacing at all.
+     */
+    public static TelemetryReplaySpeed max() {
+        return MAX;
+    }
+
+    public boolean isMax() {
+        return Double.isInfinite(factor);
+    }
+}
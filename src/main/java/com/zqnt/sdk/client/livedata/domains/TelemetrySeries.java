@@ -0,0 +1,90 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Column-oriented copy of a time range of one SN's asset or sub-asset telemetry history, ordered by timestamp.
+ * Row {@code i} of every column belongs to the same sample; {@link #getPresence()} holds one
+ * bit per {@link TelemetryHistoryField} telling whether the value was present in that frame.
+ * <p>
+ * The arrays are owned by this series and not shared with the history; they are exposed
+ * directly for charting code and must not be modified.
+ */
+@Getter
+@AllArgsConstructor
+public class TelemetrySeries {
+
+    private static final long[] NO_TIMESTAMPS = new long[0];
+    private static final double[] NO_DOUBLES = new double[0];
+    private static final float[] NO_FLOATS = new float[0];
+    private static final byte[] NO_PRESENCE = new byte[0];
+
+    public enum Kind {
+        /**
+         * Dock/asset telemetry
+         */
+        ASSET,
+        /**
+         * Drone/sub-asset telemetry
+         */
+        SUB_ASSET
+    }
+
+    private final String sn;
+    private final Kind kind;
+
+    /**
+     * Sample timestamps in milliseconds since the epoch, ascending.
+     */
+    private final long[] timestamps;
+    private final double[] latitude;
+    private final double[] longitude;
+    private final float[] absoluteAltitude;
+    private final float[] relativeAltitude;
+    private final float[] horizontalSpeed;
+    private final float[] verticalSpeed;
+    private final float[] heading;
+    private final float[] batteryPercentage;
+    private final byte[] presence;
+
+    public static TelemetrySeries empty(String sn, Kind kind) {
+        return new TelemetrySeries(sn, kind, NO_TIMESTAMPS, NO_DOUBLES, NO_DOUBLES, NO_FLOATS, NO_FLOATS,
+                NO_FLOATS, NO_FLOATS, NO_FLOATS, NO_FLOATS, NO_PRESENCE);
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public boolean isEmpty() {
+        return timestamps.length == 0;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    public boolean has(TelemetryHistoryField field, int index) {
+        return (presence[index] & field.mask()) != 0;
+    }
+
+    /**
+     * @return the value of the field in the given sample, or {@code NaN} if it was not present
+     */
+    public double get(TelemetryHistoryField field, int index) {
+        if (!has(field, index)) {
+            return Double.NaN;
+        }
+        return switch (field) {
+            case LATITUDE -> latitude[index];
+            case LONGITUDE -> longitude[index];
+            case ABSOLUTE_ALTITUDE -> absoluteAltitude[index];
+            case RELATIVE_ALTITUDE -> relativeAltitude[index];
+            case HORIZONTAL_SPEED -> horizontalSpeed[index];
+            case VERTICAL_SPEED -> verticalSpeed[index];
+            case HEADING -> heading[index];
+            case BATTERY_PERCENTAGE -> batteryPercentage[index];
+        };
+    }
+}
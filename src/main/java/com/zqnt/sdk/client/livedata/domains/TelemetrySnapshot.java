@@ -0,0 +1,92 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import com.zqnt.utils.edge.sdk.domains.AssetTelemetryData;
+import com.zqnt.utils.edge.sdk.domains.SubAssetTelemetryData;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Immutable latest-known telemetry of one SN.
+ * A new instance replaces the previous one on every frame, so a reference obtained from the
+ * store never changes underneath the reader. The telemetry objects are shared with stream
+ * consumers and must be treated as read-only.
+ * <p>
+ * The snapshot keeps the frames rather than their telemetry, so nested telemetry is only
+ * mapped when somebody actually reads it.
+ */
+@Getter
+@AllArgsConstructor
+public class TelemetrySnapshot {
+
+    private final String sn;
+    private final String assetId;
+
+    /**
+     * Latest frame carrying dock/asset telemetry, or {@code null} if none was received yet.
+     */
+    @Getter(AccessLevel.NONE)
+    private final StreamTelemetryResponse assetResponse;
+
+    /**
+     * Latest frame carrying drone/sub-asset telemetry, or {@code null} if none was received yet.
+     */
+    @Getter(AccessLevel.NONE)
+    private final StreamTelemetryResponse subAssetResponse;
+
+    /**
+     * The last frame merged into this snapshot, whatever its kind.
+     */
+    private final StreamTelemetryResponse lastResponse;
+
+    /**
+     * Server timestamp of {@link #lastResponse}.
+     */
+    private final Instant timestamp;
+
+    /**
+     * Telemetry timestamp of the asset frame, {@code null} if none was received or it carried none.
+     */
+    private final Instant assetTelemetryTimestamp;
+
+    /**
+     * Telemetry timestamp of the sub-asset frame, {@code null} if none was received or it carried none.
+     */
+    private final Instant subAssetTelemetryTimestamp;
+
+    /**
+     * Store-wide sequence number of the update that produced this snapshot.
+     * Strictly increasing per SN: a different version means the SN has changed.
+     */
+    private final long version;
+
+    /**
+     * @return latest dock/asset telemetry, or {@code null} if none was received yet
+     */
+    public AssetTelemetryData getAssetTelemetry() {
+        return assetResponse != null ? assetResponse.getAssetTelemetry() : null;
+    }
+
+    /**
+     * @return latest drone/sub-asset telemetry, or {@code null} if none was received yet
+     */
+    public SubAssetTelemetryData getSubAssetTelemetry() {
+        return subAssetResponse != null ? subAssetResponse.getSubAssetTelemetry() : null;
+    }
+
+    /**
+     * @return the frame that carried {@link #getAssetTelemetry()}, or {@code null}
+     */
+    public StreamTelemetryResponse getAssetResponse() {
+        return assetResponse;
+    }
+
+    /**
+     * @return the frame that carried {@link #getSubAssetTelemetry()}, or {@code null}
+     */
+    public StreamTelemetryResponse getSubAssetResponse() {
+        return subAssetResponse;
+    }
+}
@@ -0,0 +1,352 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+
+/**
+ * Allocation-free, read-only view over a raw telemetry frame.
+ * Getters read straight from the protobuf message: numbers are returned as primitives with a
+ * {@code hasX()} presence check, timestamps as epoch nanoseconds. No POJO, boxed value or
+ * {@code LocalDateTime} is created.
+ *
+ * <p>Instances are flyweights: the SDK re-points the same view at the next frame once the
+ * callback returns. Do not keep a reference to the view; copy the values you need.
+ *
+ * <p>Position, altitude, heading, wind speed and mode are read from whichever telemetry the
+ * frame carries (asset or sub-asset); the remaining getters only apply to one kind and report
+ * {@code false} from their {@code hasX()} otherwise.
+ */
+public final class TelemetryView {
+
+    private LiveDataTelemetryResponse frame;
+
+    /**
+     * Creates a view for a single frame.
+     */
+    public static TelemetryView of(LiveDataTelemetryResponse frame) {
+        return new TelemetryView().wrap(frame);
+    }
+
+    /**
+     * Re-points this view at another frame.
+     *
+     * @return this view
+     */
+    public TelemetryView wrap(LiveDataTelemetryResponse frame) {
+        this.frame = frame;
+        return this;
+    }
+
+    /**
+     * @return the underlying protobuf frame
+     */
+    public LiveDataTelemetryResponse getFrame() {
+        return frame;
+    }
+
+    // --- Envelope ---
+
+    public String getSn() {
+        return frame.getSn();
+    }
+
+    public String getTid() {
+        return frame.getTid();
+    }
+
+    public boolean hasErrors() {
+        return frame.getHasErrors();
+    }
+
+    public boolean hasAssetId() {
+        return frame.hasAssetId();
+    }
+
+    public String getAssetId() {
+        return frame.getAssetId();
+    }
+
+    /**
+     * @return server timestamp of the frame in nanoseconds since the epoch
+     */
+    public long getTimestampEpochNanos() {
+        return toEpochNanos(frame.getTimestamp());
+    }
+
+    public boolean isAssetTelemetry() {
+        return frame.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.ASSETTELEMETRY;
+    }
+
+    public boolean isSubAssetTelemetry() {
+        return frame.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.SUBASSETTELEMETRY;
+    }
+
+    public boolean isError() {
+        return frame.getTelemetryCase() == LiveDataTelemetryResponse.TelemetryCase.ERROR;
+    }
+
+    /**
+     * @return timestamp of the asset or sub-asset telemetry in nanoseconds since the epoch, or 0
+     */
+    public long getTelemetryTimestampEpochNanos() {
+        if (isAssetTelemetry()) {
+            return toEpochNanos(frame.getAssetTelemetry().getTimestamp());
+        }
+        if (isSubAssetTelemetry()) {
+            return toEpochNanos(frame.getSubAssetTelemetry().getTimestamp());
+        }
+        return 0L;
+    }
+
+    // --- Common to asset and sub-asset telemetry ---
+
+    public boolean hasLatitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasLatitude()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasLatitude();
+    }
+
+    public double getLatitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getLatitude()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getLatitude() : 0d;
+    }
+
+    public boolean hasLongitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasLongitude()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasLongitude();
+    }
+
+    public double getLongitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getLongitude()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getLongitude() : 0d;
+    }
+
+    public boolean hasAbsoluteAltitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasAbsoluteAltitude()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasAbsoluteAltitude();
+    }
+
+    public double getAbsoluteAltitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getAbsoluteAltitude()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getAbsoluteAltitude() : 0d;
+    }
+
+    public boolean hasRelativeAltitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasRelativeAltitude()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasRelativeAltitude();
+    }
+
+    public double getRelativeAltitude() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getRelativeAltitude()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getRelativeAltitude() : 0d;
+    }
+
+    public boolean hasHeading() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasHeading()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasHeading();
+    }
+
+    public double getHeading() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getHeading()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getHeading() : 0d;
+    }
+
+    public boolean hasWindSpeed() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasWindSpeed()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasWindSpeed();
+    }
+
+    public double getWindSpeed() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getWindSpeed()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getWindSpeed() : 0d;
+    }
+
+    public boolean hasMode() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().hasMode()
+                : isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasMode();
+    }
+
+    public String getMode() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getMode()
+                : isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getMode() : null;
+    }
+
+    // --- Asset (dock) telemetry ---
+
+    public boolean hasEnvironmentTemp() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasEnvironmentTemp();
+    }
+
+    public double getEnvironmentTemp() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getEnvironmentTemp() : 0d;
+    }
+
+    public boolean hasInsideTemp() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasInsideTemp();
+    }
+
+    public double getInsideTemp() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getInsideTemp() : 0d;
+    }
+
+    public boolean hasHumidity() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasHumidity();
+    }
+
+    public double getHumidity() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getHumidity() : 0d;
+    }
+
+    public boolean hasCoverState() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasCoverState();
+    }
+
+    public String getCoverState() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getCoverState() : null;
+    }
+
+    public boolean hasWorkingVoltage() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasWorkingVoltage();
+    }
+
+    public int getWorkingVoltage() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getWorkingVoltage() : 0;
+    }
+
+    public boolean hasWorkingCurrent() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasWorkingCurrent();
+    }
+
+    public int getWorkingCurrent() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getWorkingCurrent() : 0;
+    }
+
+    public boolean hasSupplyVoltage() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasSupplyVoltage();
+    }
+
+    public int getSupplyVoltage() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getSupplyVoltage() : 0;
+    }
+
+    public boolean hasSubAssetPercentage() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasSubAssetPercentage();
+    }
+
+    public double getSubAssetPercentage() {
+        return isAssetTelemetry() ? frame.getAssetTelemetry().getSubAssetPercentage() : 0d;
+    }
+
+    public boolean hasSubAssetAtHome() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasSubAssetAtHome();
+    }
+
+    public boolean isSubAssetAtHome() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().getSubAssetAtHome();
+    }
+
+    public boolean hasSubAssetCharging() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasSubAssetCharging();
+    }
+
+    public boolean isSubAssetCharging() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().getSubAssetCharging();
+    }
+
+    public boolean hasPositionValid() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().hasPositionValid();
+    }
+
+    public boolean isPositionValid() {
+        return isAssetTelemetry() && frame.getAssetTelemetry().getPositionValid();
+    }
+
+    // --- Sub-asset (drone) telemetry ---
+
+    public boolean hasHorizontalSpeed() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasHorizontalSpeed();
+    }
+
+    public double getHorizontalSpeed() {
+        return isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getHorizontalSpeed() : 0d;
+    }
+
+    public boolean hasVerticalSpeed() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasVerticalSpeed();
+    }
+
+    public double getVerticalSpeed() {
+        return isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getVerticalSpeed() : 0d;
+    }
+
+    public boolean hasHomeDistance() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasHomeDistance();
+    }
+
+    public double getHomeDistance() {
+        return isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getHomeDistance() : 0d;
+    }
+
+    public boolean hasGear() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasGear();
+    }
+
+    public int getGear() {
+        return isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getGear() : 0;
+    }
+
+    public boolean hasHeightLimit() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasHeightLimit();
+    }
+
+    public int getHeightLimit() {
+        return isSubAssetTelemetry() ? frame.getSubAssetTelemetry().getHeightLimit() : 0;
+    }
+
+    public boolean hasBatteryInformation() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasBatteryInformation();
+    }
+
+    /**
+     * @return battery charge in percent, or {@code NaN} if not present or not numeric
+     */
+    public double getBatteryPercentage() {
+        return hasBatteryInformation() ? asDouble(frame.getSubAssetTelemetry().getBatteryInformation().getPercentage()) : Double.NaN;
+    }
+
+    public int getBatteryRemainingTime() {
+        return hasBatteryInformation() ? frame.getSubAssetTelemetry().getBatteryInformation().getRemainingTime() : 0;
+    }
+
+    public boolean hasCameraData() {
+        return isSubAssetTelemetry() && frame.getSubAssetTelemetry().hasPayloadTelemetry()
+                && frame.getSubAssetTelemetry().getPayloadTelemetry().hasCameraData();
+    }
+
+    public double getGimbalPitch() {
+        return hasCameraData() ? frame.getSubAssetTelemetry().getPayloadTelemetry().getCameraData().getGimbalPitch() : 0d;
+    }
+
+    public double getGimbalYaw() {
+        return hasCameraData() ? frame.getSubAssetTelemetry().getPayloadTelemetry().getCameraData().getGimbalYaw() : 0d;
+    }
+
+    public double getZoomFactor() {
+        return hasCameraData() ? frame.getSubAssetTelemetry().getPayloadTelemetry().getCameraData().getZoomFactor() : 0d;
+    }
+
+    private static long toEpochNanos(Timestamp timestamp) {
+        return timestamp.getSeconds() * 1_000_000_000L + timestamp.getNanos();
+    }
+
+    // The proto carries the battery percentage as a string
+    private static double asDouble(String value) {
+        if (value == null || value.isEmpty()) {
+            return Double.NaN;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.zqnt.sdk.client.livedata.domains;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Window definition for telemetry aggregation, based on frame timestamps.
+ * A tumbling window has {@code slide == size}; a sliding window emits every {@code slide} and
+ * covers the last {@code size}, which must be a multiple of {@code slide}.
+ */
+@Getter
+public final class TelemetryWindow {
+
+    private final Duration size;
+    private final Duration slide;
+
+    private TelemetryWindow(Duration size, Duration slide) {
+        if (size == null || slide == null || slide.toMillis() <= 0 || size.toMillis() < slide.toMillis()) {
+            throw new IllegalArgumentException("Window size and slide must be positive and size >= slide");
+        }
+        if (size.toMillis() % slide.toMillis() != 0) {
+            throw new IllegalArgumentException("Window size must be a multiple of the slide");
+        }
+        this.size = size;
+        this.slide = slide;
+    }
+
+    public static TelemetryWindow tumbling(Duration size) {
+        return new TelemetryWindow(size, size);
+    }
+
+    public static TelemetryWindow sliding(Duration size, Duration slide) {
+        return new TelemetryWindow(size, slide);
+    }
+
+    public boolean isTumbling() {
+        return size.equals(slide);
+    }
+}
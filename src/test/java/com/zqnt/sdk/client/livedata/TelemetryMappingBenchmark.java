@@ -0,0 +1,122 @@
+package com.zqnt.sdk.client.livedata;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.application.LiveDataMapper;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.sdk.client.livedata.domains.TelemetryFieldGroup;
+import com.zqnt.sdk.client.livedata.domains.TelemetryView;
+import com.zqnt.utils.common.proto.*;
+import com.zqnt.utils.livedata.proto.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the POJO mapper, the POJO mapper with a field selection and the flyweight
+ * {@link TelemetryView} for a typical drone frame, reading the fields a map consumer needs
+ * (position, altitude, speed).
+ * <p>
+ * Not part of the unit tests. Run with the GC profiler to see the allocation rate per frame:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.zqnt.sdk.client.livedata.TelemetryMappingBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TelemetryMappingBenchmark {
+
+	private final LiveDataMapper mapper = LiveDataMapper.INSTANCE;
+	private final TelemetryView view = new TelemetryView();
+	private final Set<TelemetryFieldGroup> mapFields = EnumSet.of(TelemetryFieldGroup.POSITION, TelemetryFieldGroup.MOTION);
+	private LiveDataTelemetryResponse frame;
+
+	@Setup
+	public void setUp() {
+		long now = System.currentTimeMillis();
+		Timestamp timestamp = Timestamp.newBuilder()
+				.setSeconds(now / 1000)
+				.setNanos((int) (now % 1000) * 1_000_000)
+				.build();
+
+		SubAssetTelemetry telemetry = SubAssetTelemetry.newBuilder()
+				.setId("drone-1")
+				.setTimestamp(timestamp)
+				.setLatitude(47.3769f)
+				.setLongitude(8.5417f)
+				.setAbsoluteAltitude(512.4f)
+				.setRelativeAltitude(80.2f)
+				.setHorizontalSpeed(12.5f)
+				.setVerticalSpeed(0.4f)
+				.setWindSpeed(3.1f)
+				.setHeading(271.0f)
+				.setGear(1)
+				.setHeightLimit(120)
+				.setHomeDistance(840.0f)
+				.setTotalMovementDistance(15234.0f)
+				.setTotalMovementTime(3600.0f)
+				.setMode("WAYPOINT")
+				.setCountry("CH")
+				.build();
+
+		frame = LiveDataTelemetryResponse.newBuilder()
+				.setTid("tid-1")
+				.setSn("8UUXN3N00A03KF")
+				.setTimestamp(timestamp)
+				.setSubAssetTelemetry(telemetry)
+				.build();
+	}
+
+	@Benchmark
+	public void pojoMapper(Blackhole bh) {
+		StreamTelemetryResponse response = mapper.fromProtoResponse(frame);
+		var telemetry = response.getSubAssetTelemetry();
+		bh.consume(response.getSn());
+		bh.consume(telemetry.getLatitude());
+		bh.consume(telemetry.getLongitude());
+		bh.consume(telemetry.getRelativeAltitude());
+		bh.consume(telemetry.getHorizontalSpeed());
+		bh.consume(telemetry.getTimestamp());
+	}
+
+	@Benchmark
+	public void projectedPojoMapper(Blackhole bh) {
+		StreamTelemetryResponse response = mapper.fromProtoResponse(frame, mapFields);
+		var telemetry = response.getSubAssetTelemetry();
+		bh.consume(response.getSn());
+		bh.consume(telemetry.getLatitude());
+		bh.consume(telemetry.getLongitude());
+		bh.consume(telemetry.getRelativeAltitude());
+		bh.consume(telemetry.getHorizontalSpeed());
+		bh.consume(telemetry.getTimestamp());
+	}
+
+	@Benchmark
+	public void flyweightView(Blackhole bh) {
+		TelemetryView v = view.wrap(frame);
+		bh.consume(v.getSn());
+		bh.consume(v.hasLatitude() ? v.getLatitude() : Double.NaN);
+		bh.consume(v.hasLongitude() ? v.getLongitude() : Double.NaN);
+		bh.consume(v.hasRelativeAltitude() ? v.getRelativeAltitude() : Double.NaN);
+		bh.consume(v.hasHorizontalSpeed() ? v.getHorizontalSpeed() : Double.NaN);
+		bh.consume(v.getTelemetryTimestampEpochNanos());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(TelemetryMappingBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build()).run();
+	}
+}
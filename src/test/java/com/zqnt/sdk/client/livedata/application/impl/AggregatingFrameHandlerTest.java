@@ -0,0 +1,151 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.domains.TelemetryAggregate;
+import com.zqnt.sdk.client.livedata.domains.TelemetryWindow;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.zqnt.sdk.client.livedata.domains.TelemetryAggregateField.SUB_ASSET_WIND_SPEED;
+import static com.zqnt.sdk.client.livedata.domains.TelemetryAggregateField.WIND_SPEED;
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class AggregatingFrameHandlerTest {
+
+	private static final long RECEIVED_AT = 1_000_000L;
+
+	private final List<TelemetryAggregate> emitted = new ArrayList<>();
+	private final TelemetryStreamStatistics statistics = new TelemetryStreamStatistics();
+
+	@Test
+	void emitsATumblingWindowOnTheFirstFrameAfterItsEnd() {
+		AggregatingFrameHandler handler = handler(TelemetryWindow.tumbling(Duration.ofSeconds(1)));
+		handler.aggregate(dock(100, 2), RECEIVED_AT);
+		handler.aggregate(dock(999, 4), RECEIVED_AT);
+		assertTrue(emitted.isEmpty());
+
+		// The end is exclusive: a frame at 1000 belongs to the next window
+		handler.aggregate(dock(1_000, 10), RECEIVED_AT);
+
+		assertEquals(1, emitted.size());
+		TelemetryAggregate window = emitted.get(0);
+		assertEquals(Instant.ofEpochMilli(0), window.getWindowStart());
+		assertEquals(Instant.ofEpochMilli(1_000), window.getWindowEnd());
+		assertEquals(2, window.getFrameCount());
+		assertEquals(2, window.getCount(WIND_SPEED));
+		assertEquals(2.0, window.getMin(WIND_SPEED));
+		assertEquals(4.0, window.getMax(WIND_SPEED));
+		assertEquals(3.0, window.getMean(WIND_SPEED));
+		assertEquals(4.0, window.getLast(WIND_SPEED));
+	}
+
+	@Test
+	void combinesPanesIntoSlidingWindows() {
+		AggregatingFrameHandler handler = handler(TelemetryWindow.sliding(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+		handler.aggregate(dock(500, 1), RECEIVED_AT);
+		handler.aggregate(dock(1_500, 3), RECEIVED_AT);
+		handler.aggregate(dock(2_500, 5), RECEIVED_AT);
+		handler.flushAll();
+
+		assertEquals(4, emitted.size());
+		assertWindow(emitted.get(0), -1_000, 1_000, 1, 1.0);
+		assertWindow(emitted.get(1), 0, 2_000, 2, 2.0);
+		assertWindow(emitted.get(2), 1_000, 3_000, 2, 4.0);
+		assertWindow(emitted.get(3), 2_000, 4_000, 1, 5.0);
+	}
+
+	@Test
+	void reusesPanesAndDropsFramesOlderThanEveryOpenWindow() {
+		AggregatingFrameHandler handler = handler(TelemetryWindow.sliding(Duration.ofSeconds(2), Duration.ofSeconds(1)));
+		handler.aggregate(dock(500, 1), RECEIVED_AT);
+		handler.aggregate(dock(2_500, 5), RECEIVED_AT);
+		// Late, but its pane still belongs to an open window
+		handler.aggregate(dock(1_200, 3), RECEIVED_AT);
+		// Pane 0 was rotated out
+		handler.aggregate(dock(600, 9), RECEIVED_AT);
+		assertEquals(1, statistics.getDroppedFrames());
+
+		emitted.clear();
+		handler.flushAll();
+		assertWindow(emitted.get(0), 1_000, 3_000, 2, 4.0);
+		assertWindow(emitted.get(1), 2_000, 4_000, 1, 5.0);
+	}
+
+	@Test
+	void flushesAQuietStreamByExtrapolatingFrameTime() {
+		AggregatingFrameHandler handler = handler(TelemetryWindow.tumbling(Duration.ofSeconds(1)));
+		handler.aggregate(dock(100, 2), RECEIVED_AT);
+
+		// Frame time 600: the window has not ended yet
+		handler.flush(RECEIVED_AT + 500);
+		assertTrue(emitted.isEmpty());
+		// Frame time 1900: ended, but less than a slide ago
+		handler.flush(RECEIVED_AT + 1_800);
+		assertTrue(emitted.isEmpty());
+		// Frame time 2100
+		handler.flush(RECEIVED_AT + 2_000);
+		assertEquals(1, emitted.size());
+		assertWindow(emitted.get(0), 0, 1_000, 1, 2.0);
+
+		handler.flush(RECEIVED_AT + 5_000);
+		assertEquals(1, emitted.size());
+	}
+
+	@Test
+	void keepsDockAndDroneWindSpeedApart() {
+		AggregatingFrameHandler handler = handler(TelemetryWindow.tumbling(Duration.ofSeconds(1)));
+		handler.aggregate(dock(100, 7), RECEIVED_AT);
+		handler.aggregate(drone(200, 3), RECEIVED_AT);
+		handler.flushAll();
+
+		TelemetryAggregate window = emitted.get(0);
+		assertEquals(2, window.getFrameCount());
+		assertEquals(1, window.getCount(WIND_SPEED));
+		assertEquals(7.0, window.getMean(WIND_SPEED));
+		assertEquals(1, window.getCount(SUB_ASSET_WIND_SPEED));
+		assertEquals(3.0, window.getMean(SUB_ASSET_WIND_SPEED));
+	}
+
+	private AggregatingFrameHandler handler(TelemetryWindow window) {
+		return new AggregatingFrameHandler("SN-1", window, emitted::add, statistics);
+	}
+
+	private static void assertWindow(TelemetryAggregate window, long start, long end, long frames, double meanWindSpeed) {
+		assertEquals(Instant.ofEpochMilli(start), window.getWindowStart());
+		assertEquals(Instant.ofEpochMilli(end), window.getWindowEnd());
+		assertEquals(frames, window.getFrameCount());
+		assertEquals(meanWindSpeed, window.getMean(WIND_SPEED), 1e-9);
+	}
+
+	private static LiveDataTelemetryResponse dock(long millis, float windSpeed) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setAssetTelemetry(AssetTelemetry.newBuilder()
+						.setWindSpeed(windSpeed)
+						.setTimestamp(timestamp(millis)))
+				.build();
+	}
+
+	private static LiveDataTelemetryResponse drone(long millis, float windSpeed) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+						.setWindSpeed(windSpeed)
+						.setTimestamp(timestamp(millis)))
+				.build();
+	}
+
+	private static Timestamp timestamp(long millis) {
+		return Timestamp.newBuilder()
+				.setSeconds(Math.floorDiv(millis, 1_000L))
+				.setNanos((int) Math.floorMod(millis, 1_000L) * 1_000_000)
+				.build();
+	}
+}
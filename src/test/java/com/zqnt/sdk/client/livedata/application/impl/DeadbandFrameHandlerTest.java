@@ -0,0 +1,118 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryDeadband;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class DeadbandFrameHandlerTest {
+
+	// Meters per degree of latitude, as used by the handler
+	private static final double METERS_PER_DEGREE = 111_320d;
+
+	@Test
+	void deliversABatteryChangeOfExactlyTheThreshold() {
+		DeadbandFrameHandler handler = handler(TelemetryDeadband.defaults());
+
+		assertTrue(handler.shouldDeliver(drone("50", 0, 0), 0));
+		assertFalse(handler.shouldDeliver(drone("50", 0, 0), 1));
+		assertTrue(handler.shouldDeliver(drone("49", 0, 0), 2));
+		assertFalse(handler.shouldDeliver(drone("48.5", 0, 0), 3));
+		assertTrue(handler.shouldDeliver(drone("48", 0, 0), 4));
+	}
+
+	@Test
+	void deliversAMoveOfExactlyThePositionThreshold() {
+		DeadbandFrameHandler handler = handler(TelemetryDeadband.builder().positionMeters(10).build());
+
+		assertTrue(handler.shouldDeliver(drone("50", 0, 0), 0));
+		assertFalse(handler.shouldDeliver(drone("50", 9 / METERS_PER_DEGREE, 0), 1));
+		assertTrue(handler.shouldDeliver(drone("50", 10 / METERS_PER_DEGREE, 0), 2));
+	}
+
+	@Test
+	void comparesHeadingsAcrossNorth() {
+		DeadbandFrameHandler handler = handler(TelemetryDeadband.builder().headingDegrees(5).build());
+
+		assertTrue(handler.shouldDeliver(heading(358), 0));
+		// 358 -> 2 is 4 degrees, not 356
+		assertFalse(handler.shouldDeliver(heading(2), 1));
+		assertTrue(handler.shouldDeliver(heading(3), 2));
+		assertFalse(handler.shouldDeliver(heading(359), 3));
+		assertTrue(handler.shouldDeliver(heading(357.5f), 4));
+	}
+
+	@Test
+	void deliversAHeartbeatAfterMaxSilence() {
+		TelemetryDeadband deadband = TelemetryDeadband.defaults();
+		deadband.setMaxSilenceMillis(1_000);
+		DeadbandFrameHandler handler = handler(deadband);
+
+		assertTrue(handler.shouldDeliver(drone("50", 0, 0), 0));
+		assertFalse(handler.shouldDeliver(drone("50", 0, 0), 999));
+		assertTrue(handler.shouldDeliver(drone("50", 0, 0), 1_000));
+		// The heartbeat restarts the silence period
+		assertFalse(handler.shouldDeliver(drone("50", 0, 0), 1_999));
+		assertTrue(handler.shouldDeliver(drone("50", 0, 0), 2_000));
+	}
+
+	@Test
+	void keepsSeparateStateForDockAndDrone() {
+		DeadbandFrameHandler handler = handler(TelemetryDeadband.defaults());
+
+		assertTrue(handler.shouldDeliver(drone("50", 0, 0), 0));
+		// The first dock frame is delivered even though the drone was just seen
+		assertTrue(handler.shouldDeliver(dock(80, "OPEN"), 1));
+		assertFalse(handler.shouldDeliver(dock(80, "OPEN"), 2));
+		assertFalse(handler.shouldDeliver(drone("50", 0, 0), 3));
+		// The dock battery is its drone's charge and compared against the last dock frame only
+		assertTrue(handler.shouldDeliver(dock(79, "OPEN"), 4));
+		assertTrue(handler.shouldDeliver(dock(79, "CLOSED"), 5));
+		assertFalse(handler.shouldDeliver(drone("50", 0, 0), 6));
+	}
+
+	@Test
+	void reportsSuppressedFrames() {
+		int[] suppressed = new int[1];
+		DeadbandFrameHandler handler = new DeadbandFrameHandler(null, TelemetryDeadband.defaults(), () -> suppressed[0]++);
+
+		assertTrue(handler.accept(drone("50", 0, 0)));
+		assertFalse(handler.accept(drone("50", 0, 0)));
+		assertFalse(handler.accept(drone("50", 0, 0)));
+		assertEquals(2, suppressed[0]);
+	}
+
+	private static DeadbandFrameHandler handler(TelemetryDeadband deadband) {
+		return new DeadbandFrameHandler(null, deadband, () -> {
+		});
+	}
+
+	private static LiveDataTelemetryResponse drone(String battery, double latitude, double longitude) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+						.setLatitude((float) latitude)
+						.setLongitude((float) longitude)
+						.setBatteryInformation(BatteryInformation.newBuilder().setPercentage(battery)))
+				.build();
+	}
+
+	private static LiveDataTelemetryResponse heading(float heading) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder().setHeading(heading))
+				.build();
+	}
+
+	private static LiveDataTelemetryResponse dock(float droneBattery, String coverState) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setAssetTelemetry(AssetTelemetry.newBuilder()
+						.setSubAssetPercentage(droneBattery)
+						.setCoverState(coverState))
+				.build();
+	}
+}
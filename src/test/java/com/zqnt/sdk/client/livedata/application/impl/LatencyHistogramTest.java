@@ -0,0 +1,85 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencySnapshot;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class LatencyHistogramTest {
+
+	// Half a bucket relative to its lower bound, see LatencyHistogram
+	private static final double MAX_RELATIVE_ERROR = 1.0 / 16;
+	private static final long MAX_MICROS = (1L << 32) - 1;
+
+	@Test
+	void keepsSmallValuesExact() {
+		for (long micros = 0; micros < 8; micros++) {
+			assertEquals(micros, LatencyHistogram.midpoint(LatencyHistogram.index(micros)));
+		}
+	}
+
+	@Test
+	void midpointMapsBackToItsBucket() {
+		int previous = -1;
+		for (long micros = 0; micros <= MAX_MICROS; micros = next(micros)) {
+			int index = LatencyHistogram.index(micros);
+			assertTrue(index >= previous, "index must not decrease at " + micros);
+			previous = index;
+
+			long midpoint = LatencyHistogram.midpoint(index);
+			assertEquals(index, LatencyHistogram.index(midpoint), "midpoint of bucket " + index);
+			assertTrue(Math.abs(midpoint - micros) <= micros * MAX_RELATIVE_ERROR, "error at " + micros);
+		}
+		assertEquals(LatencyHistogram.index(MAX_MICROS), previous);
+	}
+
+	@Test
+	void clampsValuesOutOfRange() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.recordMicros(-5);
+		histogram.recordMicros(Long.MAX_VALUE);
+
+		TelemetryLatencySnapshot snapshot = histogram.snapshot();
+		assertEquals(2, snapshot.getCount());
+		assertEquals(MAX_MICROS, snapshot.getMaxMicros());
+	}
+
+	@Test
+	void reportsPercentilesWithinTheBucketError() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (long micros = 1; micros <= 10_000; micros++) {
+			histogram.recordMicros(micros);
+		}
+
+		TelemetryLatencySnapshot snapshot = histogram.snapshot();
+		assertEquals(10_000, snapshot.getCount());
+		assertEquals(5_000, snapshot.getMeanMicros());
+		assertEquals(5_000, snapshot.getP50Micros(), 5_000 * MAX_RELATIVE_ERROR);
+		assertEquals(9_900, snapshot.getP99Micros(), 9_900 * MAX_RELATIVE_ERROR);
+		assertEquals(9_990, snapshot.getP999Micros(), 9_990 * MAX_RELATIVE_ERROR);
+		assertEquals(10_000, snapshot.getMaxMicros());
+	}
+
+	@Test
+	void resetClearsAllCounters() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		histogram.recordNanos(1_500_000);
+		histogram.reset();
+
+		TelemetryLatencySnapshot snapshot = histogram.snapshot();
+		assertEquals(0, snapshot.getCount());
+		assertEquals(0, snapshot.getMaxMicros());
+	}
+
+	// Every value up to 4096, then bucket borders and their neighbours
+	private static long next(long micros) {
+		if (micros < 4_096) {
+			return micros + 1;
+		}
+		long step = Long.highestOneBit(micros) >>> 3;
+		long border = (micros / step + 1) * step;
+		return micros + 1 == border ? border : Math.min(border - 1, MAX_MICROS + 1);
+	}
+}
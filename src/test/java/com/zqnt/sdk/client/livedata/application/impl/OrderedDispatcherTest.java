@@ -0,0 +1,124 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class OrderedDispatcherTest {
+
+	private static final int TASKS = 10_000;
+
+	private final OrderedDispatcher dispatcher = new OrderedDispatcher(4, 64, "test-dispatch");
+
+	@AfterEach
+	void shutdown() {
+		dispatcher.shutdownNow();
+	}
+
+	@Test
+	void runsTasksOfOneKeyInSubmissionOrderOnOneThread() throws Exception {
+		List<Integer> order = new ArrayList<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		CountDownLatch done = new CountDownLatch(1);
+		for (int i = 0; i < TASKS; i++) {
+			int n = i;
+			dispatcher.executorFor("SN-1").execute(() -> {
+				order.add(n);
+				threads.add(Thread.currentThread().getName());
+				if (n == TASKS - 1) {
+					done.countDown();
+				}
+			});
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+
+		assertEquals(TASKS, order.size());
+		for (int i = 0; i < TASKS; i++) {
+			assertEquals(i, order.get(i).intValue());
+		}
+		assertEquals(1, threads.size());
+	}
+
+	@Test
+	void runsOtherShardsWhileOneIsBusy() throws Exception {
+		String first = "SN-0";
+		String second = keyOnOtherShard(first);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch otherRan = new CountDownLatch(1);
+		dispatcher.executorFor(first).execute(() -> await(release));
+		dispatcher.executorFor(second).execute(otherRan::countDown);
+
+		assertTrue(otherRan.await(5, TimeUnit.SECONDS));
+		release.countDown();
+	}
+
+	@Test
+	void blocksTheSubmitterWhenAShardIsFull() throws Exception {
+		OrderedDispatcher small = new OrderedDispatcher(1, 1, "test-small");
+		try {
+			CountDownLatch release = new CountDownLatch(1);
+			List<String> ranOn = new ArrayList<>();
+			CountDownLatch done = new CountDownLatch(1);
+			small.executorFor("SN-1").execute(() -> await(release));
+			small.executorFor("SN-1").execute(() -> ranOn.add(Thread.currentThread().getName()));
+			Thread submitter = new Thread(() -> small.executorFor("SN-1").execute(() -> {
+				ranOn.add(Thread.currentThread().getName());
+				done.countDown();
+			}), "submitter");
+			submitter.start();
+			submitter.join(100);
+			assertTrue(submitter.isAlive(), "a full shard must block, not run the task on the caller");
+
+			release.countDown();
+			assertTrue(done.await(5, TimeUnit.SECONDS));
+			assertEquals(List.of("test-small-0", "test-small-0"), ranOn);
+		} finally {
+			small.shutdownNow();
+		}
+	}
+
+	@Test
+	void rejectsTasksAfterShutdown() {
+		dispatcher.shutdown();
+		assertThrows(RejectedExecutionException.class, () -> dispatcher.executorFor("SN-1").execute(() -> { }));
+	}
+
+	@Test
+	void pinsEveryKeyToAShardInRange() {
+		for (int i = -1_000; i < 1_000; i++) {
+			int shard = OrderedDispatcher.shardIndex("SN" + i, 7);
+			assertTrue(shard >= 0 && shard < 7);
+			assertEquals(shard, OrderedDispatcher.shardIndex("SN" + i, 7));
+		}
+		assertEquals(0, OrderedDispatcher.shardIndex(null, 7));
+	}
+
+	private String keyOnOtherShard(String key) {
+		int shard = OrderedDispatcher.shardIndex(key, dispatcher.shardCount());
+		for (int i = 1; ; i++) {
+			String candidate = "SN-" + i;
+			if (OrderedDispatcher.shardIndex(candidate, dispatcher.shardCount()) != shard) {
+				return candidate;
+			}
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
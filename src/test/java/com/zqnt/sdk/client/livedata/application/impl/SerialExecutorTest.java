@@ -0,0 +1,53 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class SerialExecutorTest {
+
+	private static final int TASKS = 10_000;
+
+	@Test
+	void runsTasksOneAtATimeInSubmissionOrder() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(4);
+		try {
+			SerialExecutor serial = new SerialExecutor(pool);
+			List<Integer> order = new ArrayList<>();
+			AtomicInteger running = new AtomicInteger();
+			AtomicInteger overlaps = new AtomicInteger();
+			CountDownLatch done = new CountDownLatch(1);
+			for (int i = 0; i < TASKS; i++) {
+				int n = i;
+				serial.execute(() -> {
+					if (running.incrementAndGet() > 1) {
+						overlaps.incrementAndGet();
+					}
+					order.add(n);
+					running.decrementAndGet();
+					if (n == TASKS - 1) {
+						done.countDown();
+					}
+				});
+			}
+			assertTrue(done.await(10, TimeUnit.SECONDS));
+
+			assertEquals(0, overlaps.get());
+			for (int i = 0; i < TASKS; i++) {
+				assertEquals(i, order.get(i).intValue());
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,238 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.config.GrpcClientConfig;
+import com.zqnt.sdk.client.config.ServiceConfig;
+import com.zqnt.sdk.client.livedata.domains.StreamHandle;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDeadband;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
+import com.zqnt.utils.livedata.proto.*;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shared upstream streams against a local gRPC server whose calls the test drives.
+ */
+@Tag("unit")
+class SharedTelemetryStreamsTest {
+
+	private final List<ServerCallStreamObserver<LiveDataTelemetryResponse>> calls = new CopyOnWriteArrayList<>();
+	private final List<LiveDataStreamTelemetryRequest> requests = new CopyOnWriteArrayList<>();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private Server server;
+	private ManagedChannel channel;
+	private LiveDataImpl liveData;
+
+	@BeforeEach
+	void start() throws IOException {
+		server = ServerBuilder.forPort(0)
+				.addService(new LiveDataServiceGrpc.LiveDataServiceImplBase() {
+					@Override
+					public void streamTelemetry(LiveDataStreamTelemetryRequest request,
+												StreamObserver<LiveDataTelemetryResponse> responses) {
+						requests.add(request);
+						calls.add((ServerCallStreamObserver<LiveDataTelemetryResponse>) responses);
+					}
+				})
+				.build()
+				.start();
+		channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+		liveData = LiveDataImpl.create(GrpcClientConfig.builder()
+				.liveDataConfig(ServiceConfig.builder().serviceName("live-data").port(server.getPort()).build())
+				.build(), channel);
+	}
+
+	@AfterEach
+	void shutdown() throws InterruptedException {
+		release.countDown();
+		liveData.shutdown();
+		channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void fansOneCallOutToSubscribersWithDifferentDeliveryOptions() {
+		List<String> first = new CopyOnWriteArrayList<>();
+		List<String> second = new CopyOnWriteArrayList<>();
+		liveData.streamTelemetryData(request(1_000).withTid("tid-1"), response -> first.add(response.getTid()));
+		liveData.streamTelemetryData(request(1_000).withTid("tid-2")
+						.withDispatchMode(TelemetryDispatchMode.POOLED)
+						.withOverflowPolicy(TelemetryOverflowPolicy.DROP_OLDEST),
+				response -> second.add(response.getTid()));
+		waitFor(() -> calls.size() == 1);
+
+		send(0, 1, 2, 3);
+		waitFor(() -> first.size() == 3 && second.size() == 3);
+
+		assertEquals(List.of("t1", "t2", "t3"), first);
+		assertEquals(List.of("t1", "t2", "t3"), second);
+		assertEquals(1, calls.size());
+		assertEquals(1, liveData.sharedStreams().upstreamCount());
+	}
+
+	@Test
+	void opensAnotherCallForAnotherFrequency() {
+		liveData.streamTelemetryData(request(1_000), response -> { });
+		liveData.streamTelemetryData(request(500), response -> { });
+
+		waitFor(() -> calls.size() == 2);
+		assertEquals(2, liveData.sharedStreams().upstreamCount());
+		assertEquals(1_000, requests.get(0).getFrequencyMs());
+		assertEquals(500, requests.get(1).getFrequencyMs());
+	}
+
+	@Test
+	void closesTheCallWhenTheLastSubscriberLeaves() {
+		List<String> remaining = new CopyOnWriteArrayList<>();
+		StreamHandle first = liveData.streamTelemetryData(request(1_000), response -> { });
+		StreamHandle second = liveData.streamTelemetryData(request(1_000), response -> remaining.add(response.getTid()));
+		waitFor(() -> calls.size() == 1);
+
+		first.stop();
+		assertTrue(first.isTerminated());
+		send(0, 1);
+		waitFor(() -> remaining.size() == 1);
+		assertFalse(calls.get(0).isCancelled());
+		assertEquals(1, liveData.sharedStreams().upstreamCount());
+
+		second.stop();
+		waitFor(() -> calls.get(0).isCancelled());
+		assertEquals(0, liveData.sharedStreams().upstreamCount());
+	}
+
+	@Test
+	void countsDeadbandSuppressionsOnlyForThatSubscriber() {
+		List<String> filtered = new CopyOnWriteArrayList<>();
+		List<String> all = new CopyOnWriteArrayList<>();
+		StreamHandle withDeadband = liveData.streamTelemetryData(request(1_000).withDeadband(TelemetryDeadband.defaults()),
+				response -> filtered.add(response.getTid()));
+		StreamHandle without = liveData.streamTelemetryData(request(1_000), response -> all.add(response.getTid()));
+		waitFor(() -> calls.size() == 1);
+
+		// Nothing but the timestamp changes
+		send(0, 1, 2, 3);
+		waitFor(() -> all.size() == 3 && withDeadband.getStatistics().getSuppressedFrames() == 2);
+
+		assertEquals(List.of("t1"), filtered);
+		assertEquals(0, without.getStatistics().getSuppressedFrames());
+		// Transport counters describe the shared call
+		assertEquals(3, withDeadband.getStatistics().getFramesReceived());
+		assertEquals(3, without.getStatistics().getFramesReceived());
+	}
+
+	@Test
+	void aBlockedSubscriberDoesNotHoldBackAnother() {
+		List<String> slow = new CopyOnWriteArrayList<>();
+		List<String> fast = new CopyOnWriteArrayList<>();
+		StreamHandle blocked = liveData.streamTelemetryData(request(1_000)
+						.withOverflowPolicy(TelemetryOverflowPolicy.DROP_OLDEST)
+						.withBufferCapacity(1),
+				response -> {
+					slow.add(response.getTid());
+					await(release);
+				});
+		liveData.streamTelemetryData(request(1_000).withDispatchMode(TelemetryDispatchMode.VIRTUAL_ORDERED),
+				response -> fast.add(response.getTid()));
+		waitFor(() -> calls.size() == 1);
+
+		send(0, 1);
+		waitFor(() -> slow.size() == 1);
+		send(0, 2, 3, 4, 5);
+		waitFor(() -> fast.size() == 5);
+		assertEquals(List.of("t1"), slow);
+		// t1 is being delivered and t5 waits in the buffer, t2 to t4 were pushed out
+		waitFor(() -> blocked.getStatistics().getDroppedFrames() == 3);
+
+		release.countDown();
+		waitFor(() -> slow.size() == 2);
+		assertEquals(List.of("t1", "t5"), slow);
+	}
+
+	@Test
+	void buffersAnOrderedSubscriberWithoutAPolicyInsteadOfBlocking() {
+		List<String> slow = new CopyOnWriteArrayList<>();
+		List<String> fast = new CopyOnWriteArrayList<>();
+		StreamHandle blocked = liveData.streamTelemetryData(request(1_000).withBufferCapacity(2),
+				response -> {
+					slow.add(response.getTid());
+					await(release);
+				});
+		liveData.streamTelemetryData(request(1_000).withDispatchMode(TelemetryDispatchMode.VIRTUAL_ORDERED),
+				response -> fast.add(response.getTid()));
+		waitFor(() -> calls.size() == 1);
+
+		send(0, 1);
+		waitFor(() -> slow.size() == 1);
+		send(0, 2, 3, 4, 5);
+		waitFor(() -> fast.size() == 5);
+		// Drops the oldest by default: t4 and t5 wait in the buffer
+		waitFor(() -> blocked.getStatistics().getDroppedFrames() == 2);
+
+		release.countDown();
+		waitFor(() -> slow.size() == 3);
+		assertEquals(List.of("t1", "t4", "t5"), slow);
+	}
+
+	private static StreamTelemetryRequest request(int frequencyMs) {
+		return new StreamTelemetryRequest()
+				.withSn("SN-1")
+				.withTid("tid-1")
+				.withFrequencyMs(frequencyMs)
+				.withDispatchMode(TelemetryDispatchMode.ORDERED);
+	}
+
+	/**
+	 * Sends sub-asset frames stamped with the given seconds on a call, tid "t" + seconds.
+	 */
+	private void send(int call, long... seconds) {
+		for (long s : seconds) {
+			calls.get(call).onNext(LiveDataTelemetryResponse.newBuilder()
+					.setSn("SN-1")
+					.setTid("t" + s)
+					.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+							.setId("drone-1")
+							.setTimestamp(Timestamp.newBuilder().setSeconds(s)))
+					.build());
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitFor(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "timed out");
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail("interrupted");
+			}
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class StreamStartLimiterTest {
+
+	private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+	@Test
+	void letsTheBurstThroughAndPacesTheRest() {
+		// One start per 100 ms, 5 at once
+		StreamStartLimiter limiter = new StreamStartLimiter(10, 5);
+		long now = System.nanoTime();
+
+		for (int i = 0; i < 5; i++) {
+			assertEquals(0, limiter.reserve(now), "start " + i);
+		}
+		// Beyond the burst, each start waits one more interval; +1 rounds the wait up to whole millis
+		assertEquals(101, limiter.reserve(now));
+		assertEquals(201, limiter.reserve(now));
+		assertEquals(301, limiter.reserve(now));
+	}
+
+	@Test
+	void rampsAtTheConfiguredRate() {
+		StreamStartLimiter limiter = new StreamStartLimiter(10, 1);
+		long now = System.nanoTime();
+
+		assertEquals(0, limiter.reserve(now));
+		assertEquals(101, limiter.reserve(now));
+		// Arriving at the reserved slot, the next start still waits for its own
+		assertEquals(101, limiter.reserve(now + 100 * MILLI));
+		// A quiet period refills the bucket, but not beyond the burst
+		assertEquals(0, limiter.reserve(now + 10_000 * MILLI));
+		assertEquals(101, limiter.reserve(now + 10_000 * MILLI));
+	}
+
+	@Test
+	void neverWaitsWithoutARate() {
+		StreamStartLimiter limiter = new StreamStartLimiter(0, 1);
+		long now = System.nanoTime();
+
+		for (int i = 0; i < 100; i++) {
+			assertEquals(0, limiter.reserve(now));
+		}
+	}
+}
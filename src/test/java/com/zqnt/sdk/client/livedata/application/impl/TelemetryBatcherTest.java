@@ -0,0 +1,172 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryBatcherTest {
+
+	private final TelemetryTimer timer = new TelemetryTimer("test-timer", 10, TimeUnit.MILLISECONDS, 64);
+	private final ExecutorService drain = Executors.newFixedThreadPool(4);
+	private final TelemetryStreamHandle handle = new TelemetryStreamHandle();
+	private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+	@AfterEach
+	void shutdown() throws InterruptedException {
+		timer.shutdown();
+		drain.shutdownNow();
+		drain.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void closesBatchesBySizeAndFlushesTheRest() {
+		TelemetryBatcher<Integer> batcher = batcher(3, 60_000, batches::add);
+		for (int i = 1; i <= 7; i++) {
+			batcher.add(i);
+		}
+		waitFor(() -> batches.size() == 2);
+		batcher.flush();
+		waitFor(() -> batches.size() == 3);
+
+		assertEquals(List.of(List.of(1, 2, 3), List.of(4, 5, 6), List.of(7)), batches);
+	}
+
+	@Test
+	void closesAPartialBatchAfterTheLinger() {
+		TelemetryBatcher<Integer> batcher = batcher(100, 50, batches::add);
+		long startedAt = System.nanoTime();
+		batcher.add(1);
+		batcher.add(2);
+
+		waitFor(() -> batches.size() == 1);
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) >= 40);
+		assertEquals(List.of(1, 2), batches.get(0));
+		// The next item opens a new batch with its own linger
+		batcher.add(3);
+		waitFor(() -> batches.size() == 2);
+		assertEquals(List.of(3), batches.get(1));
+	}
+
+	@Test
+	void deliversInClosingOrderWithoutOverlapUnderPooledDispatch() throws InterruptedException {
+		AtomicBoolean active = new AtomicBoolean();
+		AtomicBoolean overlapped = new AtomicBoolean();
+		TelemetryBatcher<Integer> batcher = batcher(7, 60_000, batch -> {
+			if (!active.compareAndSet(false, true)) {
+				overlapped.set(true);
+			}
+			batches.add(batch);
+			active.set(false);
+		});
+		int threads = 4;
+		int perThread = 1_000;
+		ExecutorService dispatch = Executors.newFixedThreadPool(threads);
+		for (int t = 0; t < threads; t++) {
+			int offset = t * perThread;
+			dispatch.execute(() -> {
+				for (int i = 0; i < perThread; i++) {
+					batcher.add(offset + i);
+				}
+			});
+		}
+		dispatch.shutdown();
+		assertTrue(dispatch.awaitTermination(5, TimeUnit.SECONDS));
+		batcher.flush();
+		waitFor(() -> batches.stream().mapToInt(List::size).sum() == threads * perThread);
+
+		assertFalse(overlapped.get());
+		// Each dispatch thread's items come out in the order it added them
+		int[] last = new int[threads];
+		Arrays.fill(last, -1);
+		for (List<Integer> batch : batches) {
+			assertTrue(batch.size() <= 7);
+			for (int item : batch) {
+				int t = item / perThread;
+				assertTrue(item > last[t], "item " + item + " after " + last[t]);
+				last[t] = item;
+			}
+		}
+	}
+
+	@Test
+	void aSlowBatchDoesNotBlockAdding() throws InterruptedException {
+		CountDownLatch release = new CountDownLatch(1);
+		TelemetryBatcher<Integer> batcher = batcher(1, 60_000, batch -> {
+			await(release);
+			batches.add(batch);
+		});
+
+		long startedAt = System.nanoTime();
+		for (int i = 1; i <= 5; i++) {
+			batcher.add(i);
+		}
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1_000);
+		assertTrue(batches.isEmpty());
+
+		release.countDown();
+		waitFor(() -> batches.size() == 5);
+		assertEquals(List.of(List.of(1), List.of(2), List.of(3), List.of(4), List.of(5)), batches);
+	}
+
+	@Test
+	void discardsQueuedBatchesOnStop() throws InterruptedException {
+		CountDownLatch inFirst = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		TelemetryBatcher<Integer> batcher = batcher(1, 60_000, batch -> {
+			inFirst.countDown();
+			await(release);
+			batches.add(batch);
+		});
+		batcher.add(1);
+		assertTrue(inFirst.await(5, TimeUnit.SECONDS));
+		batcher.add(2);
+		batcher.add(3);
+
+		handle.stop();
+		batcher.add(4);
+		batcher.flush();
+		release.countDown();
+		Thread.sleep(100);
+
+		assertEquals(List.of(List.of(1)), batches);
+	}
+
+	private TelemetryBatcher<Integer> batcher(int maxBatchSize, long maxLingerMillis, Consumer<List<Integer>> onBatch) {
+		return new TelemetryBatcher<>(maxBatchSize, maxLingerMillis, onBatch, null, timer, drain, handle);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void waitFor(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "timed out");
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail("interrupted");
+			}
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.domains.TelemetryGap;
+import com.zqnt.utils.common.proto.*;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryContinuityTest {
+
+	private final List<TelemetryGap> gaps = new ArrayList<>();
+	private final TelemetryContinuity continuity = new TelemetryContinuity("SN-1", gaps::add);
+
+	@Test
+	void dropsFramesReplayedAfterReconnect() {
+		assertTrue(continuity.admit(subAsset(1_000), 1_000));
+		assertTrue(continuity.admit(subAsset(2_000), 1_000));
+		continuity.onReconnect();
+
+		assertFalse(continuity.admit(subAsset(1_000), 1_000));
+		assertFalse(continuity.admit(subAsset(2_000), 1_000));
+		assertTrue(continuity.admit(subAsset(3_000), 1_000));
+		assertTrue(gaps.isEmpty());
+	}
+
+	@Test
+	void keepsOlderFramesWithinACall() {
+		assertTrue(continuity.admit(subAsset(2_000), 1_000));
+		assertTrue(continuity.admit(subAsset(1_000), 1_000));
+		assertTrue(continuity.admit(subAsset(2_000), 1_000));
+	}
+
+	@Test
+	void endsDuplicateWindowOnFirstNewerFrame() {
+		continuity.admit(subAsset(2_000), 1_000);
+		continuity.onReconnect();
+		assertTrue(continuity.admit(subAsset(3_000), 1_000));
+		// Back within the new call: not a replay anymore
+		assertTrue(continuity.admit(subAsset(2_500), 1_000));
+	}
+
+	@Test
+	void passesFramesWithoutTimestamp() {
+		LiveDataTelemetryResponse unstamped = LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder().setId("drone-1"))
+				.build();
+		assertTrue(continuity.admit(unstamped, 1_000));
+		assertTrue(continuity.admit(unstamped, 1_000));
+		continuity.onReconnect();
+		assertTrue(continuity.admit(unstamped, 1_000));
+		// An unstamped frame neither sets nor moves the watermark
+		assertTrue(continuity.admit(subAsset(1_000), 1_000));
+	}
+
+	@Test
+	void tracksKindsSeparately() {
+		continuity.admit(subAsset(5_000), 1_000);
+		continuity.onReconnect();
+		assertTrue(continuity.admit(asset(1_000), 1_000));
+		assertFalse(continuity.admit(subAsset(5_000), 1_000));
+	}
+
+	@Test
+	void reportsGapAcrossReconnect() {
+		continuity.admit(subAsset(1_000), 1_000);
+		continuity.onReconnect();
+		assertTrue(continuity.admit(subAsset(6_000), 1_000));
+
+		assertEquals(1, gaps.size());
+		TelemetryGap gap = gaps.get(0);
+		assertEquals(TelemetryGap.Kind.SUB_ASSET, gap.getKind());
+		assertEquals(4, gap.getEstimatedMissedFrames());
+		assertEquals("tid-1000", gap.getLastTid());
+	}
+
+	@Test
+	void reportsNoGapWithinACall() {
+		continuity.admit(subAsset(1_000), 1_000);
+		assertTrue(continuity.admit(subAsset(60_000), 1_000));
+		assertTrue(gaps.isEmpty());
+	}
+
+	private static LiveDataTelemetryResponse subAsset(long millis) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setTid("tid-" + millis)
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder().setId("drone-1").setTimestamp(timestamp(millis)))
+				.build();
+	}
+
+	private static LiveDataTelemetryResponse asset(long millis) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setTid("tid-" + millis)
+				.setAssetTelemetry(AssetTelemetry.newBuilder().setTimestamp(timestamp(millis)))
+				.build();
+	}
+
+	private static Timestamp timestamp(long millis) {
+		return Timestamp.newBuilder().setSeconds(millis / 1000).setNanos((int) (millis % 1000) * 1_000_000).build();
+	}
+}
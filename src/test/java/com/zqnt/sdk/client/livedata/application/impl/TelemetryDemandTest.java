@@ -0,0 +1,154 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryDemandTest {
+
+	private final TelemetryDemand demand = new TelemetryDemand();
+
+	@Test
+	void asksNothingWithoutDemand() {
+		RecordingCall call = new RecordingCall();
+		assertEquals(0, demand.initialRequest());
+		demand.attach(call);
+
+		assertTrue(call.requests.isEmpty());
+		assertTrue(demand.isPaused());
+	}
+
+	@Test
+	void grantsDemandArrivingWhileTheCallStarts() {
+		RecordingCall call = new RecordingCall();
+		assertEquals(0, demand.initialRequest());
+		demand.request(3);
+		demand.attach(call);
+
+		assertEquals(List.of(3), call.requests);
+	}
+
+	@Test
+	void asksOnlyForTheOpenDemand() {
+		demand.request(5);
+		RecordingCall call = new RecordingCall();
+		assertEquals(5, demand.initialRequest());
+		demand.attach(call);
+		receive(5);
+		assertTrue(demand.isPaused());
+		assertTrue(call.requests.isEmpty());
+
+		demand.request(2);
+		assertEquals(List.of(2), call.requests);
+		assertFalse(demand.isPaused());
+	}
+
+	@Test
+	void carriesOpenDemandAcrossReconnects() {
+		demand.request(10);
+		RecordingCall first = new RecordingCall();
+		demand.initialRequest();
+		demand.attach(first);
+		receive(4);
+		demand.detach(first);
+
+		RecordingCall second = new RecordingCall();
+		assertEquals(6, demand.initialRequest());
+		demand.attach(second);
+		receive(6);
+
+		assertTrue(demand.isPaused());
+		assertTrue(first.requests.isEmpty());
+		assertTrue(second.requests.isEmpty());
+	}
+
+	@Test
+	void releaseGivesBackTheDemandOfASuppressedFrame() {
+		demand.request(2);
+		RecordingCall call = new RecordingCall();
+		demand.initialRequest();
+		demand.attach(call);
+		receive(2);
+		assertTrue(demand.isPaused());
+
+		demand.release();
+		assertFalse(demand.isPaused());
+		assertEquals(List.of(1), call.requests);
+	}
+
+	@Test
+	void capsUnboundedDemand() {
+		demand.request(Long.MAX_VALUE);
+		demand.request(Long.MAX_VALUE);
+		assertEquals(Integer.MAX_VALUE, demand.initialRequest());
+	}
+
+	@Test
+	void ignoresDetachOfAnotherCall() {
+		RecordingCall current = new RecordingCall();
+		demand.initialRequest();
+		demand.attach(current);
+		demand.detach(new RecordingCall());
+		demand.request(1);
+
+		assertEquals(List.of(1), current.requests);
+	}
+
+	private void receive(int frames) {
+		for (int i = 0; i < frames; i++) {
+			demand.onReceived();
+		}
+	}
+
+	/**
+	 * Records the inbound flow control of a call.
+	 */
+	private static class RecordingCall extends ClientCallStreamObserver<Object> {
+
+		private final List<Integer> requests = new ArrayList<>();
+
+		@Override
+		public void request(int count) {
+			requests.add(count);
+		}
+
+		@Override
+		public void cancel(String message, Throwable cause) {
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setOnReadyHandler(Runnable onReadyHandler) {
+		}
+
+		@Override
+		public void disableAutoInboundFlowControl() {
+		}
+
+		@Override
+		public void setMessageCompression(boolean enable) {
+		}
+
+		@Override
+		public void onNext(Object value) {
+		}
+
+		@Override
+		public void onError(Throwable t) {
+		}
+
+		@Override
+		public void onCompleted() {
+		}
+	}
+}
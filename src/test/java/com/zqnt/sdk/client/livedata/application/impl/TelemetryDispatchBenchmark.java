@@ -0,0 +1,104 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Cost per frame of each {@link TelemetryDispatchMode}, with the executors configured as in
+ * {@link LiveDataImpl}: frames of 16 SNs are handed off from a single "gRPC" thread, and the
+ * consumer either does almost nothing (a counter update) or blocks for 200 µs (a remote write).
+ * <p>
+ * Not part of the unit tests. Run with:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.zqnt.sdk.client.livedata.application.impl.TelemetryDispatchBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TelemetryDispatchBenchmark {
+
+	private static final int SNS = 16;
+	private static final int FRAMES = 1024;
+
+	@Param({"DIRECT", "POOLED", "ORDERED", "VIRTUAL", "VIRTUAL_ORDERED"})
+	public TelemetryDispatchMode mode;
+
+	@Param({"0", "200"})
+	public int consumerMicros;
+
+	private final Executor[] executors = new Executor[SNS];
+	private ExecutorService pool;
+	private OrderedDispatcher ordered;
+	private ExecutorService virtual;
+	private long counter;
+
+	@Setup
+	public void setUp() {
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		for (int i = 0; i < SNS; i++) {
+			String sn = "SN-" + i;
+			executors[i] = switch (mode) {
+				case DIRECT -> Runnable::run;
+				case POOLED -> pool != null ? pool : (pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+						new LinkedBlockingQueue<>(1000), new ThreadPoolExecutor.CallerRunsPolicy()));
+				case ORDERED -> (ordered != null ? ordered : (ordered = new OrderedDispatcher(threads, 1000, "bench-ordered"))).executorFor(sn);
+				case VIRTUAL -> virtual != null ? virtual : (virtual = Executors.newVirtualThreadPerTaskExecutor());
+				case VIRTUAL_ORDERED -> new SerialExecutor(virtual != null ? virtual : (virtual = Executors.newVirtualThreadPerTaskExecutor()));
+			};
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		if (pool != null) {
+			pool.shutdownNow();
+		}
+		if (ordered != null) {
+			ordered.shutdownNow();
+		}
+		if (virtual != null) {
+			virtual.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(FRAMES)
+	public void dispatch(Blackhole bh) throws InterruptedException {
+		CountDownLatch done = new CountDownLatch(FRAMES);
+		for (int i = 0; i < FRAMES; i++) {
+			executors[i % SNS].execute(() -> {
+				if (consumerMicros > 0) {
+					LockSupport.parkNanos(consumerMicros * 1_000L);
+				} else {
+					bh.consume(++counter);
+				}
+				done.countDown();
+			});
+		}
+		done.await();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(TelemetryDispatchBenchmark.class.getSimpleName())
+				.build()).run();
+	}
+}
@@ -0,0 +1,79 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryAdaptiveFrequency;
+import com.zqnt.utils.common.proto.*;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryFrequencyControllerTest {
+
+	private final TelemetryStreamStatistics statistics = new TelemetryStreamStatistics();
+	private final List<Integer> switches = new ArrayList<>();
+	// Never started: evaluations are driven by the test
+	private final TelemetryFrequencyController controller = new TelemetryFrequencyController(
+			TelemetryAdaptiveFrequency.defaults(), "SN-1", 1_000, null, statistics,
+			frequencyMs -> {
+				switches.add(frequencyMs);
+				return CompletableFuture.completedFuture(null);
+			});
+
+	@Test
+	void parsesDocumentedQualityLevelsOnly() {
+		for (int level = 0; level <= 5; level++) {
+			assertEquals(level, TelemetryFrequencyController.parseQuality(String.valueOf(level)));
+		}
+		assertEquals(-1, TelemetryFrequencyController.parseQuality("6"));
+		assertEquals(-1, TelemetryFrequencyController.parseQuality("-1"));
+		assertEquals(-1, TelemetryFrequencyController.parseQuality("POOR"));
+		assertEquals(-1, TelemetryFrequencyController.parseQuality(""));
+		assertEquals(-1, TelemetryFrequencyController.parseQuality(null));
+	}
+
+	@Test
+	void backsOffOnPoorLink() {
+		process(network("1"));
+		controller.evaluate(System.currentTimeMillis());
+
+		assertEquals(List.of(2_000), switches);
+		assertEquals(2_000, statistics.getEffectiveFrequencyMs());
+		assertEquals(1, statistics.getFrequencyBackoffs());
+	}
+
+	@Test
+	void keepsFrequencyOnGoodLink() {
+		process(network("4"));
+		controller.evaluate(System.currentTimeMillis());
+
+		assertTrue(switches.isEmpty());
+		assertEquals(1_000, statistics.getEffectiveFrequencyMs());
+	}
+
+	@Test
+	void ignoresUnrecognizedQuality() {
+		process(network("POOR"));
+		controller.evaluate(System.currentTimeMillis());
+
+		assertTrue(switches.isEmpty());
+	}
+
+	private void process(LiveDataTelemetryResponse frame) {
+		controller.onQueued();
+		controller.onProcessed(frame, 0);
+	}
+
+	private static LiveDataTelemetryResponse network(String quality) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setAssetTelemetry(AssetTelemetry.newBuilder()
+						.setNetworkInformation(NetworkInformation.newBuilder().setQuality(quality).setRate(10f)))
+				.build();
+	}
+}
@@ -0,0 +1,115 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.domains.GeofenceEvent;
+import com.zqnt.utils.common.proto.*;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryGeofencesImplTest {
+
+	// 0..10 degrees square with a hole from 4 to 6
+	private static final String SQUARE_WITH_HOLE = "{\"type\":\"Polygon\",\"coordinates\":["
+			+ "[[0,0],[10,0],[10,10],[0,10],[0,0]],"
+			+ "[[4,4],[6,4],[6,6],[4,6],[4,4]]]}";
+	private static final String TRIANGLES = "{\"type\":\"Feature\",\"properties\":{},\"geometry\":"
+			+ "{\"type\":\"MultiPolygon\",\"coordinates\":["
+			+ "[[[5,5],[20,5],[5,20],[5,5]]],"
+			+ "[[[30,30],[31,30],[31,31],[30,30]]]]}}";
+
+	private final TelemetryGeofencesImpl geofences = new TelemetryGeofencesImpl();
+	private final List<GeofenceEvent> events = new ArrayList<>();
+
+	TelemetryGeofencesImplTest() {
+		geofences.add("square", SQUARE_WITH_HOLE);
+		geofences.add("triangles", TRIANGLES);
+		geofences.setListener(events::add);
+	}
+
+	@Test
+	void containsRespectsHolesAndMultiPolygons() {
+		assertEquals(List.of("square"), geofences.containing(1, 1));
+		// Inside the hole of the square
+		assertEquals(List.of("triangles"), geofences.containing(5.5, 5.5));
+		assertEquals(List.of("square", "triangles"), geofences.containing(7, 7));
+		assertEquals(List.of("triangles"), geofences.containing(30.2, 30.9));
+		assertEquals(List.of(), geofences.containing(30.9, 30.2));
+		assertEquals(List.of(), geofences.containing(-1, -1));
+	}
+
+	@Test
+	void rejectsGeoJsonWithoutPolygon() {
+		assertThrows(IllegalArgumentException.class, () -> geofences.add("point", "{\"type\":\"Point\",\"coordinates\":[1,2]}"));
+	}
+
+	@Test
+	void emitsEnterAndExitOnBorderCrossings() {
+		geofences.update(drone(1_000, 1, 1));
+		geofences.update(drone(2_000, 1, 1));
+		geofences.update(drone(3_000, 7, 7));
+		geofences.update(drone(4_000, 50, 50));
+
+		assertEquals(List.of(
+				"ENTER square", "ENTER triangles",
+				"EXIT square", "EXIT triangles"), describe(events));
+	}
+
+	@Test
+	void ignoresFramesOlderThanTheLastEvaluated() {
+		geofences.update(drone(2_000, 1, 1));
+		geofences.update(drone(1_000, 50, 50));
+
+		assertEquals(List.of("ENTER square"), describe(events));
+		assertEquals(Set.of("square"), geofences.insideOf("drone-1"));
+	}
+
+	@Test
+	void removeIsSilentAndForgetsTheGeofence() {
+		geofences.update(drone(1_000, 7, 7));
+		events.clear();
+
+		geofences.remove("triangles");
+		assertEquals(Set.of("square"), geofences.insideOf("drone-1"));
+		geofences.update(drone(2_000, 7.5f, 7.5f));
+		assertTrue(events.isEmpty());
+
+		geofences.remove("square");
+		assertEquals(Set.of(), geofences.insideOf("drone-1"));
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	void clearForgetsAllDrones() {
+		geofences.update(drone(1_000, 1, 1));
+		geofences.clear();
+		assertEquals(Set.of(), geofences.insideOf("drone-1"));
+
+		events.clear();
+		geofences.add("square", SQUARE_WITH_HOLE);
+		geofences.update(drone(2_000, 1, 1));
+		assertEquals(List.of("ENTER square"), describe(events));
+	}
+
+	private static List<String> describe(List<GeofenceEvent> events) {
+		return events.stream().map(e -> e.getType() + " " + e.getGeofenceId()).toList();
+	}
+
+	private static LiveDataTelemetryResponse drone(long millis, float latitude, float longitude) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("DOCK-1")
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+						.setId("drone-1")
+						.setTimestamp(Timestamp.newBuilder().setSeconds(millis / 1000).setNanos((int) (millis % 1000) * 1_000_000))
+						.setLatitude(latitude)
+						.setLongitude(longitude))
+				.build();
+	}
+}
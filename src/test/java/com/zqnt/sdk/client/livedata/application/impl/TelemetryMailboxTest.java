@@ -0,0 +1,125 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.livedata.domains.TelemetryOverflowPolicy;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryMailboxTest {
+
+	// Drain tasks only run when the test says so
+	private final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+	private final List<Integer> delivered = new CopyOnWriteArrayList<>();
+	private final AtomicInteger dropped = new AtomicInteger();
+
+	@Test
+	void dropNewestKeepsBufferedItems() {
+		TelemetryMailbox<Integer> mailbox = mailbox(2, TelemetryOverflowPolicy.DROP_NEWEST);
+		offer(mailbox, 1, 2, 3);
+		runTasks();
+
+		assertEquals(List.of(1, 2), delivered);
+		assertEquals(1, dropped.get());
+	}
+
+	@Test
+	void dropOldestKeepsNewestItems() {
+		TelemetryMailbox<Integer> mailbox = mailbox(2, TelemetryOverflowPolicy.DROP_OLDEST);
+		offer(mailbox, 1, 2, 3, 4);
+		runTasks();
+
+		assertEquals(List.of(3, 4), delivered);
+		assertEquals(2, dropped.get());
+	}
+
+	@Test
+	void conflateLatestKeepsOnlyTheLastItem() {
+		TelemetryMailbox<Integer> mailbox = mailbox(16, TelemetryOverflowPolicy.CONFLATE_LATEST);
+		offer(mailbox, 1, 2, 3);
+		assertEquals(1, mailbox.size());
+		runTasks();
+
+		assertEquals(List.of(3), delivered);
+		assertEquals(2, dropped.get());
+	}
+
+	@Test
+	void blockWaitsForRoomAndDropsNothing() throws Exception {
+		TelemetryMailbox<Integer> mailbox = mailbox(1, TelemetryOverflowPolicy.BLOCK);
+		mailbox.offer(1);
+		Thread producer = new Thread(() -> mailbox.offer(2));
+		producer.start();
+		producer.join(100);
+		assertTrue(producer.isAlive(), "offer must block while the buffer is full");
+
+		runTasks();
+		producer.join(TimeUnit.SECONDS.toMillis(5));
+		assertFalse(producer.isAlive());
+		runTasks();
+
+		assertEquals(List.of(1, 2), delivered);
+		assertEquals(0, dropped.get());
+	}
+
+	@Test
+	void keepsAtMostOneDrainTaskQueued() {
+		TelemetryMailbox<Integer> mailbox = mailbox(16, TelemetryOverflowPolicy.DROP_NEWEST);
+		offer(mailbox, 1, 2, 3);
+		assertEquals(1, tasks.size());
+	}
+
+	@Test
+	void yieldsTheWorkerAfterABatch() {
+		TelemetryMailbox<Integer> mailbox = mailbox(256, TelemetryOverflowPolicy.DROP_NEWEST);
+		for (int i = 0; i < 100; i++) {
+			mailbox.offer(i);
+		}
+		tasks.poll().run();
+
+		assertEquals(64, delivered.size());
+		assertEquals(1, tasks.size(), "the rest is rescheduled");
+		runTasks();
+		assertEquals(100, delivered.size());
+		assertEquals(List.of(98, 99), delivered.subList(98, 100));
+	}
+
+	@Test
+	void countsBufferedItemsAsDroppedWhenTheExecutorRejects() {
+		TelemetryMailbox<Integer> mailbox = new TelemetryMailbox<>(16, TelemetryOverflowPolicy.DROP_NEWEST,
+				task -> {
+					throw new RejectedExecutionException("shut down");
+				},
+				delivered::add, dropped::incrementAndGet);
+		mailbox.offer(1);
+
+		assertEquals(0, mailbox.size());
+		assertEquals(1, dropped.get());
+		assertTrue(delivered.isEmpty());
+	}
+
+	private TelemetryMailbox<Integer> mailbox(int capacity, TelemetryOverflowPolicy policy) {
+		return new TelemetryMailbox<>(capacity, policy, tasks::add, delivered::add, dropped::incrementAndGet);
+	}
+
+	private static void offer(TelemetryMailbox<Integer> mailbox, int... items) {
+		for (int item : items) {
+			mailbox.offer(item);
+		}
+	}
+
+	private void runTasks() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			task.run();
+		}
+	}
+}
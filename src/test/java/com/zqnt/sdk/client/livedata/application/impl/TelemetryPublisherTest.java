@@ -0,0 +1,246 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.zqnt.sdk.client.config.GrpcClientConfig;
+import com.zqnt.sdk.client.config.ServiceConfig;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryResponse;
+import com.zqnt.utils.livedata.proto.LiveDataServiceGrpc;
+import com.zqnt.utils.livedata.proto.LiveDataStreamTelemetryRequest;
+import com.zqnt.utils.livedata.proto.LiveDataTelemetryResponse;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the publisher against a local gRPC server on a free port.
+ */
+@Tag("unit")
+class TelemetryPublisherTest {
+
+	private Server server;
+	private ManagedChannel channel;
+	private LiveDataImpl liveData;
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@AfterEach
+	void shutdown() throws InterruptedException {
+		if (liveData != null) {
+			liveData.shutdown();
+		}
+		if (channel != null) {
+			channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+		if (server != null) {
+			server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void deliversTheErrorAfterTheFrameInProgress() throws Exception {
+		// First call: one frame, then a failure; the reconnect fails right away and ends the stream
+		start((call, responses) -> {
+			if (call == 1) {
+				responses.onNext(frame(1));
+			}
+			responses.onError(Status.UNAVAILABLE.asRuntimeException());
+		});
+		CountDownLatch inOnNext = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE) {
+			@Override
+			void received(StreamTelemetryResponse response) throws InterruptedException {
+				inOnNext.countDown();
+				release.await(5, TimeUnit.SECONDS);
+			}
+		};
+		publisher().subscribe(subscriber);
+
+		assertTrue(inOnNext.await(5, TimeUnit.SECONDS));
+		waitFor(() -> calls.get() >= 2);
+		// The stream has failed by now; the error must wait for onNext to return
+		Thread.sleep(200);
+		assertEquals(List.of("next 1"), subscriber.signals);
+
+		release.countDown();
+		assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of("next 1", "error"), subscriber.signals);
+		assertFalse(subscriber.overlapped.get());
+	}
+
+	@Test
+	void completesAfterAllFrames() throws Exception {
+		start((call, responses) -> {
+			for (int i = 1; i <= 3; i++) {
+				responses.onNext(frame(i));
+			}
+			responses.onCompleted();
+		});
+		RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+		publisher().subscribe(subscriber);
+
+		assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of("next 1", "next 2", "next 3", "complete"), subscriber.signals);
+		assertFalse(subscriber.overlapped.get());
+	}
+
+	@Test
+	void deliversNoMoreThanRequested() throws Exception {
+		CountDownLatch sent = new CountDownLatch(1);
+		start((call, responses) -> {
+			for (int i = 1; i <= 5; i++) {
+				responses.onNext(frame(i));
+			}
+			sent.countDown();
+		});
+		RecordingSubscriber subscriber = new RecordingSubscriber(2);
+		publisher().subscribe(subscriber);
+
+		assertTrue(sent.await(5, TimeUnit.SECONDS));
+		waitFor(() -> subscriber.signals.size() >= 2);
+		Thread.sleep(200);
+		assertEquals(List.of("next 1", "next 2"), subscriber.signals);
+
+		subscriber.subscription.request(3);
+		waitFor(() -> subscriber.signals.size() >= 5);
+		assertEquals(List.of("next 1", "next 2", "next 3", "next 4", "next 5"), subscriber.signals);
+		subscriber.subscription.cancel();
+	}
+
+	@Test
+	void rejectsNonPositiveDemand() throws Exception {
+		start((call, responses) -> {
+		});
+		RecordingSubscriber subscriber = new RecordingSubscriber(0);
+		publisher().subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertTrue(subscriber.terminated.await(5, TimeUnit.SECONDS));
+		assertEquals(List.of("error"), subscriber.signals);
+		assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+	}
+
+	private void start(BiConsumer<Integer, StreamObserver<LiveDataTelemetryResponse>> behaviour) throws IOException {
+		server = ServerBuilder.forPort(0)
+				.addService(new LiveDataServiceGrpc.LiveDataServiceImplBase() {
+					@Override
+					public void streamTelemetry(LiveDataStreamTelemetryRequest request,
+												StreamObserver<LiveDataTelemetryResponse> responses) {
+						behaviour.accept(calls.incrementAndGet(), responses);
+					}
+				})
+				.build()
+				.start();
+		channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+		liveData = LiveDataImpl.create(GrpcClientConfig.builder()
+				.liveDataConfig(ServiceConfig.builder().serviceName("live-data").port(server.getPort()).build())
+				.maxRetryAttempts(0)
+				.retryDelayMillis(10)
+				.build(), channel);
+	}
+
+	private TelemetryPublisher publisher() {
+		return new TelemetryPublisher(liveData, new StreamTelemetryRequest()
+				.withSn("SN-1")
+				.withTid("tid-1")
+				.withFrequencyMs(1_000));
+	}
+
+	private static LiveDataTelemetryResponse frame(int n) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setTid(String.valueOf(n))
+				.build();
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "timed out");
+			Thread.sleep(10);
+		}
+	}
+
+	/**
+	 * Records signals in order and notes whether two of them ever ran at the same time.
+	 */
+	private static class RecordingSubscriber implements Flow.Subscriber<StreamTelemetryResponse> {
+
+		private final long initialDemand;
+		private final List<String> signals = new CopyOnWriteArrayList<>();
+		private final AtomicBoolean active = new AtomicBoolean();
+		private final AtomicBoolean overlapped = new AtomicBoolean();
+		private final CountDownLatch terminated = new CountDownLatch(1);
+		private volatile Flow.Subscription subscription;
+		private volatile Throwable error;
+
+		RecordingSubscriber(long initialDemand) {
+			this.initialDemand = initialDemand;
+		}
+
+		void received(StreamTelemetryResponse response) throws InterruptedException {
+		}
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			if (initialDemand > 0) {
+				subscription.request(initialDemand);
+			}
+		}
+
+		@Override
+		public void onNext(StreamTelemetryResponse response) {
+			enter();
+			try {
+				signals.add("next " + response.getTid());
+				received(response);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				active.set(false);
+			}
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			enter();
+			error = throwable;
+			signals.add("error");
+			active.set(false);
+			terminated.countDown();
+		}
+
+		@Override
+		public void onComplete() {
+			enter();
+			signals.add("complete");
+			active.set(false);
+			terminated.countDown();
+		}
+
+		private void enter() {
+			if (!active.compareAndSet(false, true)) {
+				overlapped.set(true);
+			}
+		}
+	}
+}
@@ -0,0 +1,168 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Segments written by {@link TelemetryRecorderImpl} and read back by {@link TelemetryLogReader}.
+ */
+@Tag("unit")
+class TelemetryRecorderTest {
+
+	private static final long SMALL_SEGMENT = 256;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void readsBackWhatWasRecorded() throws IOException {
+		TelemetryRecorderImpl recorder = recorder(TelemetryRecorderImpl.SEGMENT_HEADER_BYTES + 4096L, 16);
+		for (int i = 0; i < 3; i++) {
+			recorder.append(frame(i), 1_000L + i);
+		}
+		recorder.close();
+
+		assertEquals(3, recorder.getRecordedFrames());
+		assertEquals(List.of("t0", "t1", "t2"), readTids());
+		assertEquals(List.of(TelemetryRecorderImpl.segmentFileName(0)), segmentNames());
+	}
+
+	@Test
+	void rollsOverIntoNewSegmentsInOrder() throws IOException {
+		TelemetryRecorderImpl recorder = recorder(SMALL_SEGMENT, 16);
+		for (int i = 0; i < 20; i++) {
+			recorder.append(frame(i), 1_000L + i);
+		}
+		recorder.close();
+
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			expected.add("t" + i);
+		}
+		assertEquals(expected, readTids());
+		assertTrue(segmentNames().size() > 1);
+
+		TelemetryLogReader reader = new TelemetryLogReader(directory);
+		for (int i = 0; i < 20; i++) {
+			assertNotNull(reader.next());
+			assertEquals(1_000L + i, reader.receivedAtMillis());
+		}
+		assertNull(reader.next());
+	}
+
+	@Test
+	void keepsOnlyTheNewestSegments() throws IOException {
+		TelemetryRecorderImpl recorder = recorder(SMALL_SEGMENT, 2);
+		for (int i = 0; i < 40; i++) {
+			recorder.append(frame(i), 1_000L + i);
+		}
+		recorder.close();
+
+		// The segment mapped ahead of time is removed on close as well
+		assertEquals(2, segmentNames().size());
+		List<String> tids = readTids();
+		assertFalse(tids.isEmpty());
+		assertTrue(tids.size() < 40);
+		assertEquals("t39", tids.get(tids.size() - 1));
+		int first = Integer.parseInt(tids.get(0).substring(1));
+		for (int i = 0; i < tids.size(); i++) {
+			assertEquals("t" + (first + i), tids.get(i));
+		}
+	}
+
+	@Test
+	void continuesAfterATornTail() throws IOException {
+		TelemetryRecorderImpl first = recorder(TelemetryRecorderImpl.SEGMENT_HEADER_BYTES + 4096L, 16);
+		first.append(frame(0), 1_000L);
+		first.append(frame(1), 1_001L);
+		first.close();
+		// A crash after the length of a third record was written but not its payload
+		tearTail(directory.resolve(TelemetryRecorderImpl.segmentFileName(0)));
+
+		TelemetryRecorderImpl second = recorder(TelemetryRecorderImpl.SEGMENT_HEADER_BYTES + 4096L, 16);
+		second.append(frame(2), 1_002L);
+		second.close();
+
+		assertEquals(List.of("t0", "t1", "t2"), readTids());
+	}
+
+	@Test
+	void dropsAFrameLargerThanASegment() throws IOException {
+		TelemetryRecorderImpl recorder = recorder(TelemetryRecorderImpl.SEGMENT_HEADER_BYTES
+				+ TelemetryRecorderImpl.RECORD_HEADER_BYTES + Integer.BYTES + 1L, 16);
+		recorder.append(frame(0), 1_000L);
+		recorder.close();
+
+		assertEquals(0, recorder.getRecordedFrames());
+		assertEquals(List.of(), readTids());
+	}
+
+	@Test
+	void rejectsADirectoryWithoutRecording() {
+		assertThrows(IOException.class, () -> new TelemetryLogReader(directory));
+	}
+
+	private TelemetryRecorderImpl recorder(long segmentSize, int maxSegments) {
+		return new TelemetryRecorderImpl(directory, segmentSize, maxSegments, recorder -> { });
+	}
+
+	private static LiveDataTelemetryResponse frame(int i) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setTid("t" + i)
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+						.setId("drone-1")
+						.setTimestamp(Timestamp.newBuilder().setSeconds(i)))
+				.build();
+	}
+
+	private List<String> readTids() throws IOException {
+		TelemetryLogReader reader = new TelemetryLogReader(directory);
+		List<String> tids = new ArrayList<>();
+		LiveDataTelemetryResponse frame;
+		while ((frame = reader.next()) != null) {
+			tids.add(frame.getTid());
+		}
+		return tids;
+	}
+
+	private List<String> segmentNames() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(TelemetryRecorderImpl::isSegmentFile)
+					.map(file -> file.getFileName().toString())
+					.sorted()
+					.toList();
+		}
+	}
+
+	/**
+	 * Writes a record length past the last record that points beyond the end of the segment.
+	 */
+	private static void tearTail(Path segment) throws IOException {
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+			int position = TelemetryRecorderImpl.SEGMENT_HEADER_BYTES;
+			int length;
+			while ((length = buffer.getInt(position)) > 0) {
+				position += TelemetryRecorderImpl.RECORD_HEADER_BYTES + length;
+			}
+			buffer.putInt(position, (int) channel.size());
+			buffer.force();
+		}
+	}
+}
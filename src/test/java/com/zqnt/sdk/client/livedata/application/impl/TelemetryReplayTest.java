@@ -0,0 +1,95 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.config.GrpcClientConfig;
+import com.zqnt.sdk.client.config.ServiceConfig;
+import com.zqnt.sdk.client.livedata.application.TelemetryReplay;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.sdk.client.livedata.domains.TelemetryLatencyStage;
+import com.zqnt.sdk.client.livedata.domains.TelemetryReplaySpeed;
+import com.zqnt.utils.livedata.proto.*;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Replay pacing, and a recording replayed through the stream pipeline.
+ */
+@Tag("unit")
+class TelemetryReplayTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void pacesFramesByRecordedTimeOverSpeed() {
+		assertEquals(5_000L, TelemetryReplayImpl.dueNanos(5_000L, 1_000L, 1_000L, TelemetryReplaySpeed.realTime()));
+		assertEquals(5_000L + 250_000_000L,
+				TelemetryReplayImpl.dueNanos(5_000L, 1_000L, 1_250L, TelemetryReplaySpeed.realTime()));
+		assertEquals(5_000L + 25_000_000L,
+				TelemetryReplayImpl.dueNanos(5_000L, 1_000L, 1_250L, TelemetryReplaySpeed.times(10)));
+		assertEquals(5_000L + 500_000_000L,
+				TelemetryReplayImpl.dueNanos(5_000L, 1_000L, 1_250L, TelemetryReplaySpeed.times(0.5)));
+	}
+
+	@Test
+	void replaysAFrameRecordedBeforeThePreviousOneRightAway() {
+		// Receive clock stepped back: due before the replay started, so there is no wait
+		assertTrue(TelemetryReplayImpl.dueNanos(5_000L, 1_000L, 900L, TelemetryReplaySpeed.realTime()) < 5_000L);
+	}
+
+	@Test
+	void replaysARecordingWithoutTouchingLiveState() throws Exception {
+		TelemetryRecorderImpl recorder = new TelemetryRecorderImpl(directory, 4096L, 16, r -> { });
+		for (int i = 1; i <= 5; i++) {
+			recorder.append(frame("SN-1", i), 1_000L + i);
+		}
+		recorder.append(frame("SN-2", 6), 1_006L);
+		recorder.close();
+
+		ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", 1).usePlaintext().build();
+		LiveDataImpl liveData = LiveDataImpl.create(GrpcClientConfig.builder()
+				.liveDataConfig(ServiceConfig.builder().serviceName("live-data").port(1).build())
+				.telemetryLatencyTracking(true)
+				.build(), channel);
+		try {
+			List<String> replayed = new CopyOnWriteArrayList<>();
+			TelemetryReplay replay = liveData.replayTelemetry(directory, TelemetryReplaySpeed.max(),
+					new StreamTelemetryRequest().withDispatchMode(TelemetryDispatchMode.ORDERED),
+					(sn, response) -> replayed.add(sn + "/" + response.getTid()),
+					(sn, error) -> fail(error));
+
+			assertEquals(6L, replay.completion().get(5, TimeUnit.SECONDS));
+			assertEquals(List.of("SN-1/t1", "SN-1/t2", "SN-1/t3", "SN-1/t4", "SN-1/t5"),
+					replayed.stream().filter(tid -> tid.startsWith("SN-1/")).toList());
+			assertTrue(replayed.contains("SN-2/t6"));
+
+			assertNull(liveData.snapshotStore().get("SN-1"));
+			assertNull(liveData.telemetryLatency().get("SN-1", TelemetryLatencyStage.QUEUE));
+			assertNull(liveData.telemetryLatency().get("SN-1", TelemetryLatencyStage.MAPPING));
+		} finally {
+			liveData.shutdown();
+			channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private static LiveDataTelemetryResponse frame(String sn, long seconds) {
+		return LiveDataTelemetryResponse.newBuilder()
+				.setSn(sn)
+				.setTid("t" + seconds)
+				.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+						.setId("drone-1")
+						.setTimestamp(Timestamp.newBuilder().setSeconds(seconds)))
+				.build();
+	}
+}
@@ -0,0 +1,107 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.domains.TelemetryHistoryField;
+import com.zqnt.sdk.client.livedata.domains.TelemetrySeries;
+import com.zqnt.utils.livedata.proto.*;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryRingTest {
+
+	private static final int BATTERY = TelemetryHistoryField.BATTERY_PERCENTAGE.mask();
+	private static final TelemetrySeries.Kind KIND = TelemetrySeries.Kind.SUB_ASSET;
+
+	@Test
+	void movesALateSampleIntoPlace() {
+		TelemetryRing ring = new TelemetryRing(8);
+		append(ring, 10, 1);
+		append(ring, 30, 3);
+		append(ring, 20, 2);
+
+		TelemetrySeries series = ring.copyAll("SN-1", KIND);
+		assertTimestamps(series, 10, 20, 30);
+		// The other columns move with the timestamp
+		assertEquals(2.0, series.get(TelemetryHistoryField.BATTERY_PERCENTAGE, 1));
+		assertEquals(3.0, series.get(TelemetryHistoryField.BATTERY_PERCENTAGE, 2));
+	}
+
+	@Test
+	void skipsASampleWithATimestampAlreadyHeld() {
+		TelemetryRing ring = new TelemetryRing(8);
+		append(ring, 10, 1);
+		append(ring, 20, 2);
+		append(ring, 10, 9);
+		append(ring, 20, 9);
+
+		TelemetrySeries series = ring.copyAll("SN-1", KIND);
+		assertTimestamps(series, 10, 20);
+		assertEquals(1.0, series.get(TelemetryHistoryField.BATTERY_PERCENTAGE, 0));
+		assertEquals(2.0, series.get(TelemetryHistoryField.BATTERY_PERCENTAGE, 1));
+	}
+
+	@Test
+	void overwritesTheOldestSampleWhenFull() {
+		TelemetryRing ring = new TelemetryRing(3);
+		for (int t = 1; t <= 5; t++) {
+			append(ring, t * 10L, t);
+		}
+
+		assertEquals(3, ring.size());
+		assertTimestamps(ring.copyAll("SN-1", KIND), 30, 40, 50);
+		// Across the physical end of the arrays
+		assertTimestamps(ring.copyRange("SN-1", KIND, 40, 50), 40, 50);
+
+		// A late sample after wrapping still lands in order
+		append(ring, 45, 0);
+		assertTimestamps(ring.copyAll("SN-1", KIND), 40, 45, 50);
+	}
+
+	@Test
+	void findsRangesWithInclusiveBounds() {
+		TelemetryRing ring = new TelemetryRing(8);
+		for (int t = 1; t <= 5; t++) {
+			append(ring, t * 10L, t);
+		}
+
+		assertTimestamps(ring.copyRange("SN-1", KIND, 20, 40), 20, 30, 40);
+		assertTimestamps(ring.copyRange("SN-1", KIND, 15, 35), 20, 30);
+		assertTimestamps(ring.copyRange("SN-1", KIND, Long.MIN_VALUE, 10), 10);
+		assertTimestamps(ring.copyRange("SN-1", KIND, 50, Long.MAX_VALUE), 50);
+		assertTrue(ring.copyRange("SN-1", KIND, 31, 39).isEmpty());
+		assertTrue(ring.copyRange("SN-1", KIND, 60, 70).isEmpty());
+		assertTrue(ring.copyRange("SN-1", KIND, 40, 20).isEmpty());
+	}
+
+	@Test
+	void recordsTheDockBatteryAsAssetSample() {
+		TelemetryHistoryImpl history = new TelemetryHistoryImpl(8);
+		history.record(LiveDataTelemetryResponse.newBuilder()
+				.setSn("SN-1")
+				.setAssetTelemetry(AssetTelemetry.newBuilder()
+						.setSubAssetPercentage(87)
+						.setTimestamp(Timestamp.newBuilder().setSeconds(1)))
+				.build());
+
+		TelemetrySeries series = history.query("SN-1", TelemetrySeries.Kind.ASSET, Instant.EPOCH, null);
+		assertEquals(1, series.size());
+		assertEquals(87.0, series.get(TelemetryHistoryField.BATTERY_PERCENTAGE, 0));
+		assertFalse(series.has(TelemetryHistoryField.LATITUDE, 0));
+	}
+
+	private static void append(TelemetryRing ring, long timestamp, double battery) {
+		ring.append(timestamp, BATTERY, 0, 0, 0, 0, 0, 0, 0, battery);
+	}
+
+	private static void assertTimestamps(TelemetrySeries series, long... expected) {
+		assertEquals(expected.length, series.size());
+		for (int i = 0; i < expected.length; i++) {
+			assertEquals(expected[i], series.getTimestamp(i));
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.livedata.domains.TelemetryPosition;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetrySpatialIndexImplTest {
+
+	private final TelemetrySpatialIndexImpl index = new TelemetrySpatialIndexImpl();
+	private final List<TelemetryPosition> positions = new ArrayList<>();
+	private final Random random = new Random(42);
+
+	@Test
+	void nearestMatchesBruteForceInADenseFleet() {
+		// Large enough for the ring search, not the full scan
+		addRandom(5_000, 47.0, 8.0, 1.0);
+		for (int i = 0; i < 200; i++) {
+			double latitude = 46.8 + random.nextDouble() * 1.4;
+			double longitude = 7.8 + random.nextDouble() * 1.4;
+			assertNearest(latitude, longitude, 1 + random.nextInt(20));
+		}
+	}
+
+	@Test
+	void nearestMatchesBruteForceAcrossTheGlobe() {
+		addRandom(2_000, -90.0, -180.0, 180.0);
+		for (int i = 0; i < 100; i++) {
+			assertNearest(-90 + random.nextDouble() * 180, -180 + random.nextDouble() * 360, 1 + random.nextInt(10));
+		}
+	}
+
+	@Test
+	void nearestWrapsAroundTheAntimeridian() {
+		addRandom(2_000, -10.0, 179.0, 2.0);
+		for (int i = 0; i < 100; i++) {
+			double longitude = random.nextBoolean() ? 179.9 + random.nextDouble() * 0.1 : -180 + random.nextDouble() * 0.1;
+			assertNearest(-10 + random.nextDouble() * 2, longitude, 5);
+		}
+	}
+
+	@Test
+	void nearestReturnsEverythingWhenAskedForMore() {
+		addRandom(10, 47.0, 8.0, 0.01);
+		assertEquals(10, index.nearest(47.0, 8.0, 50).size());
+		assertEquals(List.of(), index.nearest(47.0, 8.0, 0));
+	}
+
+	@Test
+	void withinRadiusMatchesBruteForce() {
+		addRandom(3_000, 47.0, 8.0, 1.0);
+		for (int i = 0; i < 100; i++) {
+			double latitude = 47.0 + random.nextDouble();
+			double longitude = 8.0 + random.nextDouble();
+			double radius = random.nextDouble() * 20_000;
+			List<String> expected = positions.stream()
+					.filter(p -> p.distanceMeters(latitude, longitude) <= radius)
+					.map(TelemetryPosition::getId)
+					.sorted()
+					.toList();
+			List<String> actual = index.withinRadius(latitude, longitude, radius).stream()
+					.map(TelemetryPosition::getId)
+					.sorted()
+					.toList();
+			assertEquals(expected, actual);
+		}
+	}
+
+	private void assertNearest(double latitude, double longitude, int k) {
+		List<Double> expected = positions.stream()
+				.map(p -> p.distanceMeters(latitude, longitude))
+				.sorted()
+				.limit(k)
+				.toList();
+		List<TelemetryPosition> actual = index.nearest(latitude, longitude, k);
+		assertEquals(expected.size(), actual.size());
+		for (int i = 0; i < expected.size(); i++) {
+			assertEquals(expected.get(i), actual.get(i).distanceMeters(latitude, longitude), 1e-3,
+					"neighbour " + i + " of " + latitude + "," + longitude);
+		}
+	}
+
+	private void addRandom(int count, double minLatitude, double minLongitude, double spanDegrees) {
+		for (int i = 0; i < count; i++) {
+			double latitude = minLatitude + random.nextDouble() * spanDegrees;
+			double longitude = minLongitude + random.nextDouble() * spanDegrees;
+			if (longitude >= 180) {
+				longitude -= 360;
+			}
+			String id = "drone-" + positions.size();
+			index.put(id, "SN-" + i, TelemetryPosition.Kind.SUB_ASSET, latitude, longitude, Timestamp.getDefaultInstance());
+			positions.add(index.get(id));
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryStreamReconnectDelayTest {
+
+	@Test
+	void staysBetweenTheBaseAndThreeTimesThePreviousDelay() {
+		for (int i = 0; i < 10_000; i++) {
+			long delay = TelemetryStream.nextReconnectDelay(1_000, 2_000);
+			assertTrue(delay >= 1_000 && delay <= 6_000, "delay " + delay);
+		}
+	}
+
+	@Test
+	void spreadsDelaysOverTheWholeRange() {
+		long min = Long.MAX_VALUE;
+		long max = Long.MIN_VALUE;
+		for (int i = 0; i < 10_000; i++) {
+			long delay = TelemetryStream.nextReconnectDelay(1_000, 1_000);
+			min = Math.min(min, delay);
+			max = Math.max(max, delay);
+		}
+		assertTrue(min < 1_200, "min " + min);
+		assertTrue(max > 2_800, "max " + max);
+	}
+
+	@Test
+	void capsTheDelay() {
+		long previous = 1_000;
+		for (int i = 0; i < 100; i++) {
+			previous = TelemetryStream.nextReconnectDelay(1_000, previous);
+			assertTrue(previous <= TelemetryStream.MAX_RECONNECT_DELAY_MILLIS, "delay " + previous);
+		}
+		assertEquals(TelemetryStream.MAX_RECONNECT_DELAY_MILLIS, TelemetryStream.nextReconnectDelay(40_000, 40_000));
+	}
+}
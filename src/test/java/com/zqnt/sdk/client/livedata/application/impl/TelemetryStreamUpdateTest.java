@@ -0,0 +1,179 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import com.google.protobuf.Timestamp;
+import com.zqnt.sdk.client.config.GrpcClientConfig;
+import com.zqnt.sdk.client.config.ServiceConfig;
+import com.zqnt.sdk.client.livedata.domains.StreamHandle;
+import com.zqnt.sdk.client.livedata.domains.StreamTelemetryRequest;
+import com.zqnt.sdk.client.livedata.domains.TelemetryDispatchMode;
+import com.zqnt.utils.livedata.proto.*;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Make-before-break {@link StreamHandle#update} against a local gRPC server whose calls the test drives.
+ */
+@Tag("unit")
+class TelemetryStreamUpdateTest {
+
+	private final List<ServerCallStreamObserver<LiveDataTelemetryResponse>> calls = new CopyOnWriteArrayList<>();
+	private final List<LiveDataStreamTelemetryRequest> requests = new CopyOnWriteArrayList<>();
+	private final List<String> delivered = new CopyOnWriteArrayList<>();
+	private final List<Throwable> errors = new CopyOnWriteArrayList<>();
+	private Server server;
+	private ManagedChannel channel;
+	private LiveDataImpl liveData;
+	private StreamHandle handle;
+
+	@BeforeEach
+	void start() throws IOException {
+		server = ServerBuilder.forPort(0)
+				.addService(new LiveDataServiceGrpc.LiveDataServiceImplBase() {
+					@Override
+					public void streamTelemetry(LiveDataStreamTelemetryRequest request,
+												StreamObserver<LiveDataTelemetryResponse> responses) {
+						requests.add(request);
+						calls.add((ServerCallStreamObserver<LiveDataTelemetryResponse>) responses);
+					}
+				})
+				.build()
+				.start();
+		channel = ManagedChannelBuilder.forAddress("localhost", server.getPort()).usePlaintext().build();
+		liveData = LiveDataImpl.create(GrpcClientConfig.builder()
+				.liveDataConfig(ServiceConfig.builder().serviceName("live-data").port(server.getPort()).build())
+				// The stream's own update path, not the shared one
+				.telemetryStreamSharing(false)
+				.build(), channel);
+		handle = liveData.streamTelemetryData(request(1_000),
+				response -> delivered.add(response.getTid()), errors::add);
+		waitFor(() -> calls.size() == 1);
+	}
+
+	@AfterEach
+	void shutdown() throws InterruptedException {
+		handle.stop();
+		liveData.shutdown();
+		channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	@Test
+	void switchesOnTheFirstFrameOfTheNewCallWithoutDuplicates() throws Exception {
+		send(0, 1, 2);
+		CompletableFuture<Void> switched = handle.update(request(500));
+		waitFor(() -> calls.size() == 2);
+		assertEquals(500, requests.get(1).getFrequencyMs());
+
+		// The old call keeps delivering until the new one has
+		send(0, 3);
+		waitFor(() -> delivered.size() == 3);
+		assertFalse(switched.isDone());
+
+		// The new call starts with frames the old one already delivered
+		send(1, 2, 3, 4);
+		switched.get(5, TimeUnit.SECONDS);
+		waitFor(() -> delivered.size() == 4);
+		waitFor(() -> calls.get(0).isCancelled());
+
+		assertEquals(List.of("t1", "t2", "t3", "t4"), delivered);
+		assertTrue(errors.isEmpty());
+		assertFalse(handle.isTerminated());
+	}
+
+	@Test
+	void keepsTheOldCallWhenTheNewOneFails() throws Exception {
+		CompletableFuture<Void> switched = handle.update(request(500));
+		waitFor(() -> calls.size() == 2);
+		calls.get(1).onError(Status.UNAVAILABLE.asRuntimeException());
+
+		ExecutionException failure = assertThrows(ExecutionException.class, () -> switched.get(5, TimeUnit.SECONDS));
+		assertNotNull(failure.getCause());
+		send(0, 1);
+		waitFor(() -> delivered.size() == 1);
+		assertFalse(calls.get(0).isCancelled());
+		assertEquals(2, calls.size(), "abandoning an update must not reconnect");
+	}
+
+	@Test
+	void abandonsAnUpdateSupersededByANewerOne() throws Exception {
+		CompletableFuture<Void> first = handle.update(request(500));
+		waitFor(() -> calls.size() == 2);
+		CompletableFuture<Void> second = handle.update(request(250));
+		waitFor(() -> calls.size() == 3);
+
+		ExecutionException failure = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(CancellationException.class, failure.getCause());
+		waitFor(() -> calls.get(1).isCancelled());
+
+		send(2, 1);
+		second.get(5, TimeUnit.SECONDS);
+		assertEquals(250, requests.get(2).getFrequencyMs());
+		waitFor(() -> calls.get(0).isCancelled());
+		waitFor(() -> delivered.size() == 1);
+	}
+
+	@Test
+	void rejectsAnUpdateForAnotherSn() {
+		CompletableFuture<Void> update = handle.update(request(500).withSn("SN-2"));
+
+		ExecutionException failure = assertThrows(ExecutionException.class, () -> update.get(5, TimeUnit.SECONDS));
+		assertInstanceOf(IllegalArgumentException.class, failure.getCause());
+		assertEquals(1, calls.size());
+	}
+
+	private static StreamTelemetryRequest request(int frequencyMs) {
+		return new StreamTelemetryRequest()
+				.withSn("SN-1")
+				.withTid("tid-1")
+				.withFrequencyMs(frequencyMs)
+				.withDispatchMode(TelemetryDispatchMode.ORDERED);
+	}
+
+	/**
+	 * Sends sub-asset frames stamped with the given seconds on a call, tid "t" + seconds.
+	 */
+	private void send(int call, long... seconds) {
+		for (long s : seconds) {
+			calls.get(call).onNext(LiveDataTelemetryResponse.newBuilder()
+					.setSn("SN-1")
+					.setTid("t" + s)
+					.setSubAssetTelemetry(SubAssetTelemetry.newBuilder()
+							.setId("drone-1")
+							.setTimestamp(Timestamp.newBuilder().setSeconds(s)))
+					.build());
+		}
+	}
+
+	private static void waitFor(BooleanSupplier condition) {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "timed out");
+			try {
+				Thread.sleep(10);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				fail("interrupted");
+			}
+		}
+	}
+}
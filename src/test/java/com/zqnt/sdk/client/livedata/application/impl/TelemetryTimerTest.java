@@ -0,0 +1,89 @@
+package com.zqnt.sdk.client.livedata.application.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Tag("unit")
+class TelemetryTimerTest {
+
+	// 8 buckets of 10 ms: one revolution is 80 ms
+	private final TelemetryTimer timer = new TelemetryTimer("test-timer", 10, TimeUnit.MILLISECONDS, 8);
+
+	@AfterEach
+	void shutdown() {
+		timer.shutdown();
+	}
+
+	@Test
+	void waitsOutTimeoutsSeveralRevolutionsAway() throws InterruptedException {
+		CountDownLatch fired = new CountDownLatch(1);
+		AtomicLong firedAt = new AtomicLong();
+		long scheduledAt = System.nanoTime();
+		TelemetryTimer.Timeout timeout = timer.schedule(() -> {
+			firedAt.set(System.nanoTime());
+			fired.countDown();
+		}, 250, TimeUnit.MILLISECONDS);
+
+		assertTrue(fired.await(5, TimeUnit.SECONDS));
+		// Not on an earlier pass over the same bucket; precision is one tick
+		assertTrue(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - scheduledAt) >= 240);
+		assertTrue(timeout.isExpired());
+		assertEquals(0, timer.pendingCount());
+	}
+
+	@Test
+	void runsNothingCancelledBeforeItFires() throws InterruptedException {
+		AtomicBoolean fired = new AtomicBoolean();
+		TelemetryTimer.Timeout timeout = timer.schedule(() -> fired.set(true), 50, TimeUnit.MILLISECONDS);
+
+		assertTrue(timeout.cancel());
+		assertTrue(timeout.isCancelled());
+		assertFalse(timeout.cancel());
+		Thread.sleep(200);
+		assertFalse(fired.get());
+		assertFalse(timeout.isExpired());
+		assertEquals(0, timer.pendingCount());
+	}
+
+	@Test
+	void cannotCancelAfterFiring() throws InterruptedException {
+		CountDownLatch fired = new CountDownLatch(1);
+		TelemetryTimer.Timeout timeout = timer.schedule(fired::countDown, 10, TimeUnit.MILLISECONDS);
+
+		assertTrue(fired.await(5, TimeUnit.SECONDS));
+		waitFor(timeout::isExpired);
+		assertFalse(timeout.cancel());
+		assertFalse(timeout.isCancelled());
+	}
+
+	@Test
+	void dropsTasksScheduledAfterShutdown() throws InterruptedException {
+		timer.schedule(() -> {
+		}, 10, TimeUnit.MILLISECONDS);
+		timer.shutdown();
+
+		AtomicBoolean fired = new AtomicBoolean();
+		TelemetryTimer.Timeout timeout = timer.schedule(() -> fired.set(true), 0, TimeUnit.MILLISECONDS);
+		assertTrue(timeout.isCancelled());
+		assertFalse(timeout.cancel());
+		Thread.sleep(50);
+		assertFalse(fired.get());
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			assertTrue(System.nanoTime() < deadline, "timed out");
+			Thread.sleep(5);
+		}
+	}
+}